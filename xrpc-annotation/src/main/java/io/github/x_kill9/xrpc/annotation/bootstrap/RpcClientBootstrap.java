@@ -7,9 +7,11 @@ package io.github.x_kill9.xrpc.annotation.bootstrap;
 import io.github.x_kill9.xrpc.annotation.RpcComponent;
 import io.github.x_kill9.xrpc.annotation.RpcReference;
 import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
+import io.github.x_kill9.xrpc.core.config.model.ClientConfig;
 import io.github.x_kill9.xrpc.core.container.RpcContainer;
 import io.github.x_kill9.xrpc.core.exception.XRpcException;
-import io.github.x_kill9.xrpc.core.proxy.jdk.JdkProxyFactory;
+import io.github.x_kill9.xrpc.core.proxy.ProxyFactories;
+import io.github.x_kill9.xrpc.core.proxy.ProxyFactory;
 import io.github.x_kill9.xrpc.core.spi.ExtensionLoader;
 import io.github.x_kill9.xrpc.core.transport.RpcClient;
 import org.reflections.Reflections;
@@ -74,11 +76,11 @@ public class RpcClientBootstrap {
         Field[] fields = clazz.getDeclaredFields();
         for (Field field : fields) {
             if (field.isAnnotationPresent(RpcReference.class)) {
-                final String transportType = ConfigFactory.getConfig().getClient().getTransport();
+                final ClientConfig clientConfig = ConfigFactory.getConfig().getClient();
                 RpcClient client = ExtensionLoader.getExtensionLoader(RpcClient.class)
-                        .getExtension(transportType);
+                        .getExtension(clientConfig.getTransport());
 
-                JdkProxyFactory proxyFactory = new JdkProxyFactory(client);
+                ProxyFactory proxyFactory = ProxyFactories.create(clientConfig.getProxy(), client);
                 Object proxy = proxyFactory.getProxy(field.getType());
 
                 field.setAccessible(true);
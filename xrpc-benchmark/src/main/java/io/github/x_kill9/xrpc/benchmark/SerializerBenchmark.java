@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.benchmark;
+
+import io.github.x_kill9.xrpc.core.config.model.FuryConfig;
+import io.github.x_kill9.xrpc.core.config.model.KryoConfig;
+import io.github.x_kill9.xrpc.core.message.Request;
+import io.github.x_kill9.xrpc.core.message.Response;
+import io.github.x_kill9.xrpc.core.serialize.Serializer;
+import io.github.x_kill9.xrpc.serializer.fury.FurySerializer;
+import io.github.x_kill9.xrpc.serializer.support.KryoSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares serializers on the {@link Request}/{@link Response} envelopes of a typical call.
+ *
+ * <p>Run with {@code java -jar xrpc-benchmark/target/benchmarks.jar SerializerBenchmark}.
+ * The {@code serializer} parameter selects the implementation; the {@code -registered}
+ * variants register the classes of the service interface, as provider and consumer do at startup.
+ *
+ * @author x-kill9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializerBenchmark {
+
+    @Param({"kryo", "kryo-registered", "fury", "fury-registered"})
+    private String serializer;
+
+    private Serializer target;
+    private Request request;
+    private Response response;
+    private byte[] requestBytes;
+    private byte[] responseBytes;
+
+    @Setup
+    public void setup() throws Exception {
+        boolean registered = serializer.endsWith("-registered");
+        if (serializer.startsWith("kryo")) {
+            KryoConfig config = new KryoConfig();
+            config.setRegistration(registered);
+            target = new KryoSerializer(config);
+        } else {
+            FuryConfig config = new FuryConfig();
+            config.setRegistration(registered);
+            config.setRegisteredClasses(List.of(Order.class.getName(), Item.class.getName()));
+            target = new FurySerializer(config);
+        }
+        target.registerServiceInterface(OrderService.class);
+
+        Order order = newOrder();
+        Map<String, String> attachments = new HashMap<>();
+        attachments.put("traceId", "0af7651916cd43dd8448eb211c80319c");
+        request = new Request(OrderService.class.getName(), "submit", new Class<?>[]{Order.class, boolean.class},
+                new Object[]{order, Boolean.TRUE}, attachments);
+        response = new Response(200, order);
+        requestBytes = target.serialize(request);
+        responseBytes = target.serialize(response);
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() throws Exception {
+        return target.serialize(request);
+    }
+
+    @Benchmark
+    public Request deserializeRequest() throws Exception {
+        return target.deserialize(requestBytes, Request.class);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return target.serialize(response);
+    }
+
+    @Benchmark
+    public Response deserializeResponse() throws Exception {
+        return target.deserialize(responseBytes, Response.class);
+    }
+
+    private static Order newOrder() {
+        Order order = new Order();
+        order.id = 1_000_042L;
+        order.customer = "customer-7";
+        order.amount = 199.95;
+        order.items = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Item item = new Item();
+            item.sku = "sku-" + i;
+            item.quantity = i + 1;
+            item.price = 9.99 * (i + 1);
+            order.items.add(item);
+        }
+        return order;
+    }
+
+    public interface OrderService {
+        Order submit(Order order, boolean express);
+    }
+
+    public static class Order {
+        private long id;
+        private String customer;
+        private double amount;
+        private List<Item> items;
+    }
+
+    public static class Item {
+        private String sku;
+        private int quantity;
+        private double price;
+    }
+}
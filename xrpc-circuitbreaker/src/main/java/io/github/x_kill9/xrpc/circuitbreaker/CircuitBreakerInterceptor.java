@@ -8,18 +8,24 @@ import io.github.x_kill9.xrpc.circuitbreaker.config.CircuitBreakerConfig;
 import io.github.x_kill9.xrpc.circuitbreaker.exception.CircuitBreakerOpenException;
 import io.github.x_kill9.xrpc.core.circuitbreaker.CircuitBreaker;
 import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
-import io.github.x_kill9.xrpc.core.invocation.interceptor.Interceptor;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.AsyncInterceptor;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.AsyncInterceptorChain;
 import io.github.x_kill9.xrpc.core.invocation.interceptor.InterceptorChain;
 import io.github.x_kill9.xrpc.core.spi.ExtensionLoader;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * The circuit breaker.
  *
+ * <p>Asynchronous calls are recorded as successes or failures when their stage completes.
+ *
  * @author x-kill9
  */
-public class CircuitBreakerInterceptor implements Interceptor<CircuitBreakerConfig> {
+public class CircuitBreakerInterceptor implements AsyncInterceptor<CircuitBreakerConfig> {
     private CircuitBreakerConfig config;
     private CircuitBreaker breaker;
 
@@ -65,4 +71,19 @@ public class CircuitBreakerInterceptor implements Interceptor<CircuitBreakerConf
             throw t;
         }
     }
+
+    @Override
+    public CompletionStage<Object> interceptAsync(InvocationContext context, AsyncInterceptorChain chain) {
+        if (!breaker.allowRequest()) {
+            return CompletableFuture.failedFuture(new CircuitBreakerOpenException("Circuit breaker is OPEN, request blocked"));
+        }
+        return chain.proceed(context).whenComplete((result, error) -> {
+            if (error == null) {
+                breaker.onSuccess();
+            } else {
+                breaker.onFailure(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        });
+    }
 }
\ No newline at end of file
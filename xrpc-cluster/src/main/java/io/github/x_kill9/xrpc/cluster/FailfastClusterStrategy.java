@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.cluster;
+
+import io.github.x_kill9.xrpc.core.cluster.ClusterInvocation;
+import io.github.x_kill9.xrpc.core.cluster.ClusterStrategy;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cluster strategy that sends each call once and fails with the failure of that request.
+ *
+ * <p>Suits calls that must not be executed twice and callers that handle failures themselves.
+ *
+ * @author x-kill9
+ */
+public class FailfastClusterStrategy implements ClusterStrategy {
+
+    @Override
+    public String name() {
+        return "failfast";
+    }
+
+    @Override
+    public Object invoke(ClusterInvocation invocation) throws Exception {
+        return invocation.call();
+    }
+
+    @Override
+    public CompletableFuture<Object> invokeAsync(ClusterInvocation invocation) {
+        return invocation.callAsync();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.cluster;
+
+import io.github.x_kill9.xrpc.core.cluster.ClusterInvocation;
+import io.github.x_kill9.xrpc.core.cluster.ClusterStrategy;
+import io.github.x_kill9.xrpc.core.exception.NoAvailableInstanceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cluster strategy that sends a call that failed in transport or timed out again to another
+ * instance, up to {@code retries} times.
+ *
+ * <p>Only calls of methods marked idempotent are sent again, since the provider may have executed
+ * a call whose response was lost. Each retry goes to an instance the call has not failed on and
+ * is paid for from the {@link io.github.x_kill9.xrpc.core.cluster.RetryBudget retry budget} of
+ * the service; once the budget is spent, or no other instance is left, the call fails with the
+ * failure of its last request. Failures reported by the provider are never retried.
+ *
+ * @author x-kill9
+ */
+public class FailoverClusterStrategy implements ClusterStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailoverClusterStrategy.class);
+
+    @Override
+    public String name() {
+        return "failover";
+    }
+
+    @Override
+    public Object invoke(ClusterInvocation invocation) throws Exception {
+        Exception failure = null;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return invocation.call();
+            } catch (NoAvailableInstanceException e) {
+                // every instance left has failed this call
+                throw failure != null ? failure : e;
+            } catch (Exception e) {
+                if (!retry(invocation, attempt, e)) {
+                    throw e;
+                }
+                failure = e;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Object> invokeAsync(ClusterInvocation invocation) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        invokeAsync(invocation, 0, null, result);
+        return result;
+    }
+
+    private void invokeAsync(ClusterInvocation invocation, int attempt, Throwable failure,
+                             CompletableFuture<Object> result) {
+        invocation.callAsync().whenComplete((value, error) -> {
+            if (error == null) {
+                if (!result.complete(value)) {
+                    ClusterInvocation.discard(value);
+                }
+                return;
+            }
+            Throwable cause = ClusterInvocation.unwrap(error);
+            if (cause instanceof NoAvailableInstanceException && failure != null) {
+                result.completeExceptionally(failure);
+            } else if (retry(invocation, attempt, cause)) {
+                invokeAsync(invocation, attempt + 1, cause, result);
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    /**
+     * Returns whether the call is sent again after its request number {@code attempt} failed.
+     */
+    private static boolean retry(ClusterInvocation invocation, int attempt, Throwable failure) {
+        if (!invocation.getSettings().isIdempotent() || attempt >= invocation.getSettings().getRetries()
+                || !ClusterInvocation.isRetryable(failure)) {
+            return false;
+        }
+        String interfaceName = invocation.getRequest().getInterfaceName();
+        String methodName = invocation.getRequest().getMethodName();
+        if (!invocation.acquireRetry()) {
+            logger.warn("Retry budget of {} is spent, not retrying {}: {}", interfaceName, methodName,
+                    failure.toString());
+            return false;
+        }
+        logger.warn("Call {}.{} failed, retrying on another instance ({}/{}): {}", interfaceName, methodName,
+                attempt + 1, invocation.getSettings().getRetries(), failure.toString());
+        return true;
+    }
+}
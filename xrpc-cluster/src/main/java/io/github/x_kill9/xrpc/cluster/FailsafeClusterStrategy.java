@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.cluster;
+
+import io.github.x_kill9.xrpc.core.cluster.ClusterInvocation;
+import io.github.x_kill9.xrpc.core.cluster.ClusterStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cluster strategy that sends each call once and ignores its failure.
+ *
+ * <p>A failed call is logged and returns the {@link ClusterInvocation#emptyResult() empty result}
+ * of the method. Suits calls whose outcome the caller can do without, such as audit logging.
+ *
+ * @author x-kill9
+ */
+public class FailsafeClusterStrategy implements ClusterStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailsafeClusterStrategy.class);
+
+    @Override
+    public String name() {
+        return "failsafe";
+    }
+
+    @Override
+    public Object invoke(ClusterInvocation invocation) throws Exception {
+        try {
+            return invocation.call();
+        } catch (Exception e) {
+            return ignore(invocation, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Object> invokeAsync(ClusterInvocation invocation) {
+        return invocation.callAsync().exceptionally(error -> ignore(invocation, ClusterInvocation.unwrap(error)));
+    }
+
+    private static Object ignore(ClusterInvocation invocation, Throwable failure) {
+        logger.warn("Ignoring failed call {}.{}: {}", invocation.getRequest().getInterfaceName(),
+                invocation.getRequest().getMethodName(), failure.toString());
+        return invocation.emptyResult();
+    }
+}
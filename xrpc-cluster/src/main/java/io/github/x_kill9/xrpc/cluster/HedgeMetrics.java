@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.cluster;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the hedged calls of one service since the client started.
+ *
+ * <p>The win rate tells whether hedging pays off: backup requests that rarely win point to a hedge
+ * delay that is too short, while a budget that rejects many of them points to a delay that is
+ * reached too often.
+ *
+ * @author x-kill9
+ */
+public final class HedgeMetrics {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    void recordCall() {
+        calls.increment();
+    }
+
+    void recordHedge() {
+        hedges.increment();
+    }
+
+    void recordWin() {
+        wins.increment();
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    /**
+     * Returns the number of calls that could be hedged.
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Returns the number of backup requests sent.
+     */
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * Returns the number of calls answered first by their backup request.
+     */
+    public long getWins() {
+        return wins.sum();
+    }
+
+    /**
+     * Returns the number of backup requests not sent because the hedge budget was spent.
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the share of backup requests that answered first, or {@code 0} if none was sent.
+     */
+    public double getWinRate() {
+        long sent = getHedges();
+        return sent == 0 ? 0 : (double) getWins() / sent;
+    }
+
+    @Override
+    public String toString() {
+        return "HedgeMetrics{calls=" + getCalls() + ", hedges=" + getHedges() + ", wins=" + getWins()
+                + ", rejected=" + getRejected() + ", winRate=" + String.format("%.3f", getWinRate()) + "}";
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.cluster;
+
+import io.github.x_kill9.xrpc.core.cluster.ClusterInvocation;
+import io.github.x_kill9.xrpc.core.cluster.ClusterStrategy;
+import io.github.x_kill9.xrpc.core.cluster.RetryBudget;
+import io.github.x_kill9.xrpc.core.config.call.CallSettings;
+import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
+import io.github.x_kill9.xrpc.core.exception.NoAvailableInstanceException;
+import io.github.x_kill9.xrpc.core.loadbalance.ServiceInstance;
+import io.github.x_kill9.xrpc.core.proxy.CallbackExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cluster strategy that sends a backup request to another instance when a call has not answered
+ * within the hedge delay, and completes the call with whichever response arrives first.
+ *
+ * <p>Hedging cuts the tail latency caused by a slow instance, such as one pausing for garbage
+ * collection, at the cost of some extra requests. The hedge delay is either fixed in milliseconds
+ * or a percentile of the latest call latencies of the method, such as {@code p95}, so that only
+ * the slowest calls are hedged; until enough calls have completed to know the percentile, no
+ * backup is sent. A fixed delay of {@code 0} sends the backup right after the primary request.
+ * The backup is only scheduled once the primary request has been sent, so that the two requests
+ * of a call choose their instances one after another. Each call sends at most one backup, paid
+ * for from the hedge budget of the service, which caps the backups at {@code hedgeBudgetRatio}
+ * per call. The request that loses is cancelled on the client; the provider still executes it.
+ *
+ * <p>Only calls of methods marked idempotent are hedged. A call fails once both of its requests
+ * have failed, or as soon as the provider reports a failure. {@link #getMetrics(String)} returns
+ * the hedge counters of a service.
+ *
+ * @author x-kill9
+ */
+public class HedgingClusterStrategy implements ClusterStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingClusterStrategy.class);
+
+    // Hedge metrics of the services, shared by all proxies of a service
+    private static final Map<String, HedgeMetrics> METRICS = new ConcurrentHashMap<>();
+    // Latency percentiles of the methods hedged after a percentile of their latency
+    private static final Map<Method, LatencyTracker> TRACKERS = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return "hedging";
+    }
+
+    /**
+     * Returns the hedge counters of a service.
+     *
+     * @param interfaceName the service interface name
+     * @return the counters, all zero if no call of the service was hedged yet
+     */
+    public static HedgeMetrics getMetrics(String interfaceName) {
+        return METRICS.computeIfAbsent(interfaceName, name -> new HedgeMetrics());
+    }
+
+    @Override
+    public Object invoke(ClusterInvocation invocation) throws Exception {
+        try {
+            return invokeAsync(invocation).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Object> invokeAsync(ClusterInvocation invocation) {
+        CallSettings settings = invocation.getSettings();
+        if (!settings.isIdempotent()) {
+            return invocation.callAsync();
+        }
+        String interfaceName = invocation.getRequest().getInterfaceName();
+        RetryBudget budget = RetryBudget.forHedging(interfaceName, ConfigFactory.getConfig().getClient());
+        HedgeMetrics metrics = getMetrics(interfaceName);
+        budget.deposit();
+        metrics.recordCall();
+
+        LatencyTracker tracker = null;
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(settings.getHedgeDelay());
+        if (settings.getHedgeDelay() < 0) {
+            Method method = invocation.getContext().getMethod();
+            if (method != null) {
+                tracker = TRACKERS.computeIfAbsent(method,
+                        key -> new LatencyTracker(settings.getHedgePercentile()));
+                delayNanos = tracker.quantileNanos();
+            }
+        }
+
+        Hedge hedge = new Hedge(invocation, tracker, metrics);
+        hedge.start(delayNanos, budget);
+        return hedge.result;
+    }
+
+    /**
+     * The requests of one hedged call.
+     */
+    private static final class Hedge {
+
+        private final ClusterInvocation invocation;
+        private final LatencyTracker tracker;
+        private final HedgeMetrics metrics;
+        private final long start = System.nanoTime();
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        // requests sent and not failed yet; zero once the call is complete
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private volatile ServiceInstance primaryInstance;
+        private volatile Throwable transportFailure;
+
+        Hedge(ClusterInvocation invocation, LatencyTracker tracker, HedgeMetrics metrics) {
+            this.invocation = invocation;
+            this.tracker = tracker;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Sends the primary request, then schedules the backup: {@link ClusterInvocation} sends the
+         * requests of a call one after another, and the backup must know the primary instance.
+         */
+        void start(long delayNanos, RetryBudget budget) {
+            send(false);
+            if (delayNanos >= 0 && !result.isDone()) {
+                CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, CallbackExecutors.get())
+                        .execute(() -> sendBackup(budget));
+            }
+        }
+
+        void sendBackup(RetryBudget budget) {
+            // a primary without an instance has failed, or is about to
+            if (result.isDone() || primaryInstance == null) {
+                return;
+            }
+            if (!budget.tryAcquire()) {
+                metrics.recordRejected();
+                return;
+            }
+            int current;
+            do {
+                current = pending.get();
+                if (current == 0) {
+                    // the call completed meanwhile
+                    budget.refund();
+                    return;
+                }
+            } while (!pending.compareAndSet(current, current + 1));
+            metrics.recordHedge();
+            if (logger.isDebugEnabled()) {
+                logger.debug("Call {}.{} is slow, sending a backup request", invocation.getRequest().getInterfaceName(),
+                        invocation.getRequest().getMethodName());
+            }
+            // the backup goes to another instance than the slow one
+            invocation.exclude(primaryInstance);
+            send(true);
+        }
+
+        void send(boolean isBackup) {
+            CompletableFuture<Object> future = invocation.callAsync();
+            if (!isBackup) {
+                primaryInstance = invocation.getContext().getSelectedInstance();
+            }
+            future.whenComplete((value, error) -> {
+                if (error == null) {
+                    complete(value, isBackup);
+                } else {
+                    fail(ClusterInvocation.unwrap(error));
+                }
+            });
+            result.whenComplete((value, error) -> {
+                // a late request stops waiting for its response
+                if (!future.isDone()) {
+                    future.cancel(false);
+                }
+            });
+        }
+
+        private void complete(Object value, boolean isBackup) {
+            if (!result.complete(value)) {
+                // the other request answered first
+                ClusterInvocation.discard(value);
+                return;
+            }
+            pending.set(0);
+            if (tracker != null) {
+                tracker.record(System.nanoTime() - start);
+            }
+            if (isBackup) {
+                metrics.recordWin();
+            }
+        }
+
+        private void fail(Throwable failure) {
+            if (result.isDone()) {
+                return;
+            }
+            if (ClusterInvocation.isRetryable(failure)) {
+                transportFailure = failure;
+            } else if (!(failure instanceof NoAvailableInstanceException)) {
+                // the provider answered, so the other request would fail as well
+                pending.set(0);
+                result.completeExceptionally(failure);
+                return;
+            }
+            if (pending.decrementAndGet() == 0) {
+                // a backup without another instance to go to reports the failure of the primary
+                result.completeExceptionally(transportFailure != null ? transportFailure : failure);
+            }
+        }
+    }
+}
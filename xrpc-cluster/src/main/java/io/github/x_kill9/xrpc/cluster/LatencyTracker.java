@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.cluster;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Percentile of the latest call latencies of one method.
+ *
+ * <p>The latencies of the last {@value #SIZE} calls are kept in a ring; every
+ * {@value #RECOMPUTE_INTERVAL} calls, the call that records the latency sorts a copy of the ring
+ * and publishes the percentile, so reading it costs a volatile read. No percentile is known until
+ * {@value #MIN_SAMPLES} calls have completed.
+ *
+ * @author x-kill9
+ */
+final class LatencyTracker {
+
+    private static final int SIZE = 1024;
+    private static final int RECOMPUTE_INTERVAL = 128;
+    private static final int MIN_SAMPLES = 128;
+
+    private final double percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+    private final AtomicLong count = new AtomicLong();
+    private volatile long quantileNanos = -1;
+
+    /**
+     * @param percentile the tracked percentile, between 0 and 100
+     */
+    LatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * Records the latency of a call.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    void record(long nanos) {
+        long n = count.getAndIncrement();
+        samples.lazySet((int) (n % SIZE), nanos);
+        long recorded = n + 1;
+        if (recorded >= MIN_SAMPLES && recorded % RECOMPUTE_INTERVAL == 0) {
+            recompute((int) Math.min(recorded, SIZE));
+        }
+    }
+
+    /**
+     * Returns the percentile of the latest latencies in nanoseconds, or {@code -1} if too few calls
+     * have completed.
+     */
+    long quantileNanos() {
+        return quantileNanos;
+    }
+
+    private void recompute(int size) {
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        quantileNanos = sorted[Math.max(0, Math.min(size - 1, index))];
+    }
+}
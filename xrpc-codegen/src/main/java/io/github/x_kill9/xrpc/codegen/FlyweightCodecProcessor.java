@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Annotation processor that generates a {@code ServiceCodec} for every interface annotated with
+ * {@code io.github.x_kill9.xrpc.core.codec.FlyweightCodec}.
+ *
+ * <p>For an interface {@code com.example.CalculatorService} it generates
+ * {@code com.example.CalculatorServiceFlyweightCodec}, with one {@code MethodCodec} per method
+ * whose parameter and return types have a fixed layout, and registers it in
+ * {@code META-INF/xrpc/io.github.x_kill9.xrpc.core.codec.ServiceCodec}. Other methods are
+ * reported as notes and keep using the configured serializer.
+ *
+ * <p>The processor only refers to the runtime types by name, so it has no dependency on
+ * {@code xrpc-core}.
+ *
+ * @author x-kill9
+ */
+@SupportedAnnotationTypes(FlyweightCodecProcessor.ANNOTATION)
+public class FlyweightCodecProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "io.github.x_kill9.xrpc.core.codec.FlyweightCodec";
+    private static final String CODEC_PACKAGE = "io.github.x_kill9.xrpc.core.codec";
+    private static final String SERVICE_FILE = "META-INF/xrpc/" + CODEC_PACKAGE + ".ServiceCodec";
+    private static final String SUFFIX = "FlyweightCodec";
+
+    /**
+     * Fixed-layout parameter types by their erased name: size expression (or -1 for a
+     * {@code FlyweightWriter.sizeOf} call), writer method, reader method and boxed cast type.
+     */
+    private static final Map<String, String[]> PARAMETER_TYPES = new HashMap<>();
+    private static final Set<String> RETURN_TYPES = Set.of(
+            "void", "boolean", "byte", "short", "char", "int", "long", "float", "double",
+            "java.lang.Boolean", "java.lang.Byte", "java.lang.Short", "java.lang.Character", "java.lang.Integer",
+            "java.lang.Long", "java.lang.Float", "java.lang.Double", "java.lang.String",
+            "byte[]", "int[]", "long[]", "double[]");
+
+    static {
+        PARAMETER_TYPES.put("boolean", new String[]{"1", "writeBoolean", "readBoolean", "Boolean"});
+        PARAMETER_TYPES.put("byte", new String[]{"1", "writeByte", "readByte", "Byte"});
+        PARAMETER_TYPES.put("short", new String[]{"2", "writeShort", "readShort", "Short"});
+        PARAMETER_TYPES.put("char", new String[]{"2", "writeChar", "readChar", "Character"});
+        PARAMETER_TYPES.put("int", new String[]{"4", "writeInt", "readInt", "Integer"});
+        PARAMETER_TYPES.put("long", new String[]{"8", "writeLong", "readLong", "Long"});
+        PARAMETER_TYPES.put("float", new String[]{"4", "writeFloat", "readFloat", "Float"});
+        PARAMETER_TYPES.put("double", new String[]{"8", "writeDouble", "readDouble", "Double"});
+        PARAMETER_TYPES.put("java.lang.String", new String[]{"-1", "writeString", "readString", "String"});
+        PARAMETER_TYPES.put("byte[]", new String[]{"-1", "writeBytes", "readBytes", "byte[]"});
+        PARAMETER_TYPES.put("int[]", new String[]{"-1", "writeInts", "readInts", "int[]"});
+        PARAMETER_TYPES.put("long[]", new String[]{"-1", "writeLongs", "readLongs", "long[]"});
+        PARAMETER_TYPES.put("double[]", new String[]{"-1", "writeDoubles", "readDoubles", "double[]"});
+    }
+
+    // interface binary name -> generated codec class name, written when processing is over
+    private final Map<String, String> generated = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.INTERFACE) {
+                    error(element, "@FlyweightCodec can only be applied to service interfaces");
+                    continue;
+                }
+                try {
+                    generate((TypeElement) element);
+                } catch (IOException e) {
+                    error(element, "Failed to generate flyweight codec: " + e.getMessage());
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement service) throws IOException {
+        String interfaceName = processingEnv.getElementUtils().getBinaryName(service).toString();
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(service);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String simpleName = interfaceName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                .replace('$', '_') + SUFFIX;
+
+        List<MethodModel> methods = new ArrayList<>();
+        Map<Integer, MethodModel> ids = new HashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(service))) {
+            if (method.getModifiers().contains(Modifier.STATIC)
+                    || method.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+                continue;
+            }
+            MethodModel model = MethodModel.of(interfaceName, method, processingEnv.getTypeUtils()::erasure);
+            if (model == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "No flyweight codec for " + method + ": parameter or return type has no fixed layout", method);
+                continue;
+            }
+            MethodModel existing = ids.put(model.id, model);
+            if (existing != null) {
+                error(method, "Flyweight codec method ID collides with " + existing.name + ", rename one of the methods");
+                return;
+            }
+            methods.add(model);
+        }
+
+        long fingerprint = 1125899906842597L;
+        for (Integer id : new TreeMap<>(ids).keySet()) {
+            fingerprint = 31 * fingerprint + id;
+        }
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, service);
+        try (Writer writer = file.openWriter()) {
+            writer.write(render(packageName, simpleName, interfaceName, service.getQualifiedName().toString(),
+                    fingerprint, methods));
+        }
+        generated.put(interfaceName, qualifiedName);
+    }
+
+    private String render(String packageName, String simpleName, String interfaceName, String canonicalName,
+                          long fingerprint, List<MethodModel> methods) {
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("import ").append(CODEC_PACKAGE).append(".FlyweightReader;\n");
+        out.append("import ").append(CODEC_PACKAGE).append(".FlyweightWriter;\n");
+        out.append("import ").append(CODEC_PACKAGE).append(".MethodCodec;\n");
+        out.append("import ").append(CODEC_PACKAGE).append(".ServiceCodec;\n\n");
+        out.append("/**\n * Flyweight codec for {@link ").append(canonicalName).append("}. Generated, do not edit.\n */\n");
+        out.append("@javax.annotation.processing.Generated(\"").append(FlyweightCodecProcessor.class.getName()).append("\")\n");
+        out.append("public final class ").append(simpleName).append(" implements ServiceCodec {\n\n");
+        out.append("    private static final String INTERFACE_NAME = \"").append(interfaceName).append("\";\n");
+        out.append("    private static final MethodCodec[] METHODS = {");
+        for (int i = 0; i < methods.size(); i++) {
+            out.append(i == 0 ? "" : ", ").append("new Method").append(i).append("()");
+        }
+        out.append("};\n\n");
+        out.append("    @Override\n    public String getInterfaceName() {\n        return INTERFACE_NAME;\n    }\n\n");
+        out.append("    @Override\n    public long getFingerprint() {\n        return ").append(fingerprint).append("L;\n    }\n\n");
+        out.append("    @Override\n    public MethodCodec[] getMethods() {\n        return METHODS.clone();\n    }\n");
+
+        for (int i = 0; i < methods.size(); i++) {
+            MethodModel method = methods.get(i);
+            out.append("\n    // ").append(method.signature).append('\n');
+            out.append("    private static final class Method").append(i).append(" implements MethodCodec {\n\n");
+            out.append("        private static final Class<?>[] PARAMETER_TYPES = {");
+            for (int p = 0; p < method.parameterTypes.size(); p++) {
+                out.append(p == 0 ? "" : ", ").append(method.parameterTypes.get(p)).append(".class");
+            }
+            out.append("};\n\n");
+            out.append("        @Override\n        public int getMethodId() {\n            return ").append(method.id).append(";\n        }\n\n");
+            out.append("        @Override\n        public String getInterfaceName() {\n            return INTERFACE_NAME;\n        }\n\n");
+            out.append("        @Override\n        public String getMethodName() {\n            return \"").append(method.name).append("\";\n        }\n\n");
+            out.append("        @Override\n        public Class<?>[] getParameterTypes() {\n            return PARAMETER_TYPES;\n        }\n\n");
+
+            int fixedSize = 0;
+            StringBuilder variableSize = new StringBuilder();
+            for (int p = 0; p < method.parameterTypes.size(); p++) {
+                String[] layout = PARAMETER_TYPES.get(method.parameterTypes.get(p));
+                int size = Integer.parseInt(layout[0]);
+                if (size >= 0) {
+                    fixedSize += size;
+                } else {
+                    variableSize.append(" + FlyweightWriter.sizeOf((").append(layout[3]).append(") arguments[")
+                            .append(p).append("])");
+                }
+            }
+            out.append("        @Override\n        public int encodedSize(Object[] arguments) {\n            return ")
+                    .append(fixedSize).append(variableSize).append(";\n        }\n\n");
+
+            out.append("        @Override\n        public void encode(Object[] arguments, FlyweightWriter writer) {\n");
+            for (int p = 0; p < method.parameterTypes.size(); p++) {
+                String[] layout = PARAMETER_TYPES.get(method.parameterTypes.get(p));
+                out.append("            writer.").append(layout[1]).append("((").append(layout[3]).append(") arguments[")
+                        .append(p).append("]);\n");
+            }
+            out.append("        }\n\n");
+
+            out.append("        @Override\n        public Object[] decode(FlyweightReader reader) {\n");
+            out.append("            return new Object[]{");
+            for (int p = 0; p < method.parameterTypes.size(); p++) {
+                String[] layout = PARAMETER_TYPES.get(method.parameterTypes.get(p));
+                out.append(p == 0 ? "" : ", ").append("reader.").append(layout[2]).append("()");
+            }
+            out.append("};\n        }\n    }\n");
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private void writeServiceFile() {
+        if (generated.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (Map.Entry<String, String> entry : generated.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * A service method with fixed-layout parameter and return types.
+     */
+    private static final class MethodModel {
+        private final String name;
+        private final String signature;
+        private final List<String> parameterTypes;
+        private final int id;
+
+        private MethodModel(String name, String signature, List<String> parameterTypes, int id) {
+            this.name = name;
+            this.signature = signature;
+            this.parameterTypes = parameterTypes;
+            this.id = id;
+        }
+
+        static MethodModel of(String interfaceName, ExecutableElement method,
+                              java.util.function.Function<TypeMirror, TypeMirror> erasure) {
+            String returnType = method.getReturnType().getKind() == TypeKind.VOID
+                    ? "void" : erasure.apply(method.getReturnType()).toString();
+            if (!RETURN_TYPES.contains(returnType)) {
+                return null;
+            }
+            List<String> parameterTypes = new ArrayList<>();
+            for (VariableElement parameter : method.getParameters()) {
+                String type = erasure.apply(parameter.asType()).toString();
+                if (!PARAMETER_TYPES.containsKey(type)) {
+                    return null;
+                }
+                parameterTypes.add(type);
+            }
+            String name = method.getSimpleName().toString();
+            String signature = name + "(" + String.join(", ", parameterTypes) + ")" + returnType;
+            return new MethodModel(name, signature, parameterTypes, (interfaceName + "#" + signature).hashCode());
+        }
+    }
+}
@@ -7,15 +7,24 @@ package io.github.x_kill9.xrpc.config;
 import io.github.x_kill9.xrpc.config.exception.ConfigurationException;
 import io.github.x_kill9.xrpc.core.config.loader.ConfigLoader;
 import io.github.x_kill9.xrpc.core.config.model.ClientConfig;
+import io.github.x_kill9.xrpc.core.config.model.FuryConfig;
+import io.github.x_kill9.xrpc.core.config.model.KryoConfig;
+import io.github.x_kill9.xrpc.core.config.model.MethodConfig;
 import io.github.x_kill9.xrpc.core.config.model.RegistryConfig;
 import io.github.x_kill9.xrpc.core.config.model.ServerConfig;
+import io.github.x_kill9.xrpc.core.config.model.ServiceConfig;
 import io.github.x_kill9.xrpc.core.config.model.XrpcConfig;
+import io.github.x_kill9.xrpc.core.constants.Constants;
+import io.github.x_kill9.xrpc.core.proxy.ProxyFactories;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.InputStream;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * YAML implementation of {@link ConfigLoader}.
@@ -25,6 +34,8 @@ import java.util.Map;
  */
 public class YamlConfigLoader implements ConfigLoader {
     private static final Logger logger = LoggerFactory.getLogger(YamlConfigLoader.class);
+    // Milliseconds, or a percentile of recent call latency such as p95 or p99.9
+    private static final Pattern HEDGE_DELAY = Pattern.compile("\\d+|[pP]\\d{1,2}(\\.\\d+)?");
 
     @Override
     public XrpcConfig load() {
@@ -65,6 +76,8 @@ public class YamlConfigLoader implements ConfigLoader {
         validateRegistryConfig(config.getRegistry());
         validateClientConfig(config.getClient());
         validateServerConfig(config.getServer());
+        validateKryoConfig(config.getSerializer().getKryo());
+        validateFuryConfig(config.getSerializer().getFury());
         logger.debug("Configuration validation completed");
         return config;
     }
@@ -100,17 +113,102 @@ public class YamlConfigLoader implements ConfigLoader {
         if (client.getHeartbeatIntervalSeconds() <= 0) {
             throw new ConfigurationException("Client heartbeatIntervalSeconds must be positive, but got: " + client.getHeartbeatIntervalSeconds());
         }
+        if (client.getProtocolVersion() != 1 && client.getProtocolVersion() != 2) {
+            throw new ConfigurationException("Client protocolVersion must be 1 or 2, but got: " + client.getProtocolVersion());
+        }
+        if (!"none".equalsIgnoreCase(client.getStreamCompression())
+                && !"deflate".equalsIgnoreCase(client.getStreamCompression())) {
+            throw new ConfigurationException("Client streamCompression must be none or deflate, but got: "
+                    + client.getStreamCompression());
+        }
+        if (client.getBlobDedupThreshold() < 0) {
+            throw new ConfigurationException("Client blobDedupThreshold must not be negative, but got: "
+                    + client.getBlobDedupThreshold());
+        }
+        if (client.getStringTableSize() < 0 || client.getStringTableSize() > Constants.MAX_STRING_TABLE_SIZE) {
+            throw new ConfigurationException("Client stringTableSize must be between 0 and "
+                    + Constants.MAX_STRING_TABLE_SIZE + ", but got: " + client.getStringTableSize());
+        }
+        if (client.getCallbackThreads() < 0) {
+            throw new ConfigurationException("Client callbackThreads must not be negative, but got: "
+                    + client.getCallbackThreads());
+        }
         if (client.getSerializer() == null || client.getSerializer().trim().isEmpty()) {
             throw new ConfigurationException("Client serializer must not be empty");
         }
         if (client.getLoadBalancer() == null || client.getLoadBalancer().trim().isEmpty()) {
             throw new ConfigurationException("Client loadBalancer must not be empty");
         }
+        if (!ProxyFactories.isSupported(client.getProxy())) {
+            throw new ConfigurationException("Client proxy must be a registered proxy factory such as jdk or bytecode,"
+                    + " but got: " + client.getProxy());
+        }
+        if (client.getCluster() == null || client.getCluster().trim().isEmpty()) {
+            throw new ConfigurationException("Client cluster must not be empty");
+        }
+        if (client.getRetryBudgetRatio() < 0) {
+            throw new ConfigurationException("Client retryBudgetRatio must not be negative, but got: "
+                    + client.getRetryBudgetRatio());
+        }
+        if (client.getRetryBudgetBurst() < 0) {
+            throw new ConfigurationException("Client retryBudgetBurst must not be negative, but got: "
+                    + client.getRetryBudgetBurst());
+        }
+        if (!isHedgeDelay(client.getHedgeDelay())) {
+            throw new ConfigurationException("Client hedgeDelay must be milliseconds or a percentile such as p95,"
+                    + " but got: " + client.getHedgeDelay());
+        }
+        if (client.getHedgeBudgetRatio() < 0) {
+            throw new ConfigurationException("Client hedgeBudgetRatio must not be negative, but got: "
+                    + client.getHedgeBudgetRatio());
+        }
+        if (client.getHedgeBudgetBurst() < 0) {
+            throw new ConfigurationException("Client hedgeBudgetBurst must not be negative, but got: "
+                    + client.getHedgeBudgetBurst());
+        }
+        if (client.getServices() != null) {
+            for (Map.Entry<String, ServiceConfig> service : client.getServices().entrySet()) {
+                validateMethodConfig("Service " + service.getKey(), service.getValue());
+                if (service.getValue() != null && service.getValue().getMethods() != null) {
+                    for (Map.Entry<String, MethodConfig> method : service.getValue().getMethods().entrySet()) {
+                        validateMethodConfig("Method " + service.getKey() + "." + method.getKey(), method.getValue());
+                    }
+                }
+            }
+        }
 
         logger.info("Client config validated - serializer: {}, loadBalancer: {}",
                 client.getSerializer(), client.getLoadBalancer());
     }
 
+    private void validateMethodConfig(String name, MethodConfig config) {
+        if (config == null) {
+            return;
+        }
+        if (config.getTimeout() != null && config.getTimeout() <= 0) {
+            throw new ConfigurationException(name + " timeout must be positive, but got: " + config.getTimeout());
+        }
+        if (config.getRetries() != null && config.getRetries() < 0) {
+            throw new ConfigurationException(name + " retries must not be negative, but got: " + config.getRetries());
+        }
+        if (config.getCompression() != null && !"none".equalsIgnoreCase(config.getCompression())
+                && !"gzip".equalsIgnoreCase(config.getCompression())) {
+            throw new ConfigurationException(name + " compression must be none or gzip, but got: "
+                    + config.getCompression());
+        }
+        if (config.getCluster() != null && config.getCluster().trim().isEmpty()) {
+            throw new ConfigurationException(name + " cluster must not be empty");
+        }
+        if (config.getHedgeDelay() != null && !isHedgeDelay(config.getHedgeDelay())) {
+            throw new ConfigurationException(name + " hedgeDelay must be milliseconds or a percentile such as p95,"
+                    + " but got: " + config.getHedgeDelay());
+        }
+    }
+
+    private static boolean isHedgeDelay(String hedgeDelay) {
+        return hedgeDelay != null && HEDGE_DELAY.matcher(hedgeDelay.trim()).matches();
+    }
+
     private void validateServerConfig(ServerConfig server) {
         logger.debug("Validating server config: {}", server);
 
@@ -118,7 +216,65 @@ public class YamlConfigLoader implements ConfigLoader {
         if (port <= 0 || port > 65535) {
             throw new ConfigurationException("Server port must be between 1 and 65535, but got: " + port);
         }
+        if (server.getBlobCacheBytes() < 0) {
+            throw new ConfigurationException("Server blobCacheBytes must not be negative, but got: "
+                    + server.getBlobCacheBytes());
+        }
 
         logger.info("Server config validated - port: {}", port);
     }
-}
\ No newline at end of file
+
+    private void validateKryoConfig(KryoConfig kryo) {
+        logger.debug("Validating kryo config: {}", kryo);
+
+        if (kryo.getPoolSize() <= 0) {
+            throw new ConfigurationException("Kryo poolSize must be positive, but got: " + kryo.getPoolSize());
+        }
+        if (kryo.getBufferSize() <= 0) {
+            throw new ConfigurationException("Kryo bufferSize must be positive, but got: " + kryo.getBufferSize());
+        }
+        if (kryo.getMaxPooledBufferSize() < kryo.getBufferSize()) {
+            throw new ConfigurationException("Kryo maxPooledBufferSize must not be smaller than bufferSize, but got: "
+                    + kryo.getMaxPooledBufferSize());
+        }
+
+        logger.info("Kryo config validated - references: {}, registration: {}, poolSize: {}",
+                kryo.isReferences(), kryo.isRegistration(), kryo.getPoolSize());
+    }
+
+    private void validateFuryConfig(FuryConfig fury) {
+        logger.debug("Validating fury config: {}", fury);
+
+        if (fury.getMinPoolSize() <= 0) {
+            throw new ConfigurationException("Fury minPoolSize must be positive, but got: " + fury.getMinPoolSize());
+        }
+        if (fury.getMaxPoolSize() < fury.getMinPoolSize()) {
+            throw new ConfigurationException("Fury maxPoolSize must not be smaller than minPoolSize, but got: "
+                    + fury.getMaxPoolSize());
+        }
+        if (fury.getOutOfBandThreshold() < 0) {
+            throw new ConfigurationException("Fury outOfBandThreshold must not be negative, but got: "
+                    + fury.getOutOfBandThreshold());
+        }
+        if (fury.getRegisteredClasses() == null) {
+            throw new ConfigurationException("Fury registeredClasses must be a list of class names");
+        }
+        if (fury.getRegisteredClasses().size() > FuryConfig.MAX_REGISTERED_CLASSES) {
+            throw new ConfigurationException("Fury registeredClasses must hold at most "
+                    + FuryConfig.MAX_REGISTERED_CLASSES + " classes, but got: " + fury.getRegisteredClasses().size());
+        }
+        Set<String> classNames = new HashSet<>();
+        for (String className : fury.getRegisteredClasses()) {
+            if (className == null || className.trim().isEmpty()) {
+                throw new ConfigurationException("Fury registeredClasses must not contain empty class names");
+            }
+            if (!classNames.add(className)) {
+                throw new ConfigurationException("Fury registeredClasses must not list a class twice, but got: "
+                        + className);
+            }
+        }
+
+        logger.info("Fury config validated - references: {}, registration: {}, codegen: {}",
+                fury.isReferences(), fury.isRegistration(), fury.isCodegen());
+    }
+}
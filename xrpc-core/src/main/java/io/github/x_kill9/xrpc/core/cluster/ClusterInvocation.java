@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.cluster;
+
+import io.github.x_kill9.xrpc.core.config.call.CallSettings;
+import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
+import io.github.x_kill9.xrpc.core.loadbalance.ServiceInstance;
+import io.github.x_kill9.xrpc.core.message.DirectArray;
+import io.github.x_kill9.xrpc.core.message.Request;
+import io.github.x_kill9.xrpc.core.message.Response;
+import io.github.x_kill9.xrpc.core.protocol.response.ResponseParser;
+import io.github.x_kill9.xrpc.core.proxy.CallbackExecutors;
+import io.github.x_kill9.xrpc.core.transport.RpcClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * One call of a remote method, as handed to a {@link ClusterStrategy}.
+ *
+ * <p>Each {@link #call()} or {@link #callAsync()} sends the request to an instance chosen by the
+ * load balancer and waits up to the call timeout for the response. An instance whose request
+ * fails in transport or times out is excluded from the further requests of the call, so a
+ * strategy that sends the call again reaches another instance; once every instance is excluded,
+ * the client fails with {@link io.github.x_kill9.xrpc.core.exception.NoAvailableInstanceException}.
+ * Retries are paid for from the {@link RetryBudget} of the service. Requests of one call may be
+ * outstanding at the same time, but are sent one after another.
+ *
+ * @author x-kill9
+ */
+public final class ClusterInvocation {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterInvocation.class);
+
+    private final RpcClient client;
+    private final Request request;
+    private final InvocationContext context;
+    private final CallSettings settings;
+    private final RetryBudget budget;
+
+    /**
+     * @param client   the RPC client sending the requests
+     * @param request  the request of the call
+     * @param context  the invocation context of the call
+     * @param settings the call settings of the method
+     * @param budget   the retry budget of the service
+     */
+    public ClusterInvocation(RpcClient client, Request request, InvocationContext context, CallSettings settings,
+                             RetryBudget budget) {
+        this.client = client;
+        this.request = request;
+        this.context = context;
+        this.settings = settings;
+        this.budget = budget;
+    }
+
+    public Request getRequest() {
+        return request;
+    }
+
+    public InvocationContext getContext() {
+        return context;
+    }
+
+    public CallSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Sends the request once and waits for the result.
+     *
+     * @return the result of the remote method
+     * @throws ExecutionException if the request failed in transport
+     * @throws TimeoutException   if no response arrived within the call timeout
+     * @throws Exception          any other failure of the call, such as a failure status
+     */
+    public Object call() throws Exception {
+        CompletableFuture<Response> future = client.sendRequest(request, context);
+        ServiceInstance instance = context.getSelectedInstance();
+        Response response;
+        try {
+            response = future.get(settings.getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // the client stops waiting for the response as well
+            future.cancel(false);
+            exclude(instance);
+            throw e;
+        } catch (ExecutionException e) {
+            exclude(instance);
+            throw e;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Received response of {}.{}, status: {}", request.getInterfaceName(),
+                    request.getMethodName(), response.getStatus());
+        }
+        return ResponseParser.parse(response);
+    }
+
+    /**
+     * Sends the request once.
+     *
+     * @return a future of the result of the remote method, completed on the callback executor; a
+     *         failure in transport completes it with the {@link IOException} and a timeout with a
+     *         {@link TimeoutException}. Cancelling it stops waiting for the response.
+     */
+    public CompletableFuture<Object> callAsync() {
+        CompletableFuture<Response> future;
+        try {
+            future = client.sendRequest(request, context);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        ServiceInstance instance = context.getSelectedInstance();
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        // completing the result on the callback executor keeps callbacks off the I/O thread
+        future.orTimeout(settings.getTimeout(), TimeUnit.MILLISECONDS).whenCompleteAsync((response, error) -> {
+            if (error != null) {
+                exclude(instance);
+                result.completeExceptionally(unwrap(error));
+                return;
+            }
+            Object value;
+            try {
+                value = ResponseParser.parse(response);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            // a call cancelled or timed out meanwhile leaves the value to nobody
+            if (!result.complete(value)) {
+                discard(value);
+            }
+        }, CallbackExecutors.get());
+        result.whenComplete((value, error) -> {
+            if (error instanceof CancellationException) {
+                future.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Frees a result that will not be returned to the caller, such as the response of a request
+     * that lost to another one. Only a {@link DirectArray} holds memory to free.
+     *
+     * @param value the unused result, may be {@code null}
+     */
+    public static void discard(Object value) {
+        if (value instanceof DirectArray) {
+            ((DirectArray) value).release();
+        }
+    }
+
+    /**
+     * Withdraws one extra request from the retry budget of the service.
+     *
+     * @return {@code true} if the request may be sent
+     */
+    public boolean acquireRetry() {
+        return budget.tryAcquire();
+    }
+
+    /**
+     * Returns the result of a call whose outcome is ignored: {@code null}, or zero or
+     * {@code false} for methods returning primitives.
+     */
+    public Object emptyResult() {
+        Class<?> returnType = context.getMethod() != null ? context.getMethod().getReturnType() : Object.class;
+        return returnType.isPrimitive() && returnType != void.class
+                ? Array.get(Array.newInstance(returnType, 1), 0) : null;
+    }
+
+    /**
+     * Returns whether a failure of {@link #call()} or {@link #callAsync()} happened in transport or
+     * by timeout, so that the provider may not have executed the call.
+     *
+     * @param failure the failure
+     * @return {@code true} if sending the call again may succeed
+     */
+    public static boolean isRetryable(Throwable failure) {
+        return failure instanceof ExecutionException || failure instanceof TimeoutException
+                || failure instanceof IOException;
+    }
+
+    /**
+     * Returns the cause of a {@link CompletionException}, or the failure itself.
+     */
+    public static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    /**
+     * Excludes an instance from the further requests of the call.
+     *
+     * @param instance the instance, ignored if {@code null}
+     */
+    public void exclude(ServiceInstance instance) {
+        if (instance == null) {
+            return;
+        }
+        List<ServiceInstance> excluded;
+        synchronized (this) {
+            excluded = context.getExcludedInstances();
+            if (excluded == null) {
+                // the client may read the list while a request of the call fails
+                excluded = new CopyOnWriteArrayList<>();
+                context.setExcludedInstances(excluded);
+            }
+        }
+        excluded.add(instance);
+    }
+}
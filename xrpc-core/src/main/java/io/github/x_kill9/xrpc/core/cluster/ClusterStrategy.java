@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.cluster;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Strategy deciding what happens when a call to one instance of a service fails.
+ *
+ * <p>A strategy sends the requests of a call through its {@link ClusterInvocation}, as often and
+ * to as many instances as it sees fit: it may fail at once, send the call again to another
+ * instance, or give up on the result. Implementations are loaded by name through the
+ * {@link io.github.x_kill9.xrpc.core.spi.ExtensionLoader}, selected per method by the
+ * {@code cluster} call setting, and shared by all calls; they must be thread-safe.
+ *
+ * @author x-kill9
+ */
+public interface ClusterStrategy {
+
+    /**
+     * Returns the name of the strategy.
+     *
+     * @return the strategy name
+     */
+    String name();
+
+    /**
+     * Makes a call of a synchronous method.
+     *
+     * @param invocation the call
+     * @return the result of the remote method
+     * @throws Exception the failure of the call
+     */
+    Object invoke(ClusterInvocation invocation) throws Exception;
+
+    /**
+     * Makes a call of an asynchronous method.
+     *
+     * @param invocation the call
+     * @return a future of the result of the remote method, completed on the callback executor
+     */
+    CompletableFuture<Object> invokeAsync(ClusterInvocation invocation);
+}
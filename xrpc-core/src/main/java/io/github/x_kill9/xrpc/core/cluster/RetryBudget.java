@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.cluster;
+
+import io.github.x_kill9.xrpc.core.config.model.ClientConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket limiting the extra requests sent for the calls of a service.
+ *
+ * <p>Every call deposits {@code ratio} tokens and every extra request, such as a retry, withdraws
+ * one, so that over time at most {@code ratio} extra requests are sent per call however many
+ * calls fail. The bucket holds at most {@code burst} tokens and starts full. While an outage
+ * makes most calls fail, the retries are capped at that ratio instead of multiplying the load
+ * on the instances left. The hedging cluster strategy pays for its backup requests from a budget
+ * of its own, see {@link #forHedging(String, ClientConfig)}.
+ *
+ * <p>Tokens are counted in thousandths. A deposit into a full bucket does not write, so the
+ * budget costs calls a single read while nothing fails.
+ *
+ * @author x-kill9
+ */
+public final class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    // Retry and hedge budgets of the services, shared by all proxies of a service
+    private static final Map<String, RetryBudget> BUDGETS = new ConcurrentHashMap<>();
+    private static final Map<String, RetryBudget> HEDGE_BUDGETS = new ConcurrentHashMap<>();
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * @param ratio the extra requests allowed per call
+     * @param burst the extra requests allowed at once, and the initial balance
+     */
+    public RetryBudget(double ratio, int burst) {
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = burst * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Returns the retry budget of a service, created from the client configuration on first use.
+     *
+     * @param serviceName the service interface name
+     * @param client      the client configuration
+     * @return the budget
+     */
+    public static RetryBudget forService(String serviceName, ClientConfig client) {
+        return BUDGETS.computeIfAbsent(serviceName,
+                name -> new RetryBudget(client.getRetryBudgetRatio(), client.getRetryBudgetBurst()));
+    }
+
+    /**
+     * Returns the hedge budget of a service, created from the client configuration on first use.
+     *
+     * @param serviceName the service interface name
+     * @param client      the client configuration
+     * @return the budget
+     */
+    public static RetryBudget forHedging(String serviceName, ClientConfig client) {
+        return HEDGE_BUDGETS.computeIfAbsent(serviceName,
+                name -> new RetryBudget(client.getHedgeBudgetRatio(), client.getHedgeBudgetBurst()));
+    }
+
+    /**
+     * Records a call, earning it its share of extra requests.
+     */
+    public void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    /**
+     * Withdraws the token of one extra request.
+     *
+     * @return {@code true} if the request may be sent, {@code false} if the budget is spent
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * Returns the token of an extra request that was withdrawn but not sent.
+     */
+    public void refund() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + SCALE)));
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.codec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service interface for which the {@code xrpc-codegen} annotation processor generates
+ * a {@link ServiceCodec}.
+ *
+ * <p>A {@link MethodCodec} is generated for every method whose parameters are primitives,
+ * {@code String}, {@code byte[]}, {@code int[]}, {@code long[]} or {@code double[]}, and whose
+ * return type is one of these, a boxed primitive or {@code void}. Calls to such methods are
+ * sent with {@link io.github.x_kill9.xrpc.core.enums.SerializeType#CODEC} when the provider
+ * has the same generated codec; other methods keep using the configured serializer.
+ *
+ * @author x-kill9
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface FlyweightCodec {
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads values written by a {@link FlyweightWriter} directly from a byte array.
+ *
+ * @author x-kill9
+ */
+public final class FlyweightReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public FlyweightReader(byte[] buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public boolean readBoolean() {
+        return buffer[position++] != 0;
+    }
+
+    public byte readByte() {
+        return buffer[position++];
+    }
+
+    public short readShort() {
+        short value = (short) FlyweightWriter.SHORT.get(buffer, position);
+        position += Short.BYTES;
+        return value;
+    }
+
+    public char readChar() {
+        char value = (char) FlyweightWriter.CHAR.get(buffer, position);
+        position += Character.BYTES;
+        return value;
+    }
+
+    public int readInt() {
+        int value = (int) FlyweightWriter.INT.get(buffer, position);
+        position += Integer.BYTES;
+        return value;
+    }
+
+    public long readLong() {
+        long value = (long) FlyweightWriter.LONG.get(buffer, position);
+        position += Long.BYTES;
+        return value;
+    }
+
+    public float readFloat() {
+        float value = (float) FlyweightWriter.FLOAT.get(buffer, position);
+        position += Float.BYTES;
+        return value;
+    }
+
+    public double readDouble() {
+        double value = (double) FlyweightWriter.DOUBLE.get(buffer, position);
+        position += Double.BYTES;
+        return value;
+    }
+
+    public String readString() {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public byte[] readBytes() {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] values = new byte[length];
+        System.arraycopy(buffer, position, values, 0, length);
+        position += length;
+        return values;
+    }
+
+    public int[] readInts() {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = readInt();
+        }
+        return values;
+    }
+
+    public long[] readLongs() {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = readLong();
+        }
+        return values;
+    }
+
+    public double[] readDoubles() {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = readDouble();
+        }
+        return values;
+    }
+
+    /**
+     * Reads a value written by {@link FlyweightWriter#writeTagged(Object)}.
+     *
+     * @return the value, may be {@code null}
+     * @throws IllegalArgumentException if the tag is unknown
+     */
+    public Object readTagged() {
+        byte tag = readByte();
+        switch (tag) {
+            case FlyweightWriter.TAG_NULL:
+                return null;
+            case FlyweightWriter.TAG_BOOLEAN:
+                return readBoolean();
+            case FlyweightWriter.TAG_BYTE:
+                return readByte();
+            case FlyweightWriter.TAG_SHORT:
+                return readShort();
+            case FlyweightWriter.TAG_CHAR:
+                return readChar();
+            case FlyweightWriter.TAG_INT:
+                return readInt();
+            case FlyweightWriter.TAG_LONG:
+                return readLong();
+            case FlyweightWriter.TAG_FLOAT:
+                return readFloat();
+            case FlyweightWriter.TAG_DOUBLE:
+                return readDouble();
+            case FlyweightWriter.TAG_STRING:
+                return readString();
+            case FlyweightWriter.TAG_BYTE_ARRAY:
+                return readBytes();
+            case FlyweightWriter.TAG_INT_ARRAY:
+                return readInts();
+            case FlyweightWriter.TAG_LONG_ARRAY:
+                return readLongs();
+            case FlyweightWriter.TAG_DOUBLE_ARRAY:
+                return readDoubles();
+            default:
+                throw new IllegalArgumentException("Unknown value tag: " + tag);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.codec;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Writes fixed-layout values into a byte array.
+ *
+ * <p>Numbers are stored little-endian through array view {@link VarHandle}s, so each write is a
+ * single store. Strings and arrays are prefixed with their length in bytes or elements, with
+ * {@code -1} for {@code null}. The writer does not grow: callers size the array up front with
+ * the {@code sizeOf} methods.
+ *
+ * @author x-kill9
+ */
+public final class FlyweightWriter {
+
+    static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle CHAR = MethodHandles.byteArrayViewVarHandle(char[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle FLOAT = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle DOUBLE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    static final byte TAG_NULL = 0;
+    static final byte TAG_BOOLEAN = 1;
+    static final byte TAG_BYTE = 2;
+    static final byte TAG_SHORT = 3;
+    static final byte TAG_CHAR = 4;
+    static final byte TAG_INT = 5;
+    static final byte TAG_LONG = 6;
+    static final byte TAG_FLOAT = 7;
+    static final byte TAG_DOUBLE = 8;
+    static final byte TAG_STRING = 9;
+    static final byte TAG_BYTE_ARRAY = 10;
+    static final byte TAG_INT_ARRAY = 11;
+    static final byte TAG_LONG_ARRAY = 12;
+    static final byte TAG_DOUBLE_ARRAY = 13;
+
+    private final byte[] buffer;
+    private int position;
+
+    public FlyweightWriter(byte[] buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public void writeBoolean(boolean value) {
+        buffer[position++] = (byte) (value ? 1 : 0);
+    }
+
+    public void writeByte(byte value) {
+        buffer[position++] = value;
+    }
+
+    public void writeShort(short value) {
+        SHORT.set(buffer, position, value);
+        position += Short.BYTES;
+    }
+
+    public void writeChar(char value) {
+        CHAR.set(buffer, position, value);
+        position += Character.BYTES;
+    }
+
+    public void writeInt(int value) {
+        INT.set(buffer, position, value);
+        position += Integer.BYTES;
+    }
+
+    public void writeLong(long value) {
+        LONG.set(buffer, position, value);
+        position += Long.BYTES;
+    }
+
+    public void writeFloat(float value) {
+        FLOAT.set(buffer, position, value);
+        position += Float.BYTES;
+    }
+
+    public void writeDouble(double value) {
+        DOUBLE.set(buffer, position, value);
+        position += Double.BYTES;
+    }
+
+    /**
+     * Writes a string as its UTF-8 length followed by the UTF-8 bytes.
+     *
+     * @param value the string, may be {@code null}
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        int lengthPosition = position;
+        position += Integer.BYTES;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, encoded as '?' like String.getBytes(UTF_8)
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        INT.set(buffer, lengthPosition, position - lengthPosition - Integer.BYTES);
+    }
+
+    public void writeBytes(byte[] values) {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        System.arraycopy(values, 0, buffer, position, values.length);
+        position += values.length;
+    }
+
+    public void writeInts(int[] values) {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        for (int value : values) {
+            writeInt(value);
+        }
+    }
+
+    public void writeLongs(long[] values) {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        for (long value : values) {
+            writeLong(value);
+        }
+    }
+
+    public void writeDoubles(double[] values) {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.length);
+        for (double value : values) {
+            writeDouble(value);
+        }
+    }
+
+    /**
+     * Writes a value with a one-byte type tag, for results whose runtime type may differ from
+     * the declared one (boxed primitives, {@code null}).
+     *
+     * @param value the value, see {@link #isTaggable(Object)}
+     * @throws IllegalArgumentException if the value type is not supported
+     */
+    public void writeTagged(Object value) {
+        if (value == null) {
+            writeByte(TAG_NULL);
+        } else if (value instanceof Integer) {
+            writeByte(TAG_INT);
+            writeInt((Integer) value);
+        } else if (value instanceof String) {
+            writeByte(TAG_STRING);
+            writeString((String) value);
+        } else if (value instanceof Long) {
+            writeByte(TAG_LONG);
+            writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            writeByte(TAG_BOOLEAN);
+            writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            writeByte(TAG_DOUBLE);
+            writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            writeByte(TAG_FLOAT);
+            writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            writeByte(TAG_SHORT);
+            writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            writeByte(TAG_BYTE);
+            writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            writeByte(TAG_CHAR);
+            writeChar((Character) value);
+        } else if (value instanceof byte[]) {
+            writeByte(TAG_BYTE_ARRAY);
+            writeBytes((byte[]) value);
+        } else if (value instanceof int[]) {
+            writeByte(TAG_INT_ARRAY);
+            writeInts((int[]) value);
+        } else if (value instanceof long[]) {
+            writeByte(TAG_LONG_ARRAY);
+            writeLongs((long[]) value);
+        } else if (value instanceof double[]) {
+            writeByte(TAG_DOUBLE_ARRAY);
+            writeDoubles((double[]) value);
+        } else {
+            throw new IllegalArgumentException("Unsupported tagged value type: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Returns the UTF-8 encoded size of a string including its length prefix.
+     *
+     * @param value the string, may be {@code null}
+     * @return the size in bytes
+     */
+    public static int sizeOf(String value) {
+        if (value == null) {
+            return Integer.BYTES;
+        }
+        int size = Integer.BYTES;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                size++;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                size += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                size++;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    public static int sizeOf(byte[] values) {
+        return Integer.BYTES + (values == null ? 0 : values.length);
+    }
+
+    public static int sizeOf(int[] values) {
+        return Integer.BYTES + (values == null ? 0 : values.length * Integer.BYTES);
+    }
+
+    public static int sizeOf(long[] values) {
+        return Integer.BYTES + (values == null ? 0 : values.length * Long.BYTES);
+    }
+
+    public static int sizeOf(double[] values) {
+        return Integer.BYTES + (values == null ? 0 : values.length * Double.BYTES);
+    }
+
+    /**
+     * Returns the size of a value written by {@link #writeTagged(Object)}, including its tag.
+     *
+     * @param value the value
+     * @return the size in bytes
+     * @throws IllegalArgumentException if the value type is not supported
+     */
+    public static int sizeOfTagged(Object value) {
+        if (value == null) {
+            return 1;
+        }
+        if (value instanceof Integer || value instanceof Float) {
+            return 1 + Integer.BYTES;
+        }
+        if (value instanceof Long || value instanceof Double) {
+            return 1 + Long.BYTES;
+        }
+        if (value instanceof Boolean || value instanceof Byte) {
+            return 2;
+        }
+        if (value instanceof Short || value instanceof Character) {
+            return 1 + Short.BYTES;
+        }
+        if (value instanceof String) {
+            return 1 + sizeOf((String) value);
+        }
+        if (value instanceof byte[]) {
+            return 1 + sizeOf((byte[]) value);
+        }
+        if (value instanceof int[]) {
+            return 1 + sizeOf((int[]) value);
+        }
+        if (value instanceof long[]) {
+            return 1 + sizeOf((long[]) value);
+        }
+        if (value instanceof double[]) {
+            return 1 + sizeOf((double[]) value);
+        }
+        throw new IllegalArgumentException("Unsupported tagged value type: " + value.getClass().getName());
+    }
+
+    /**
+     * Returns whether the value can be written by {@link #writeTagged(Object)}.
+     *
+     * @param value the value
+     * @return {@code true} if the value is supported
+     */
+    public static boolean isTaggable(Object value) {
+        return value == null || value instanceof Number && value.getClass().getName().startsWith("java.lang.")
+                || value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof byte[] || value instanceof int[] || value instanceof long[]
+                || value instanceof double[];
+    }
+}
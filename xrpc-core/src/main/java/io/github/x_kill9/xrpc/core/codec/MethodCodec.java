@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.codec;
+
+/**
+ * Generated encoder and decoder for the arguments of one service method.
+ *
+ * <p>Arguments are written one after another in declaration order, without type information,
+ * so decoding needs neither class names nor reflection.
+ *
+ * @author x-kill9
+ */
+public interface MethodCodec {
+
+    /**
+     * Returns the ID of this method, a hash of interface name and method signature.
+     *
+     * @return the method ID
+     */
+    int getMethodId();
+
+    /**
+     * Returns the fully qualified (binary) name of the declaring service interface.
+     *
+     * @return the interface name
+     */
+    String getInterfaceName();
+
+    /**
+     * Returns the method name.
+     *
+     * @return the method name
+     */
+    String getMethodName();
+
+    /**
+     * Returns the declared parameter types.
+     *
+     * @return the parameter types
+     */
+    Class<?>[] getParameterTypes();
+
+    /**
+     * Computes the encoded size of the given arguments.
+     *
+     * @param arguments the arguments
+     * @return the size in bytes
+     */
+    int encodedSize(Object[] arguments);
+
+    /**
+     * Writes the given arguments.
+     *
+     * @param arguments the arguments
+     * @param writer    the writer, with at least {@link #encodedSize} bytes remaining
+     */
+    void encode(Object[] arguments, FlyweightWriter writer);
+
+    /**
+     * Reads arguments written by {@link #encode}.
+     *
+     * @param reader the reader
+     * @return the arguments
+     */
+    Object[] decode(FlyweightReader reader);
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.codec;
+
+/**
+ * Generated codecs for the methods of one service interface.
+ *
+ * <p>Implementations are generated for interfaces annotated with {@link FlyweightCodec} and
+ * registered in {@code META-INF/xrpc/io.github.x_kill9.xrpc.core.codec.ServiceCodec} under
+ * the interface name.
+ *
+ * @author x-kill9
+ */
+public interface ServiceCodec {
+
+    /**
+     * Returns the fully qualified (binary) name of the service interface.
+     *
+     * @return the interface name
+     */
+    String getInterfaceName();
+
+    /**
+     * Returns a hash over the signatures of all generated method codecs. Consumer and provider
+     * only use the codecs when their fingerprints match.
+     *
+     * @return the fingerprint
+     */
+    long getFingerprint();
+
+    /**
+     * Returns the codecs of all methods with a fixed layout.
+     *
+     * @return the method codecs
+     */
+    MethodCodec[] getMethods();
+}
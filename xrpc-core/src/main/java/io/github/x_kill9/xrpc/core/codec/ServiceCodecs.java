@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.codec;
+
+import io.github.x_kill9.xrpc.core.spi.ExtensionLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the generated {@link ServiceCodec}s found on the classpath.
+ *
+ * <p>Codecs are loaded via SPI on first use. A provider advertises the fingerprint of each
+ * exported interface's codec in the instance metadata under {@link #METADATA_KEY}; a consumer
+ * uses the codec for an instance only if the advertised fingerprint equals its own, which
+ * guarantees that both sides generated the codec from the same method signatures.
+ *
+ * @author x-kill9
+ */
+public final class ServiceCodecs {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceCodecs.class);
+
+    /**
+     * Service instance metadata key holding the codec fingerprint in hexadecimal.
+     */
+    public static final String METADATA_KEY = "codec";
+
+    private static final Map<String, String> FINGERPRINTS = new HashMap<>();
+    private static final Map<Integer, MethodCodec> BY_ID = new HashMap<>();
+    private static final Map<String, MethodCodec> BY_SIGNATURE = new HashMap<>();
+
+    static {
+        ExtensionLoader<ServiceCodec> loader = ExtensionLoader.getExtensionLoader(ServiceCodec.class);
+        for (String name : loader.getSupportedExtensions()) {
+            register(loader.getExtension(name));
+        }
+        logger.debug("Loaded flyweight codecs for {} interfaces, {} methods", FINGERPRINTS.size(), BY_ID.size());
+    }
+
+    private ServiceCodecs() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the codec fingerprint of the given interface.
+     *
+     * @param interfaceName the interface name
+     * @return the fingerprint in hexadecimal, or {@code null} if the interface has no codec
+     */
+    public static String fingerprint(String interfaceName) {
+        return FINGERPRINTS.get(interfaceName);
+    }
+
+    /**
+     * Finds the codec of a method by its signature.
+     *
+     * @param interfaceName  the interface name
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @return the codec, or {@code null} if the method has none
+     */
+    public static MethodCodec find(String interfaceName, String methodName, Class<?>[] parameterTypes) {
+        if (BY_SIGNATURE.isEmpty()) {
+            return null;
+        }
+        return BY_SIGNATURE.get(signature(interfaceName, methodName, parameterTypes));
+    }
+
+    /**
+     * Finds the codec of a method by its ID.
+     *
+     * @param methodId the method ID
+     * @return the codec, or {@code null} if unknown
+     */
+    public static MethodCodec get(int methodId) {
+        return BY_ID.get(methodId);
+    }
+
+    private static void register(ServiceCodec codec) {
+        MethodCodec[] methods = codec.getMethods();
+        for (MethodCodec method : methods) {
+            MethodCodec existing = BY_ID.get(method.getMethodId());
+            if (existing != null) {
+                // keep both sides consistent: drop the whole interface rather than guess
+                logger.warn("Flyweight codec method ID of {}.{} collides with {}.{}, codec of {} disabled",
+                        method.getInterfaceName(), method.getMethodName(),
+                        existing.getInterfaceName(), existing.getMethodName(), codec.getInterfaceName());
+                return;
+            }
+        }
+        for (MethodCodec method : methods) {
+            BY_ID.put(method.getMethodId(), method);
+            BY_SIGNATURE.put(signature(method.getInterfaceName(), method.getMethodName(), method.getParameterTypes()), method);
+        }
+        FINGERPRINTS.put(codec.getInterfaceName(), Long.toHexString(codec.getFingerprint()));
+        logger.debug("Registered flyweight codec for {} with {} methods", codec.getInterfaceName(), methods.length);
+    }
+
+    private static String signature(String interfaceName, String methodName, Class<?>[] parameterTypes) {
+        StringBuilder signature = new StringBuilder(interfaceName).append('#').append(methodName).append('(');
+        if (parameterTypes != null) {
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (i > 0) {
+                    signature.append(',');
+                }
+                signature.append(parameterTypes[i].getName());
+            }
+        }
+        return signature.append(')').toString();
+    }
+}
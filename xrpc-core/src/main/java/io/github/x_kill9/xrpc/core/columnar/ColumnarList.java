@@ -0,0 +1,577 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.columnar;
+
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A list of objects stored as one typed vector per field, the result of a {@link ColumnarResponse} method.
+ *
+ * <p>Fields are stored by type:
+ * <ul>
+ *   <li>{@code int}, {@code short}, {@code byte}, {@code char} and their wrappers as {@code int[]};</li>
+ *   <li>{@code long}, {@code float}, {@code double}, {@code boolean} and their wrappers as arrays
+ *       of the primitive type;</li>
+ *   <li>{@code String} and enum fields as dictionary codes into the distinct values (enums by name);</li>
+ *   <li>any other field as {@code Object[]}.</li>
+ * </ul>
+ * Nulls of wrapper fields are kept in a bitmap. Similar values end up next to each other, so a
+ * columnar result compresses much better than the same rows, in particular with stream compression.
+ *
+ * <p>{@link #get(int)} creates a row the first time it is read and returns the same object
+ * afterwards, so changes made to a row are kept. The list has a fixed size: {@link #set(int, Object)}
+ * replaces a row, while adding or removing rows throws {@link UnsupportedOperationException};
+ * {@link #toList()} copies the rows into a list that allows both. The column accessors return
+ * the vectors as received, without creating rows or reflecting changes to them, and must not be
+ * modified. Columns are matched to fields by name, so a consumer whose row class has fields the
+ * provider's does not, or lacks some, still reads the common ones. Serializers write the
+ * {@link Columns} of the list rather than its rows.
+ *
+ * @param <T> the row type
+ * @author x-kill9
+ */
+public final class ColumnarList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Columns data;
+    private final Class<T> rowType;
+    private final Column[] columns;
+
+    // resolved on the first row access
+    private transient Constructor<T> constructor;
+    private transient Field[] fields;
+    // rows created or set so far, created on the first row access
+    private transient volatile AtomicReferenceArray<T> rows;
+
+    private ColumnarList(Columns data, Class<T> rowType) {
+        this.data = data;
+        this.rowType = rowType;
+        this.columns = data.columns;
+    }
+
+    /**
+     * Stores the given rows column by column.
+     *
+     * @param rowType the row type
+     * @param rows    the rows, all exactly of {@code rowType}
+     * @param <T>     the row type
+     * @return the columnar list
+     * @throws IllegalArgumentException if the row type has no no-argument constructor, has two
+     *                                  fields of the same name, or a row is {@code null} or of another type
+     */
+    public static <T> ColumnarList<T> of(Class<T> rowType, List<?> rows) {
+        noArgConstructor(rowType);
+        for (Object row : rows) {
+            if (row == null || row.getClass() != rowType) {
+                throw new IllegalArgumentException("Row " + row + " is not exactly of type " + rowType.getName());
+            }
+        }
+        List<Field> fields = new ArrayList<>(fieldsOf(rowType).values());
+        Column[] columns = new Column[fields.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Column.of(fields.get(i), rows);
+        }
+        return new ColumnarList<>(new Columns(rowType, rows.size(), columns), rowType);
+    }
+
+    /**
+     * Recreates a list from the columns of another, as read by a serializer.
+     *
+     * @param data the columns
+     * @return the columnar list
+     */
+    public static ColumnarList<?> of(Columns data) {
+        return new ColumnarList<>(data, data.rowType);
+    }
+
+    /**
+     * Returns the columns of this list, which serializers write instead of the rows.
+     *
+     * <p>Once rows have been read or set, the columns are rebuilt from the rows, so that changes
+     * made to them are written as well.
+     *
+     * @return the columns
+     */
+    public Columns getColumns() {
+        if (rows == null) {
+            return data;
+        }
+        return of(rowType, toList()).data;
+    }
+
+    public Class<T> getRowType() {
+        return rowType;
+    }
+
+    @Override
+    public int size() {
+        return data.size;
+    }
+
+    /**
+     * Returns the row at the given index, creating it from the columns on first access.
+     *
+     * @param index the row index
+     * @return the row object, the same on every call
+     */
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        AtomicReferenceArray<T> created = rows();
+        T row = created.get(index);
+        if (row != null) {
+            return row;
+        }
+        try {
+            row = constructor.newInstance();
+            for (int i = 0; i < columns.length; i++) {
+                if (fields[i] != null) {
+                    fields[i].set(row, columns[i].get(index, fields[i].getType()));
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create row " + index + " of " + rowType.getName(), e);
+        }
+        // a row created concurrently by another reader wins
+        return created.compareAndSet(index, null, row) ? row : created.get(index);
+    }
+
+    /**
+     * Replaces the row at the given index.
+     *
+     * @param index   the row index
+     * @param element the new row
+     * @return the previous row
+     */
+    @Override
+    public T set(int index, T element) {
+        T previous = get(index);
+        rows.set(index, element);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException("A ColumnarList has a fixed size, copy it with toList() to add rows");
+    }
+
+    @Override
+    public T remove(int index) {
+        throw new UnsupportedOperationException("A ColumnarList has a fixed size, copy it with toList() to remove rows");
+    }
+
+    /**
+     * Copies the rows into a new list.
+     *
+     * @return a modifiable list of the rows, the same objects {@link #get(int)} returns
+     */
+    public List<T> toList() {
+        List<T> rows = new ArrayList<>(data.size);
+        for (int i = 0; i < data.size; i++) {
+            rows.add(get(i));
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the field names of the columns.
+     *
+     * @return the column names
+     */
+    public List<String> getColumnNames() {
+        List<String> names = new ArrayList<>(columns.length);
+        for (Column column : columns) {
+            names.add(column.name);
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Returns an {@code int}, {@code short}, {@code byte} or {@code char} column; nulls read as {@code 0}.
+     *
+     * @param name the field name
+     * @return the values
+     */
+    public int[] getIntColumn(String name) {
+        return (int[]) column(name, Column.INT).values;
+    }
+
+    /**
+     * Returns a {@code long} column; nulls read as {@code 0}.
+     *
+     * @param name the field name
+     * @return the values
+     */
+    public long[] getLongColumn(String name) {
+        return (long[]) column(name, Column.LONG).values;
+    }
+
+    /**
+     * Returns a {@code float} column; nulls read as {@code 0}.
+     *
+     * @param name the field name
+     * @return the values
+     */
+    public float[] getFloatColumn(String name) {
+        return (float[]) column(name, Column.FLOAT).values;
+    }
+
+    /**
+     * Returns a {@code double} column; nulls read as {@code 0}.
+     *
+     * @param name the field name
+     * @return the values
+     */
+    public double[] getDoubleColumn(String name) {
+        return (double[]) column(name, Column.DOUBLE).values;
+    }
+
+    /**
+     * Returns a {@code boolean} column; nulls read as {@code false}.
+     *
+     * @param name the field name
+     * @return the values
+     */
+    public boolean[] getBooleanColumn(String name) {
+        return (boolean[]) column(name, Column.BOOLEAN).values;
+    }
+
+    /**
+     * Returns a {@code String} column, or the constant names of an enum column.
+     *
+     * @param name the field name
+     * @return a new array of the values, sharing the distinct string instances
+     */
+    public String[] getStringColumn(String name) {
+        Column column = column(name, Column.STRING);
+        int[] codes = (int[]) column.values;
+        String[] values = new String[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            values[i] = codes[i] < 0 ? null : column.dictionary[codes[i]];
+        }
+        return values;
+    }
+
+    /**
+     * Returns a column of any other field type.
+     *
+     * @param name the field name
+     * @return the values
+     */
+    public Object[] getObjectColumn(String name) {
+        return (Object[]) column(name, Column.OBJECT).values;
+    }
+
+    /**
+     * Returns whether a field is {@code null} in the given row.
+     *
+     * @param name the field name
+     * @param row  the row index
+     * @return {@code true} if the field is {@code null}
+     */
+    public boolean isNull(String name, int row) {
+        Column column = column(name, (byte) -1);
+        return column.get(row, Object.class) == null;
+    }
+
+    private Column column(String name, byte kind) {
+        for (Column column : columns) {
+            if (column.name.equals(name)) {
+                // enums are stored like strings
+                byte stored = column.kind == Column.ENUM ? Column.STRING : column.kind;
+                if (kind >= 0 && stored != kind) {
+                    throw new IllegalArgumentException("Column " + name + " is not of the requested type");
+                }
+                return column;
+            }
+        }
+        throw new IllegalArgumentException("No column " + name + " in " + rowType.getName());
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= data.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + data.size);
+        }
+    }
+
+    private AtomicReferenceArray<T> rows() {
+        AtomicReferenceArray<T> created = rows;
+        if (created == null) {
+            resolve();
+            created = rows;
+        }
+        return created;
+    }
+
+    private synchronized void resolve() {
+        if (rows != null) {
+            return;
+        }
+        Map<String, Field> byName = fieldsOf(rowType);
+        Field[] resolved = new Field[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            resolved[i] = byName.get(columns[i].name);
+        }
+        fields = resolved;
+        constructor = noArgConstructor(rowType);
+        rows = new AtomicReferenceArray<>(data.size);
+    }
+
+    private static <T> Constructor<T> noArgConstructor(Class<T> rowType) {
+        try {
+            Constructor<T> constructor = rowType.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(rowType.getName() + " has no no-argument constructor", e);
+        }
+    }
+
+    /**
+     * Returns the instance fields of a type and its superclasses by name, superclass fields first.
+     */
+    private static Map<String, Field> fieldsOf(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                if (fields.put(field.getName(), field) != null) {
+                    throw new IllegalArgumentException("Field " + field.getName() + " of " + type.getName()
+                            + " is declared more than once in its hierarchy");
+                }
+                field.setAccessible(true);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * The row type, row count and column vectors of a {@link ColumnarList}.
+     *
+     * <p>Kept apart from the list so that serializers which treat any {@code List} as a
+     * collection of rows can write it field by field.
+     */
+    public static final class Columns implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Class<?> rowType;
+        private int size;
+        private Column[] columns;
+
+        private Columns() {
+            // for serializers
+        }
+
+        private Columns(Class<?> rowType, int size, Column[] columns) {
+            this.rowType = rowType;
+            this.size = size;
+            this.columns = columns;
+        }
+    }
+
+    /**
+     * The values of one field for all rows.
+     */
+    private static final class Column implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        static final byte INT = 1;
+        static final byte LONG = 2;
+        static final byte FLOAT = 3;
+        static final byte DOUBLE = 4;
+        static final byte BOOLEAN = 5;
+        static final byte STRING = 6;
+        static final byte ENUM = 7;
+        static final byte OBJECT = 8;
+
+        private String name;
+        private byte kind;
+        // primitive array, dictionary codes (-1 for null) or Object[]
+        private Object values;
+        private String[] dictionary;
+        // null bitmap of wrapper columns, null if no row is null
+        private long[] nulls;
+
+        private Column() {
+            // for serializers
+        }
+
+        static Column of(Field field, List<?> rows) {
+            Column column = new Column();
+            column.name = field.getName();
+            Class<?> type = field.getType();
+            int size = rows.size();
+            try {
+                if (type == int.class || type == Integer.class || type == short.class || type == Short.class
+                        || type == byte.class || type == Byte.class || type == char.class || type == Character.class) {
+                    column.kind = INT;
+                    int[] values = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        Object value = field.get(rows.get(i));
+                        if (value instanceof Character) {
+                            values[i] = (Character) value;
+                        } else if (value != null) {
+                            values[i] = ((Number) value).intValue();
+                        } else {
+                            column.setNull(i, size);
+                        }
+                    }
+                    column.values = values;
+                } else if (type == long.class || type == Long.class) {
+                    column.kind = LONG;
+                    long[] values = new long[size];
+                    for (int i = 0; i < size; i++) {
+                        Object value = field.get(rows.get(i));
+                        if (value != null) {
+                            values[i] = (Long) value;
+                        } else {
+                            column.setNull(i, size);
+                        }
+                    }
+                    column.values = values;
+                } else if (type == float.class || type == Float.class) {
+                    column.kind = FLOAT;
+                    float[] values = new float[size];
+                    for (int i = 0; i < size; i++) {
+                        Object value = field.get(rows.get(i));
+                        if (value != null) {
+                            values[i] = (Float) value;
+                        } else {
+                            column.setNull(i, size);
+                        }
+                    }
+                    column.values = values;
+                } else if (type == double.class || type == Double.class) {
+                    column.kind = DOUBLE;
+                    double[] values = new double[size];
+                    for (int i = 0; i < size; i++) {
+                        Object value = field.get(rows.get(i));
+                        if (value != null) {
+                            values[i] = (Double) value;
+                        } else {
+                            column.setNull(i, size);
+                        }
+                    }
+                    column.values = values;
+                } else if (type == boolean.class || type == Boolean.class) {
+                    column.kind = BOOLEAN;
+                    boolean[] values = new boolean[size];
+                    for (int i = 0; i < size; i++) {
+                        Object value = field.get(rows.get(i));
+                        if (value != null) {
+                            values[i] = (Boolean) value;
+                        } else {
+                            column.setNull(i, size);
+                        }
+                    }
+                    column.values = values;
+                } else if (type == String.class || type.isEnum()) {
+                    column.kind = type == String.class ? STRING : ENUM;
+                    Map<String, Integer> codes = new HashMap<>();
+                    List<String> dictionary = new ArrayList<>();
+                    int[] values = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        Object value = field.get(rows.get(i));
+                        if (value == null) {
+                            values[i] = -1;
+                            continue;
+                        }
+                        String string = value instanceof Enum ? ((Enum<?>) value).name() : (String) value;
+                        Integer code = codes.get(string);
+                        if (code == null) {
+                            code = dictionary.size();
+                            codes.put(string, code);
+                            dictionary.add(string);
+                        }
+                        values[i] = code;
+                    }
+                    column.values = values;
+                    column.dictionary = dictionary.toArray(new String[0]);
+                } else {
+                    column.kind = OBJECT;
+                    Object[] values = new Object[size];
+                    for (int i = 0; i < size; i++) {
+                        values[i] = field.get(rows.get(i));
+                    }
+                    column.values = values;
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Cannot read field " + field.getName(), e);
+            }
+            return column;
+        }
+
+        /**
+         * Returns the value of a row, converted to the given field type.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Object get(int row, Class<?> type) {
+            if (nulls != null && (nulls[row >>> 6] & (1L << row)) != 0) {
+                return null;
+            }
+            switch (kind) {
+                case INT: {
+                    int value = ((int[]) values)[row];
+                    if (type == short.class || type == Short.class) {
+                        return (short) value;
+                    } else if (type == byte.class || type == Byte.class) {
+                        return (byte) value;
+                    } else if (type == char.class || type == Character.class) {
+                        return (char) value;
+                    }
+                    return value;
+                }
+                case LONG:
+                    return ((long[]) values)[row];
+                case FLOAT:
+                    return ((float[]) values)[row];
+                case DOUBLE:
+                    return ((double[]) values)[row];
+                case BOOLEAN:
+                    return ((boolean[]) values)[row];
+                case STRING:
+                case ENUM: {
+                    int code = ((int[]) values)[row];
+                    if (code < 0) {
+                        return null;
+                    }
+                    String value = dictionary[code];
+                    return kind == ENUM && type.isEnum() ? Enum.valueOf((Class) type, value) : value;
+                }
+                default:
+                    return ((Object[]) values)[row];
+            }
+        }
+
+        private void setNull(int row, int size) {
+            if (nulls == null) {
+                nulls = new long[(size + 63) >>> 6];
+            }
+            nulls[row >>> 6] |= 1L << row;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.columnar;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service interface method returning {@code List<T>} whose results are sent column by column.
+ *
+ * <p>The provider turns the returned list into a {@link ColumnarList}, which holds one typed
+ * vector per field of {@code T} instead of one object per row. The consumer receives the
+ * {@code ColumnarList} itself: it is a {@code List<T>} that creates each row when it is first
+ * read, and its column accessors let callers that need a few fields skip the rest. Unlike the
+ * {@code ArrayList} a provider usually returns, the list has a fixed size: rows can be changed
+ * or replaced, but adding or removing rows throws {@link UnsupportedOperationException}, so
+ * callers that do so copy it with {@link ColumnarList#toList()} first.
+ *
+ * <p>Rows must be exactly of type {@code T}, which needs a no-argument constructor; otherwise
+ * the list is sent row by row as usual, as it is by serializers that do not
+ * {@linkplain io.github.x_kill9.xrpc.core.serialize.Serializer#supportsColumnarLists() support} columnar lists.
+ *
+ * @author x-kill9
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ColumnarResponse {
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.columnar;
+
+import io.github.x_kill9.xrpc.core.util.ServiceMethods;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provider-side helpers for {@link ColumnarResponse} methods.
+ *
+ * @author x-kill9
+ */
+public final class ColumnarResults {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarResults.class);
+
+    // method key -> row type of a @ColumnarResponse method, empty for other methods
+    private static final Map<String, Optional<Class<?>>> ROW_TYPES = new ConcurrentHashMap<>();
+
+    private ColumnarResults() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the row type of a {@link ColumnarResponse} method of the named interface implemented
+     * by {@code type}, that is the {@code T} of its {@code List<T>} return type. Results are cached
+     * by method key.
+     *
+     * @param type           the interface itself or a service implementation
+     * @param interfaceName  the interface name
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @return the row type, or {@code null} if the method is not a columnar method
+     */
+    public static Class<?> rowType(Class<?> type, String interfaceName, String methodName,
+                                   Class<?>[] parameterTypes) {
+        String key = ServiceMethods.methodKey(interfaceName, methodName, parameterTypes);
+        Optional<Class<?>> rowType = ROW_TYPES.get(key);
+        if (rowType == null) {
+            rowType = Optional.ofNullable(rowType(
+                    ServiceMethods.findInterfaceMethod(type, interfaceName, methodName, parameterTypes)));
+            ROW_TYPES.put(key, rowType);
+        }
+        return rowType.orElse(null);
+    }
+
+    /**
+     * Returns the row type of a method if it is a {@link ColumnarResponse} method returning {@code List<T>}
+     * for a class {@code T}.
+     *
+     * @param method the interface method, may be {@code null}
+     * @return the row type, or {@code null}
+     */
+    public static Class<?> rowType(Method method) {
+        if (method == null || !method.isAnnotationPresent(ColumnarResponse.class)) {
+            return null;
+        }
+        Type returnType = method.getGenericReturnType();
+        if (returnType instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) returnType;
+            Type argument = parameterized.getActualTypeArguments()[0];
+            if (parameterized.getRawType() == List.class && argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        logger.warn("Ignoring @ColumnarResponse on {}.{}: it does not return List<T> for a class T",
+                method.getDeclaringClass().getName(), method.getName());
+        return null;
+    }
+
+    /**
+     * Converts a result to a {@link ColumnarList}, or returns it unchanged if it cannot be.
+     *
+     * @param rowType the row type
+     * @param result  the result of the method
+     * @return the columnar list, or {@code result}
+     */
+    public static Object toColumnar(Class<?> rowType, Object result) {
+        if (!(result instanceof List) || result instanceof ColumnarList) {
+            return result;
+        }
+        try {
+            return ColumnarList.of(rowType, (List<?>) result);
+        } catch (IllegalArgumentException e) {
+            logger.debug("Sending result of row type {} row by row: {}", rowType.getName(), e.getMessage());
+            return result;
+        }
+    }
+}
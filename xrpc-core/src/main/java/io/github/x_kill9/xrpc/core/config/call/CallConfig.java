@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.config.call;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Call settings of a service interface or of one of its methods.
+ *
+ * <p>On the interface, the settings apply to all of its methods; on a method, they override those
+ * of the interface. Attributes left at their defaults are inherited, and the entries under
+ * {@code xrpc.client.services} in {@code xrpc.yaml} override the annotations. See
+ * {@link CallSettings} for the resolution.
+ *
+ * @author x-kill9
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CallConfig {
+
+    /**
+     * Call timeout in milliseconds; {@code -1} inherits it.
+     */
+    int timeout() default -1;
+
+    /**
+     * Number of times a call of an idempotent method that failed in transport or timed out is sent
+     * again to another instance by the {@code failover} cluster strategy; {@code -1} inherits it.
+     */
+    int retries() default -1;
+
+    /**
+     * Serializer name; empty inherits it.
+     */
+    String serializer() default "";
+
+    /**
+     * Compression of request and response bodies, {@code none} or {@code gzip}; empty inherits it.
+     */
+    String compression() default "";
+
+    /**
+     * Load balancer name; empty inherits it.
+     */
+    String loadBalancer() default "";
+
+    /**
+     * Sends calls of {@code void} methods without waiting for a response.
+     */
+    boolean oneway() default false;
+
+    /**
+     * Name of the cluster strategy handling failed calls, such as {@code failfast},
+     * {@code failover}, {@code failsafe} or {@code hedging}; empty inherits it.
+     */
+    String cluster() default "";
+
+    /**
+     * Marks calls the provider may execute more than once; only these are retried.
+     */
+    boolean idempotent() default false;
+
+    /**
+     * Delay after which the {@code hedging} cluster strategy sends a backup request: milliseconds,
+     * or a percentile of recent call latency such as {@code p95}; empty inherits it. {@code 0}
+     * sends the backup right after the primary request.
+     */
+    String hedgeDelay() default "";
+}
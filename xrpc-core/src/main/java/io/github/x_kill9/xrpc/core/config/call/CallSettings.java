@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.config.call;
+
+import io.github.x_kill9.xrpc.core.config.model.ClientConfig;
+import io.github.x_kill9.xrpc.core.config.model.MethodConfig;
+import io.github.x_kill9.xrpc.core.config.model.ServiceConfig;
+import io.github.x_kill9.xrpc.core.enums.CompressType;
+import io.github.x_kill9.xrpc.core.exception.XRpcException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * The call settings of one method of a service, resolved when its proxy is created.
+ *
+ * <p>Each setting is taken from the first of these that sets it:
+ * <ol>
+ *     <li>{@code xrpc.client.services.<interface>.methods.<method>} in {@code xrpc.yaml}</li>
+ *     <li>{@code xrpc.client.services.<interface>}</li>
+ *     <li>{@link CallConfig} on the method</li>
+ *     <li>{@link CallConfig} on the interface</li>
+ *     <li>the client configuration</li>
+ * </ol>
+ * Method entries in {@code xrpc.yaml} are keyed by name and apply to all overloads. Oneway calls
+ * are only made for {@code void} methods, and the {@code failover} and {@code hedging} cluster
+ * strategies only send more than one request for methods marked idempotent.
+ *
+ * @author x-kill9
+ */
+public final class CallSettings {
+
+    private static final Logger logger = LoggerFactory.getLogger(CallSettings.class);
+
+    /**
+     * Request attachment marking a call the provider must not answer.
+     */
+    public static final String ONEWAY_ATTACHMENT = "xrpc.oneway";
+
+    private final int timeout;
+    private final int retries;
+    private final String serializer;
+    private final CompressType compression;
+    private final String loadBalancer;
+    private final boolean oneway;
+    private final String cluster;
+    private final boolean idempotent;
+    private final int hedgeDelay;
+    private final double hedgePercentile;
+
+    private CallSettings(int timeout, int retries, String serializer, CompressType compression, String loadBalancer,
+                         boolean oneway, String cluster, boolean idempotent, String hedgeDelay, String name) {
+        this.timeout = timeout;
+        this.retries = retries;
+        this.serializer = serializer;
+        this.compression = compression;
+        this.loadBalancer = loadBalancer;
+        this.oneway = oneway;
+        this.cluster = cluster;
+        this.idempotent = idempotent;
+        // a fixed delay in milliseconds, or a percentile such as p95
+        String delay = hedgeDelay != null ? hedgeDelay.trim() : "";
+        boolean percentile = delay.startsWith("p") || delay.startsWith("P");
+        try {
+            this.hedgeDelay = percentile ? -1 : Integer.parseInt(delay);
+            this.hedgePercentile = percentile ? Double.parseDouble(delay.substring(1)) : 0;
+        } catch (NumberFormatException e) {
+            throw new XRpcException("Hedge delay of " + name + " must be milliseconds or a percentile such as p95,"
+                    + " but got: " + hedgeDelay);
+        }
+        if (percentile ? !(hedgePercentile > 0 && hedgePercentile < 100) : this.hedgeDelay < 0) {
+            throw new XRpcException("Hedge delay of " + name + " must be milliseconds or a percentile such as p95,"
+                    + " but got: " + hedgeDelay);
+        }
+    }
+
+    /**
+     * Returns the settings of calls that have no service or method settings.
+     *
+     * @param client the client configuration
+     * @return the settings
+     */
+    public static CallSettings of(ClientConfig client) {
+        return new CallSettings(client.getCallTimeout(), 0, client.getSerializer(), CompressType.NONE,
+                client.getLoadBalancer(), false, client.getCluster(), false, client.getHedgeDelay(), "client");
+    }
+
+    /**
+     * Resolves the settings of a method.
+     *
+     * @param client         the client configuration
+     * @param interfaceClass the service interface
+     * @param method         the interface method
+     * @return the settings
+     * @throws XRpcException if a setting is invalid
+     */
+    public static CallSettings resolve(ClientConfig client, Class<?> interfaceClass, Method method) {
+        int timeout = client.getCallTimeout();
+        int retries = 0;
+        String serializer = client.getSerializer();
+        String compression = null;
+        String loadBalancer = client.getLoadBalancer();
+        boolean oneway = false;
+        String cluster = client.getCluster();
+        boolean idempotent = false;
+        String hedgeDelay = client.getHedgeDelay();
+
+        for (CallConfig annotation : new CallConfig[]{interfaceClass.getAnnotation(CallConfig.class),
+                method.getAnnotation(CallConfig.class)}) {
+            if (annotation == null) {
+                continue;
+            }
+            timeout = annotation.timeout() >= 0 ? annotation.timeout() : timeout;
+            retries = annotation.retries() >= 0 ? annotation.retries() : retries;
+            serializer = !annotation.serializer().isEmpty() ? annotation.serializer() : serializer;
+            compression = !annotation.compression().isEmpty() ? annotation.compression() : compression;
+            loadBalancer = !annotation.loadBalancer().isEmpty() ? annotation.loadBalancer() : loadBalancer;
+            oneway = oneway || annotation.oneway();
+            cluster = !annotation.cluster().isEmpty() ? annotation.cluster() : cluster;
+            idempotent = idempotent || annotation.idempotent();
+            hedgeDelay = !annotation.hedgeDelay().isEmpty() ? annotation.hedgeDelay() : hedgeDelay;
+        }
+
+        Map<String, ServiceConfig> services = client.getServices();
+        ServiceConfig service = services != null ? services.get(interfaceClass.getName()) : null;
+        MethodConfig methodConfig = service != null && service.getMethods() != null
+                ? service.getMethods().get(method.getName()) : null;
+        for (MethodConfig config : new MethodConfig[]{service, methodConfig}) {
+            if (config == null) {
+                continue;
+            }
+            timeout = config.getTimeout() != null ? config.getTimeout() : timeout;
+            retries = config.getRetries() != null ? config.getRetries() : retries;
+            serializer = config.getSerializer() != null ? config.getSerializer() : serializer;
+            compression = config.getCompression() != null ? config.getCompression() : compression;
+            loadBalancer = config.getLoadBalancer() != null ? config.getLoadBalancer() : loadBalancer;
+            oneway = config.getOneway() != null ? config.getOneway() : oneway;
+            cluster = config.getCluster() != null ? config.getCluster() : cluster;
+            idempotent = config.getIdempotent() != null ? config.getIdempotent() : idempotent;
+            hedgeDelay = config.getHedgeDelay() != null ? config.getHedgeDelay() : hedgeDelay;
+        }
+
+        String name = interfaceClass.getName() + "." + method.getName();
+        if (timeout <= 0) {
+            throw new XRpcException("Call timeout of " + name + " must be positive, but got: " + timeout);
+        }
+        if (retries < 0) {
+            throw new XRpcException("Retries of " + name + " must not be negative, but got: " + retries);
+        }
+        if (oneway && method.getReturnType() != void.class) {
+            logger.warn("Ignoring oneway for {}: it does not return void", name);
+            oneway = false;
+        }
+        if (retries > 0 && !idempotent) {
+            logger.warn("Retries of {} are not sent: it is not marked idempotent", name);
+        }
+        return new CallSettings(timeout, retries, serializer, compressType(name, compression), loadBalancer, oneway,
+                cluster, idempotent, hedgeDelay, name);
+    }
+
+    /**
+     * Returns the compression type of a compression setting.
+     *
+     * @param name        the method or service the setting is for, for the error message
+     * @param compression the setting, {@code null} for none
+     * @return the compression type
+     * @throws XRpcException if the setting is neither {@code none} nor {@code gzip}
+     */
+    public static CompressType compressType(String name, String compression) {
+        if (compression == null || "none".equalsIgnoreCase(compression)) {
+            return CompressType.NONE;
+        }
+        if ("gzip".equalsIgnoreCase(compression)) {
+            return CompressType.GZIP;
+        }
+        throw new XRpcException("Compression of " + name + " must be none or gzip, but got: " + compression);
+    }
+
+    public int getTimeout() {
+        return timeout;
+    }
+
+    public int getRetries() {
+        return retries;
+    }
+
+    public String getSerializer() {
+        return serializer;
+    }
+
+    public CompressType getCompression() {
+        return compression;
+    }
+
+    public String getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    public boolean isOneway() {
+        return oneway;
+    }
+
+    public String getCluster() {
+        return cluster;
+    }
+
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * Returns the fixed hedge delay in milliseconds, or {@code -1} if it is a percentile of recent
+     * call latency.
+     */
+    public int getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    /**
+     * Returns the percentile of recent call latency used as hedge delay, between 0 and 100, or
+     * {@code 0} if the delay is fixed.
+     */
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+}
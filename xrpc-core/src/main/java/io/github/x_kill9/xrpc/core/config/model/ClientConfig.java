@@ -5,6 +5,7 @@
 package io.github.x_kill9.xrpc.core.config.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -17,10 +18,23 @@ public class ClientConfig {
     private String transport = "netty";
     private String serializer = "kryo";
     private String loadBalancer = "random";
+    private String proxy = "jdk";
     private int connectTimeout = 3000;
     private int callTimeout = 3000;
     private int heartbeatIntervalSeconds = 30;
+    private int protocolVersion = 1;
+    private String streamCompression = "none";
+    private int blobDedupThreshold = 0;
+    private int stringTableSize = 0;
+    private int callbackThreads = 0;
+    private String cluster = "failover";
+    private double retryBudgetRatio = 0.1;
+    private int retryBudgetBurst = 10;
+    private String hedgeDelay = "p95";
+    private double hedgeBudgetRatio = 0.05;
+    private int hedgeBudgetBurst = 10;
     private List<Map<String, Object>> interceptors = new ArrayList<>();
+    private Map<String, ServiceConfig> services = new HashMap<>();
 
     public String getTransport() {
         return transport;
@@ -46,6 +60,18 @@ public class ClientConfig {
         this.loadBalancer = loadBalancer;
     }
 
+    /**
+     * How service proxies are created: {@code jdk} for JDK dynamic proxies, {@code bytecode} for
+     * generated proxy classes.
+     */
+    public String getProxy() {
+        return proxy;
+    }
+
+    public void setProxy(String proxy) {
+        this.proxy = proxy;
+    }
+
     public int getConnectTimeout() {
         return connectTimeout;
     }
@@ -70,6 +96,125 @@ public class ClientConfig {
         this.heartbeatIntervalSeconds = heartbeatIntervalSeconds;
     }
 
+    public int getProtocolVersion() {
+        return protocolVersion;
+    }
+
+    public void setProtocolVersion(int protocolVersion) {
+        this.protocolVersion = protocolVersion;
+    }
+
+    public String getStreamCompression() {
+        return streamCompression;
+    }
+
+    public void setStreamCompression(String streamCompression) {
+        this.streamCompression = streamCompression;
+    }
+
+    /**
+     * Minimum size of a {@code byte[]} argument to be sent by content digest once the provider
+     * has it; {@code 0} disables deduplication.
+     */
+    public int getBlobDedupThreshold() {
+        return blobDedupThreshold;
+    }
+
+    public void setBlobDedupThreshold(int blobDedupThreshold) {
+        this.blobDedupThreshold = blobDedupThreshold;
+    }
+
+    /**
+     * Number of slots of the per-connection string table; {@code 0} disables the table.
+     */
+    public int getStringTableSize() {
+        return stringTableSize;
+    }
+
+    public void setStringTableSize(int stringTableSize) {
+        this.stringTableSize = stringTableSize;
+    }
+
+    /**
+     * Number of threads completing the futures of asynchronous service methods; {@code 0} uses
+     * the common fork-join pool.
+     */
+    public int getCallbackThreads() {
+        return callbackThreads;
+    }
+
+    public void setCallbackThreads(int callbackThreads) {
+        this.callbackThreads = callbackThreads;
+    }
+
+    /**
+     * Name of the cluster strategy handling failed calls of methods without one of their own.
+     */
+    public String getCluster() {
+        return cluster;
+    }
+
+    public void setCluster(String cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * Retries each service may send per call, on average; {@code 0.1} allows 10% extra load.
+     */
+    public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    public void setRetryBudgetRatio(double retryBudgetRatio) {
+        this.retryBudgetRatio = retryBudgetRatio;
+    }
+
+    /**
+     * Retries each service may send at once before calls have earned any, and the most the
+     * budget of a service can save up.
+     */
+    public int getRetryBudgetBurst() {
+        return retryBudgetBurst;
+    }
+
+    public void setRetryBudgetBurst(int retryBudgetBurst) {
+        this.retryBudgetBurst = retryBudgetBurst;
+    }
+
+    /**
+     * Delay after which the {@code hedging} cluster strategy sends a backup request for methods
+     * without one of their own: milliseconds, or a percentile of recent call latency such as {@code p95}.
+     */
+    public String getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    public void setHedgeDelay(String hedgeDelay) {
+        this.hedgeDelay = hedgeDelay;
+    }
+
+    /**
+     * Backup requests each service may send per call, on average.
+     */
+    public double getHedgeBudgetRatio() {
+        return hedgeBudgetRatio;
+    }
+
+    public void setHedgeBudgetRatio(double hedgeBudgetRatio) {
+        this.hedgeBudgetRatio = hedgeBudgetRatio;
+    }
+
+    /**
+     * Backup requests each service may send at once, and the most its hedge budget can save up.
+     */
+    public int getHedgeBudgetBurst() {
+        return hedgeBudgetBurst;
+    }
+
+    public void setHedgeBudgetBurst(int hedgeBudgetBurst) {
+        this.hedgeBudgetBurst = hedgeBudgetBurst;
+    }
+
     public List<Map<String, Object>> getInterceptors() {
         return interceptors;
     }
@@ -77,4 +222,15 @@ public class ClientConfig {
     public void setInterceptors(List<Map<String, Object>> interceptors) {
         this.interceptors = interceptors;
     }
+
+    /**
+     * Call settings per service interface name, overriding the client settings and annotations.
+     */
+    public Map<String, ServiceConfig> getServices() {
+        return services;
+    }
+
+    public void setServices(Map<String, ServiceConfig> services) {
+        this.services = services;
+    }
 }
\ No newline at end of file
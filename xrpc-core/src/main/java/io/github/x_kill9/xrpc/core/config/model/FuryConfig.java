@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.config.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration settings for the Fury serializer.
+ *
+ * <p>With {@code registration}, the classes listed in {@code registeredClasses} are written
+ * with a short ID given by their position in the list, and other classes by name. Both peers
+ * must use the same setting and the same list, in the same order, appending new classes at the
+ * end. Primitive
+ * arrays of at least {@code outOfBandThreshold} bytes are carried outside the Fury stream and
+ * read in place on the receiving side; {@code 0} disables this.
+ *
+ * @author x-kill9
+ */
+public class FuryConfig {
+
+    /**
+     * The most classes {@code registeredClasses} may list, so that their IDs stay within the
+     * {@code short} IDs above those Fury reserves.
+     */
+    public static final int MAX_REGISTERED_CLASSES = Short.MAX_VALUE - 256;
+
+    private boolean references = true;
+    private boolean registration = false;
+    private boolean codegen = true;
+    private int minPoolSize = 4;
+    private int maxPoolSize = 64;
+    private int outOfBandThreshold = 64 * 1024;
+    private List<String> registeredClasses = new ArrayList<>();
+
+    public boolean isReferences() {
+        return references;
+    }
+
+    public void setReferences(boolean references) {
+        this.references = references;
+    }
+
+    public boolean isRegistration() {
+        return registration;
+    }
+
+    public void setRegistration(boolean registration) {
+        this.registration = registration;
+    }
+
+    public boolean isCodegen() {
+        return codegen;
+    }
+
+    public void setCodegen(boolean codegen) {
+        this.codegen = codegen;
+    }
+
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+
+    public void setMinPoolSize(int minPoolSize) {
+        this.minPoolSize = minPoolSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public int getOutOfBandThreshold() {
+        return outOfBandThreshold;
+    }
+
+    public void setOutOfBandThreshold(int outOfBandThreshold) {
+        this.outOfBandThreshold = outOfBandThreshold;
+    }
+
+    public List<String> getRegisteredClasses() {
+        return registeredClasses;
+    }
+
+    public void setRegisteredClasses(List<String> registeredClasses) {
+        this.registeredClasses = registeredClasses;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.config.model;
+
+/**
+ * Configuration settings for the Kryo serializer.
+ *
+ * <p>When {@code registration} is enabled, classes discovered from exported and referenced
+ * service interfaces are registered with stable IDs and written as IDs instead of class names.
+ * Both peers must then use the same setting.
+ *
+ * @author x-kill9
+ */
+public class KryoConfig {
+    private boolean references = true;
+    private boolean registration = false;
+    private int poolSize = 64;
+    private int bufferSize = 4096;
+    private int maxPooledBufferSize = 1024 * 1024;
+
+    public boolean isReferences() {
+        return references;
+    }
+
+    public void setReferences(boolean references) {
+        this.references = references;
+    }
+
+    public boolean isRegistration() {
+        return registration;
+    }
+
+    public void setRegistration(boolean registration) {
+        this.registration = registration;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxPooledBufferSize() {
+        return maxPooledBufferSize;
+    }
+
+    public void setMaxPooledBufferSize(int maxPooledBufferSize) {
+        this.maxPooledBufferSize = maxPooledBufferSize;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.config.model;
+
+/**
+ * Call settings of the methods of a service, or of the methods with one name.
+ *
+ * <p>Settings left {@code null} are inherited from the enclosing level: a method's settings from
+ * its service's, a service's from the {@code @CallConfig} annotations of the interface and the
+ * method, and those from the client configuration.
+ *
+ * @author x-kill9
+ */
+public class MethodConfig {
+    private Integer timeout;
+    private Integer retries;
+    private String serializer;
+    private String compression;
+    private String loadBalancer;
+    private Boolean oneway;
+    private String cluster;
+    private Boolean idempotent;
+    private String hedgeDelay;
+
+    /**
+     * Call timeout in milliseconds.
+     */
+    public Integer getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Integer timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Number of times a call of an idempotent method that failed in transport or timed out is
+     * sent again to another instance by the {@code failover} cluster strategy.
+     */
+    public Integer getRetries() {
+        return retries;
+    }
+
+    public void setRetries(Integer retries) {
+        this.retries = retries;
+    }
+
+    public String getSerializer() {
+        return serializer;
+    }
+
+    public void setSerializer(String serializer) {
+        this.serializer = serializer;
+    }
+
+    /**
+     * Compression of request and response bodies: {@code none} or {@code gzip}.
+     */
+    public String getCompression() {
+        return compression;
+    }
+
+    public void setCompression(String compression) {
+        this.compression = compression;
+    }
+
+    public String getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    public void setLoadBalancer(String loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    /**
+     * Whether calls of {@code void} methods are sent without waiting for a response.
+     */
+    public Boolean getOneway() {
+        return oneway;
+    }
+
+    public void setOneway(Boolean oneway) {
+        this.oneway = oneway;
+    }
+
+    /**
+     * Name of the cluster strategy handling failed calls, such as {@code failfast},
+     * {@code failover}, {@code failsafe} or {@code hedging}.
+     */
+    public String getCluster() {
+        return cluster;
+    }
+
+    public void setCluster(String cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * Whether calls may be executed more than once by the provider, which allows retrying them.
+     */
+    public Boolean getIdempotent() {
+        return idempotent;
+    }
+
+    public void setIdempotent(Boolean idempotent) {
+        this.idempotent = idempotent;
+    }
+
+    /**
+     * Delay after which the {@code hedging} cluster strategy sends a backup request: milliseconds,
+     * or a percentile of recent call latency such as {@code p95}.
+     */
+    public String getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    public void setHedgeDelay(String hedgeDelay) {
+        this.hedgeDelay = hedgeDelay;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.config.model;
+
+/**
+ * Configuration settings for the serializer implementations.
+ *
+ * <p>Each serializer reads its own nested section; the serializer used by the client is
+ * still selected by {@link ClientConfig#getSerializer()}.
+ *
+ * @author x-kill9
+ */
+public class SerializerConfig {
+    private KryoConfig kryo = new KryoConfig();
+    private FuryConfig fury = new FuryConfig();
+
+    public KryoConfig getKryo() {
+        return kryo;
+    }
+
+    public void setKryo(KryoConfig kryo) {
+        this.kryo = kryo;
+    }
+
+    public FuryConfig getFury() {
+        return fury;
+    }
+
+    public void setFury(FuryConfig fury) {
+        this.fury = fury;
+    }
+}
@@ -11,6 +11,7 @@ package io.github.x_kill9.xrpc.core.config.model;
  */
 public class ServerConfig {
     private int port = 8080;
+    private long blobCacheBytes = 64L * 1024 * 1024;
 
     public int getPort() {
         return port;
@@ -19,4 +20,15 @@ public class ServerConfig {
     public void setPort(int port) {
         this.port = port;
     }
+
+    /**
+     * Maximum total size of deduplicated blob arguments cached per connection.
+     */
+    public long getBlobCacheBytes() {
+        return blobCacheBytes;
+    }
+
+    public void setBlobCacheBytes(long blobCacheBytes) {
+        this.blobCacheBytes = blobCacheBytes;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.config.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Call settings of one service under {@code xrpc.client.services}, keyed by the interface name.
+ *
+ * <p>The settings apply to all methods of the service; {@link #getMethods()} overrides them for
+ * the methods with a given name.
+ *
+ * @author x-kill9
+ */
+public class ServiceConfig extends MethodConfig {
+    private Map<String, MethodConfig> methods = new HashMap<>();
+
+    public Map<String, MethodConfig> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(Map<String, MethodConfig> methods) {
+        this.methods = methods;
+    }
+}
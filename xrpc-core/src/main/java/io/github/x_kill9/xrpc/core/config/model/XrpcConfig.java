@@ -14,6 +14,7 @@ public class XrpcConfig {
     private ClientConfig client = new ClientConfig();
     private ServerConfig server = new ServerConfig();
     private RegistryConfig registry = new RegistryConfig();
+    private SerializerConfig serializer = new SerializerConfig();
 
     public ClientConfig getClient() {
         return client;
@@ -38,4 +39,12 @@ public class XrpcConfig {
     public void setRegistry(RegistryConfig registry) {
         this.registry = registry;
     }
-}
\ No newline at end of file
+
+    public SerializerConfig getSerializer() {
+        return serializer;
+    }
+
+    public void setSerializer(SerializerConfig serializer) {
+        this.serializer = serializer;
+    }
+}
@@ -21,14 +21,62 @@ public final class Constants {
     public static final short MAGIC = (short) 0x7872;
 
     /**
-     * Current protocol version.
+     * Protocol version 1, using the fixed-size header (default).
      */
     public static final byte PROTOCOL_VERSION = 0x01;
 
     /**
-     * Fixed header size in bytes for all XRPC messages.
+     * Protocol version 2, using the compact header with bit-packed flags and varint
+     * request ID and body length.
      */
-    public static final int HEADER_SIZE = 14;
+    public static final byte PROTOCOL_VERSION_V2 = 0x02;
+
+    /**
+     * Fixed header size in bytes for version 1 messages.
+     */
+    public static final int HEADER_SIZE = 18;
+
+    /**
+     * Minimum header size in bytes for version 2 messages
+     * (magic, version, flags and two single-byte varints).
+     */
+    public static final int V2_MIN_HEADER_SIZE = 6;
+
+    /**
+     * Bit offset of the 3-bit message type in the version 2 flags byte.
+     */
+    public static final int V2_MESSAGE_TYPE_SHIFT = 5;
+
+    /**
+     * Bit offset of the 3-bit serialization type in the version 2 flags byte.
+     */
+    public static final int V2_SERIALIZE_TYPE_SHIFT = 2;
+
+    /**
+     * Mask of the message type and serialization type fields once shifted down.
+     */
+    public static final int V2_TYPE_MASK = 0x07;
+
+    /**
+     * Mask of the 2-bit compression type in the low bits of the version 2 flags byte.
+     */
+    public static final int V2_COMPRESS_TYPE_MASK = 0x03;
+
+    /**
+     * Maximum accepted body length in bytes for a single message.
+     */
+    public static final int MAX_FRAME_LENGTH = 10 * 1024 * 1024;
+
+    /**
+     * Maximum accepted body length in bytes for a
+     * {@link io.github.x_kill9.xrpc.core.enums.MessageType#RESPONSE_ARRAY} message.
+     */
+    public static final int MAX_ARRAY_FRAME_LENGTH = 1024 * 1024 * 1024;
+
+    /**
+     * Maximum number of slots of a connection-scoped string table.
+     */
+    public static final int MAX_STRING_TABLE_SIZE = 65536;
 
     private Constants() {
         // Prevent instantiation
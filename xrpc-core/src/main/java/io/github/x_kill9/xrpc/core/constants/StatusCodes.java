@@ -39,6 +39,12 @@ public final class StatusCodes {
      */
     public static final int METHOD_NOT_FOUND = 405;
 
+    /**
+     * A blob argument was sent by reference but is no longer cached by the provider; the
+     * consumer resends it with its content (412 Precondition Failed).
+     */
+    public static final int BLOB_NOT_FOUND = 412;
+
     /**
      * Request timeout (408 Request Timeout).
      */
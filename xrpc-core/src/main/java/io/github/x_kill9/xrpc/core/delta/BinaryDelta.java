@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.delta;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Computes and applies binary deltas between two byte arrays.
+ *
+ * <p>The base is indexed in blocks of {@value #BLOCK_SIZE} bytes; a rolling hash over the
+ * target finds matching blocks at any offset, and each match is extended in both directions.
+ * This keeps inserted or removed bytes from shifting every later block out of alignment, which
+ * matters for serialized objects where a changed string length moves the rest of the body.
+ * Diffing is linear in the size of both inputs.
+ *
+ * <p>A delta is the target length followed by a sequence of operations, all lengths and
+ * offsets as unsigned varints:
+ * <pre>
+ * COPY:   [0x00][base offset][length]
+ * INSERT: [0x01][length][bytes]
+ * </pre>
+ *
+ * @author x-kill9
+ */
+public final class BinaryDelta {
+
+    static final int BLOCK_SIZE = 16;
+
+    private static final byte COPY = 0x00;
+    private static final byte INSERT = 0x01;
+    private static final int PRIME = 31;
+    // PRIME^(BLOCK_SIZE - 1), to remove the outgoing byte from the rolling hash
+    private static final int OUTGOING_FACTOR;
+
+    static {
+        int factor = 1;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            factor *= PRIME;
+        }
+        OUTGOING_FACTOR = factor;
+    }
+
+    private BinaryDelta() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Computes the delta that turns {@code base} into {@code target}.
+     *
+     * @param base   the base bytes
+     * @param target the target bytes
+     * @return the delta
+     */
+    public static byte[] diff(byte[] base, byte[] target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, target.length / 16));
+        writeVarInt(out, target.length);
+        if (base.length < BLOCK_SIZE || target.length < BLOCK_SIZE) {
+            writeInsert(out, target, 0, target.length);
+            return out.toByteArray();
+        }
+
+        int[] index = indexBlocks(base);
+        int mask = index.length - 1;
+        int literalStart = 0;
+        int position = 0;
+        int hash = hash(target, 0);
+        while (position + BLOCK_SIZE <= target.length) {
+            int candidate = index[mix(hash) & mask] - 1;
+            if (candidate >= 0 && Arrays.equals(base, candidate, candidate + BLOCK_SIZE,
+                    target, position, position + BLOCK_SIZE)) {
+                int baseStart = candidate;
+                int targetStart = position;
+                while (targetStart > literalStart && baseStart > 0 && base[baseStart - 1] == target[targetStart - 1]) {
+                    baseStart--;
+                    targetStart--;
+                }
+                int length = position - targetStart + BLOCK_SIZE;
+                while (baseStart + length < base.length && targetStart + length < target.length
+                        && base[baseStart + length] == target[targetStart + length]) {
+                    length++;
+                }
+                writeInsert(out, target, literalStart, targetStart);
+                out.write(COPY);
+                writeVarInt(out, baseStart);
+                writeVarInt(out, length);
+
+                position = targetStart + length;
+                literalStart = position;
+                if (position + BLOCK_SIZE <= target.length) {
+                    hash = hash(target, position);
+                }
+            } else {
+                if (position + BLOCK_SIZE < target.length) {
+                    hash = (hash - target[position] * OUTGOING_FACTOR) * PRIME + target[position + BLOCK_SIZE];
+                }
+                position++;
+            }
+        }
+        writeInsert(out, target, literalStart, target.length);
+        return out.toByteArray();
+    }
+
+    /**
+     * Applies a delta to its base.
+     *
+     * @param base  the base bytes the delta was computed against
+     * @param delta the delta
+     * @return the target bytes
+     * @throws IllegalArgumentException if the delta is malformed or does not fit the base
+     */
+    public static byte[] patch(byte[] base, byte[] delta) {
+        int[] cursor = {0};
+        byte[] target = new byte[readVarInt(delta, cursor)];
+        int written = 0;
+        while (cursor[0] < delta.length) {
+            byte op = delta[cursor[0]++];
+            if (op == COPY) {
+                int offset = readVarInt(delta, cursor);
+                int length = readVarInt(delta, cursor);
+                checkRange(offset, length, base.length, "copy source");
+                checkRange(written, length, target.length, "copy target");
+                System.arraycopy(base, offset, target, written, length);
+                written += length;
+            } else if (op == INSERT) {
+                int length = readVarInt(delta, cursor);
+                checkRange(cursor[0], length, delta.length, "insert source");
+                checkRange(written, length, target.length, "insert target");
+                System.arraycopy(delta, cursor[0], target, written, length);
+                cursor[0] += length;
+                written += length;
+            } else {
+                throw new IllegalArgumentException("Unknown delta operation: " + op);
+            }
+        }
+        if (written != target.length) {
+            throw new IllegalArgumentException("Delta produced " + written + " of " + target.length + " bytes");
+        }
+        return target;
+    }
+
+    /**
+     * Builds an open-addressed table from block hash to block offset + 1; the first block with a hash wins.
+     */
+    private static int[] indexBlocks(byte[] base) {
+        int blocks = base.length / BLOCK_SIZE;
+        int[] index = new int[Integer.highestOneBit(Math.max(1, blocks)) << 2];
+        int mask = index.length - 1;
+        for (int offset = 0; offset + BLOCK_SIZE <= base.length; offset += BLOCK_SIZE) {
+            int slot = mix(hash(base, offset)) & mask;
+            if (index[slot] == 0) {
+                index[slot] = offset + 1;
+            }
+        }
+        return index;
+    }
+
+    private static int hash(byte[] bytes, int offset) {
+        int hash = 0;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            hash = hash * PRIME + bytes[offset + i];
+        }
+        return hash;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static void writeInsert(ByteArrayOutputStream out, byte[] bytes, int from, int to) {
+        if (to > from) {
+            out.write(INSERT);
+            writeVarInt(out, to - from);
+            out.write(bytes, from, to - from);
+        }
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] bytes, int[] cursor) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (cursor[0] >= bytes.length) {
+                throw new IllegalArgumentException("Truncated delta");
+            }
+            byte b = bytes[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in delta");
+    }
+
+    private static void checkRange(int offset, int length, int size, String what) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IllegalArgumentException("Delta " + what + " out of range: offset " + offset
+                    + ", length " + length + ", size " + size);
+        }
+    }
+}
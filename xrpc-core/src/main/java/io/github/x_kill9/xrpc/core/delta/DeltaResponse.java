@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.delta;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service interface method whose successful responses are sent as binary deltas.
+ *
+ * <p>Intended for polled methods that return large, mostly unchanged results. The provider
+ * keeps the last response body of the method per connection and, when the consumer still
+ * holds the same version, sends only a {@link BinaryDelta} against it. The consumer rebuilds
+ * the full body before deserializing it, so callers see ordinary results.
+ *
+ * @author x-kill9
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DeltaResponse {
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.delta;
+
+import io.github.x_kill9.xrpc.core.util.ServiceMethods;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Helpers shared by provider and consumer for {@link DeltaResponse} methods.
+ *
+ * <p>A delta response frame carries the version of the new body, the version of the base it
+ * was diffed against ({@code 0} if the frame holds the full body) and a CRC32 of the full body:
+ * <pre>
+ * [long version][long baseVersion][int crc32][full body or {@link BinaryDelta}]
+ * </pre>
+ * The consumer advertises the version it holds in the {@link #BASE_VERSION_ATTACHMENT}
+ * attachment; the provider diffs only against that exact version.
+ *
+ * @author x-kill9
+ */
+public final class ResponseDeltas {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseDeltas.class);
+
+    /**
+     * Request attachment holding the version of the last body the consumer received for the method.
+     */
+    public static final String BASE_VERSION_ATTACHMENT = "xrpc.delta.base";
+
+    private static final int HEADER_LENGTH = Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    // method key -> whether the interface method is annotated with @DeltaResponse
+    private static final Map<String, Boolean> DELTA_METHODS = new ConcurrentHashMap<>();
+
+    private ResponseDeltas() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the key identifying a method for delta bookkeeping.
+     *
+     * @param interfaceName  the interface name
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @return the method key
+     */
+    public static String methodKey(String interfaceName, String methodName, Class<?>[] parameterTypes) {
+        return ServiceMethods.methodKey(interfaceName, methodName, parameterTypes);
+    }
+
+    /**
+     * Returns whether the method of the named interface implemented or extended by {@code type}
+     * is annotated with {@link DeltaResponse}. Results are cached by method key.
+     *
+     * @param type           the interface itself or a service implementation
+     * @param interfaceName  the interface name
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @return {@code true} for delta methods
+     */
+    public static boolean isDeltaMethod(Class<?> type, String interfaceName, String methodName,
+                                        Class<?>[] parameterTypes) {
+        String key = methodKey(interfaceName, methodName, parameterTypes);
+        Boolean delta = DELTA_METHODS.get(key);
+        if (delta == null) {
+            delta = isAnnotated(ServiceMethods.findInterface(type, interfaceName), methodName, parameterTypes);
+            DELTA_METHODS.put(key, delta);
+        }
+        return delta;
+    }
+
+    /**
+     * Returns whether the method of the named interface, loaded from {@code classLoader}, is
+     * annotated with {@link DeltaResponse}. Results are cached by method key; an interface that
+     * cannot be loaded has no delta methods.
+     *
+     * @param classLoader    the class loader to load the interface from
+     * @param interfaceName  the interface name
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @return {@code true} for delta methods
+     */
+    public static boolean isDeltaMethod(ClassLoader classLoader, String interfaceName, String methodName,
+                                        Class<?>[] parameterTypes) {
+        String key = methodKey(interfaceName, methodName, parameterTypes);
+        Boolean delta = DELTA_METHODS.get(key);
+        if (delta == null) {
+            Class<?> interfaceClass = null;
+            try {
+                interfaceClass = Class.forName(interfaceName, false, classLoader);
+            } catch (ClassNotFoundException e) {
+                logger.debug("Cannot load {} to look up delta methods", interfaceName);
+            }
+            delta = isAnnotated(interfaceClass, methodName, parameterTypes);
+            DELTA_METHODS.put(key, delta);
+        }
+        return delta;
+    }
+
+    /**
+     * Encodes a response body as a frame, as a delta against {@code base} when that is smaller.
+     *
+     * @param version     the version of the body
+     * @param body        the full response body
+     * @param baseVersion the version of the base, or {@code 0} if there is none
+     * @param base        the base body, or {@code null}
+     * @return the frame
+     */
+    public static byte[] encode(long version, byte[] body, long baseVersion, byte[] base) {
+        byte[] payload = body;
+        if (base != null) {
+            byte[] delta = BinaryDelta.diff(base, body);
+            if (delta.length < body.length) {
+                payload = delta;
+            } else {
+                baseVersion = 0;
+            }
+        } else {
+            baseVersion = 0;
+        }
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + payload.length);
+        frame.putLong(version).putLong(baseVersion).putInt(checksum(body)).put(payload);
+        logger.trace("Encoded response version {} against base {}: {} of {} bytes",
+                version, baseVersion, payload.length, body.length);
+        return frame.array();
+    }
+
+    /**
+     * Returns the version of the body carried by a frame.
+     *
+     * @param frame the frame
+     * @return the version
+     */
+    public static long version(byte[] frame) {
+        return ByteBuffer.wrap(frame).getLong(0);
+    }
+
+    /**
+     * Returns the base version a frame was diffed against.
+     *
+     * @param frame the frame
+     * @return the base version, or {@code 0} if the frame holds the full body
+     */
+    public static long baseVersion(byte[] frame) {
+        return ByteBuffer.wrap(frame).getLong(Long.BYTES);
+    }
+
+    /**
+     * Restores the full response body from a frame.
+     *
+     * @param frame the frame
+     * @param base  the body of {@link #baseVersion(byte[])}, ignored for full frames
+     * @return the full body
+     * @throws IllegalArgumentException if the frame is malformed or the result fails its checksum
+     */
+    public static byte[] decode(byte[] frame, byte[] base) {
+        if (frame.length < HEADER_LENGTH) {
+            throw new IllegalArgumentException("Truncated delta frame: " + frame.length + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        buffer.getLong();
+        long baseVersion = buffer.getLong();
+        int checksum = buffer.getInt();
+        byte[] payload = new byte[buffer.remaining()];
+        buffer.get(payload);
+        byte[] body;
+        if (baseVersion == 0) {
+            body = payload;
+        } else {
+            if (base == null) {
+                throw new IllegalArgumentException("Missing base version " + baseVersion + " for delta frame");
+            }
+            body = BinaryDelta.patch(base, payload);
+        }
+        if (checksum(body) != checksum) {
+            throw new IllegalArgumentException("Checksum mismatch in delta frame against base version " + baseVersion);
+        }
+        return body;
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private static boolean isAnnotated(Class<?> interfaceClass, String methodName, Class<?>[] parameterTypes) {
+        if (interfaceClass == null) {
+            return false;
+        }
+        try {
+            return interfaceClass.getMethod(methodName, parameterTypes).isAnnotationPresent(DeltaResponse.class);
+        } catch (NoSuchMethodException e) {
+            logger.trace("Method {} not found on {}", methodName, interfaceClass.getName());
+            return false;
+        }
+    }
+}
@@ -24,7 +24,13 @@ public enum CompressType {
     /**
      * Snappy compression.
      */
-    SNAPPY((byte) 0x02);
+    SNAPPY((byte) 0x02),
+
+    /**
+     * Raw deflate. Used as a connection-scoped streaming compression, where the
+     * compression window is shared by all messages sent in one direction of a channel.
+     */
+    DEFLATE((byte) 0x03);
 
     private final byte value;
 
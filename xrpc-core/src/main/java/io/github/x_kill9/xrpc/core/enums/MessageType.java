@@ -24,7 +24,24 @@ public enum MessageType {
     /**
      * Heartbeat message for keep-alive.
      */
-    HEARTBEAT((byte) 0x03);
+    HEARTBEAT((byte) 0x03),
+
+    /**
+     * Connection handshake used to negotiate per-channel options such as streaming compression.
+     */
+    HANDSHAKE((byte) 0x04),
+
+    /**
+     * RPC response of a {@link io.github.x_kill9.xrpc.core.delta.DeltaResponse} method, whose body
+     * is a delta frame against an earlier response rather than a serialized {@code Response}.
+     */
+    RESPONSE_DELTA((byte) 0x05),
+
+    /**
+     * RPC response whose result is a {@link io.github.x_kill9.xrpc.core.message.DirectArray}; the
+     * body holds the serialized {@code Response} without its result, followed by the raw elements.
+     */
+    RESPONSE_ARRAY((byte) 0x06);
 
     private final byte value;
 
@@ -24,7 +24,17 @@ public enum SerializeType {
     /**
      * JSON serialization.
      */
-    JSON((byte) 0x03);
+    JSON((byte) 0x03),
+
+    /**
+     * Apache Fury serialization.
+     */
+    FURY((byte) 0x04),
+
+    /**
+     * Generated flyweight codecs, see {@code io.github.x_kill9.xrpc.core.codec.FlyweightCodec}.
+     */
+    CODEC((byte) 0x05);
 
     private final byte value;
 
@@ -4,14 +4,20 @@
  */
 package io.github.x_kill9.xrpc.core.invocation.context;
 
+import io.github.x_kill9.xrpc.core.config.call.CallSettings;
+import io.github.x_kill9.xrpc.core.loadbalance.ServiceInstance;
+
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Context object holding information about a single RPC invocation.
  *
  * <p>This context is passed through the interceptor chain and contains
- * the interface class, method, arguments, and optional custom attributes.
+ * the interface class, method, arguments, the call settings of the method, and optional
+ * custom attributes. The RPC client records the instance each request of the call is sent to
+ * and leaves out the instances a cluster strategy excluded after they failed.
  *
  * @author x-kill9
  */
@@ -21,6 +27,9 @@ public class InvocationContext {
     private Method method;
     private Object[] args;
     private Map<String, Object> attributes;
+    private CallSettings callSettings;
+    private ServiceInstance selectedInstance;
+    private List<ServiceInstance> excludedInstances;
 
     public InvocationContext() {
     }
@@ -69,4 +78,37 @@ public class InvocationContext {
     public void setAttributes(Map<String, Object> attributes) {
         this.attributes = attributes;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the call settings of the method, or {@code null} if the caller resolved none.
+     */
+    public CallSettings getCallSettings() {
+        return callSettings;
+    }
+
+    public void setCallSettings(CallSettings callSettings) {
+        this.callSettings = callSettings;
+    }
+
+    /**
+     * Returns the instance the last request of the call was sent to, or {@code null} if none was selected.
+     */
+    public ServiceInstance getSelectedInstance() {
+        return selectedInstance;
+    }
+
+    public void setSelectedInstance(ServiceInstance selectedInstance) {
+        this.selectedInstance = selectedInstance;
+    }
+
+    /**
+     * Returns the instances further requests of the call must not be sent to, or {@code null} for none.
+     */
+    public List<ServiceInstance> getExcludedInstances() {
+        return excludedInstances;
+    }
+
+    public void setExcludedInstances(List<ServiceInstance> excludedInstances) {
+        this.excludedInstances = excludedInstances;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.invocation.interceptor;
+
+import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.config.InterceptorConfig;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Interceptor that works on the {@link CompletionStage} of an invocation instead of blocking on
+ * its result.
+ *
+ * <p>Calls of methods returning {@link CompletableFuture} or {@link CompletionStage} pass through
+ * an {@link AsyncInterceptorChain}, where {@link #interceptAsync} observes the completion of the
+ * remote call, for example with {@link CompletionStage#whenComplete}, without holding a thread.
+ * Calls of other methods pass through an {@link InterceptorChain}; the default
+ * {@link #intercept(InvocationContext, InterceptorChain)} runs {@link #interceptAsync} on that
+ * chain and waits for the stage, and implementations may override it with a synchronous version.
+ *
+ * <p>Async interceptors are registered and configured like any other {@link Interceptor}.
+ *
+ * @param <C> the type of configuration object this interceptor accepts
+ * @author x-kill9
+ */
+public interface AsyncInterceptor<C extends InterceptorConfig> extends Interceptor<C> {
+
+    /**
+     * Intercepts an asynchronous invocation.
+     *
+     * <p>Implementations may act before calling {@link AsyncInterceptorChain#proceed(InvocationContext)}
+     * and on the completion of the stage it returns. They may also short-circuit the chain by
+     * returning a completed or failed stage.
+     *
+     * @param context the invocation context
+     * @param chain   the interceptor chain to continue the execution
+     * @return a stage completed with the result of the invocation
+     */
+    CompletionStage<Object> interceptAsync(InvocationContext context, AsyncInterceptorChain chain);
+
+    @Override
+    default Object intercept(InvocationContext context, InterceptorChain chain) throws Throwable {
+        CompletableFuture<Object> future = interceptAsync(context, AsyncInterceptorChain.of(chain)).toCompletableFuture();
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.invocation.interceptor;
+
+import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Chain of interceptors that processes an asynchronous invocation sequentially.
+ *
+ * <p>Like {@link InterceptorChain}, the chain is compiled once into linked, immutable links. An
+ * {@link AsyncInterceptor} receives the next link directly. A synchronous {@link Interceptor} is
+ * adapted: it receives an {@link InterceptorChain} whose {@code proceed} starts the rest of the
+ * chain and returns its {@link CompletionStage} as the result, so the interceptor wraps the start
+ * of the call without blocking on it, and a stage it returns is passed on. Exceptions thrown by
+ * an interceptor or the target fail the returned stage.
+ *
+ * @author x-kill9
+ */
+public class AsyncInterceptorChain {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncInterceptorChain.class);
+
+    private final AsyncInterceptor<?> asyncInterceptor;
+    private final Interceptor<?> interceptor;
+    private final AsyncInterceptorChain next;
+    private final InterceptorChain adaptedNext;
+    private final AsyncTargetInvoker targetInvoker;
+
+    /**
+     * Creates a new asynchronous interceptor chain.
+     *
+     * @param interceptors  the list of interceptors, synchronous or asynchronous (may be empty)
+     * @param targetInvoker the final target invoker
+     */
+    public AsyncInterceptorChain(List<Interceptor<?>> interceptors, AsyncTargetInvoker targetInvoker) {
+        this(interceptors != null ? interceptors : List.of(), 0, targetInvoker);
+        logger.debug("AsyncInterceptorChain created with {} interceptors",
+                interceptors != null ? interceptors.size() : 0);
+    }
+
+    private AsyncInterceptorChain(List<Interceptor<?>> interceptors, int index, AsyncTargetInvoker targetInvoker) {
+        if (index < interceptors.size()) {
+            Interceptor<?> current = interceptors.get(index);
+            this.next = new AsyncInterceptorChain(interceptors, index + 1, targetInvoker);
+            if (current instanceof AsyncInterceptor) {
+                this.asyncInterceptor = (AsyncInterceptor<?>) current;
+                this.interceptor = null;
+                this.adaptedNext = null;
+            } else {
+                this.asyncInterceptor = null;
+                this.interceptor = current;
+                this.adaptedNext = new InterceptorChain(List.of(), next::proceed);
+            }
+        } else {
+            this.asyncInterceptor = null;
+            this.interceptor = null;
+            this.next = null;
+            this.adaptedNext = null;
+        }
+        this.targetInvoker = targetInvoker;
+    }
+
+    /**
+     * Returns a chain without interceptors whose target proceeds with a synchronous chain.
+     *
+     * @param chain the synchronous chain
+     * @return the adapted chain
+     */
+    public static AsyncInterceptorChain of(InterceptorChain chain) {
+        return new AsyncInterceptorChain(List.of(), 0, context -> {
+            try {
+                return CompletableFuture.completedFuture(chain.proceed(context));
+            } catch (Throwable t) {
+                return CompletableFuture.failedFuture(t);
+            }
+        });
+    }
+
+    /**
+     * Returns whether the chain has no interceptors, so that proceeding only invokes the target.
+     */
+    public boolean isEmpty() {
+        return asyncInterceptor == null && interceptor == null;
+    }
+
+    /**
+     * Proceeds with the next interceptor in the chain, or invokes the target if all are done.
+     *
+     * @param context the invocation context
+     * @return a stage completed with the result of the invocation
+     */
+    @SuppressWarnings("unchecked")
+    public CompletionStage<Object> proceed(InvocationContext context) {
+        try {
+            if (asyncInterceptor != null) {
+                return asyncInterceptor.interceptAsync(context, next);
+            }
+            if (interceptor != null) {
+                Object result = interceptor.intercept(context, adaptedNext);
+                return result instanceof CompletionStage
+                        ? (CompletionStage<Object>) result : CompletableFuture.completedFuture(result);
+            }
+            return targetInvoker.invoke(context);
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.invocation.interceptor;
+
+import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Functional interface for the final target invocation in an {@link AsyncInterceptorChain}.
+ *
+ * @author x-kill9
+ */
+@FunctionalInterface
+public interface AsyncTargetInvoker {
+
+    /**
+     * Starts the target invocation (usually the remote call) with the given context.
+     *
+     * @param context the invocation context
+     * @return a stage completed with the result of the invocation
+     */
+    CompletionStage<Object> invoke(InvocationContext context);
+}
@@ -13,17 +13,19 @@ import java.util.List;
 /**
  * Chain of interceptors that processes an invocation sequentially.
  *
- * <p>The chain maintains an index of the current interceptor and invokes them in order.
- * After all interceptors have been processed, the target invoker is called.
+ * <p>A chain is compiled once into linked, immutable links: each link holds one interceptor
+ * and the link after it, and the last link holds only the target invoker. Proceeding passes the
+ * next link to the interceptor, so a chain has no per-call state, can be shared by concurrent and
+ * reentrant calls, and allocates nothing when it runs.
  *
  * @author x-kill9
  */
 public class InterceptorChain {
     private static final Logger logger = LoggerFactory.getLogger(InterceptorChain.class);
 
-    private final List<Interceptor<?>> interceptors;
+    private final Interceptor<?> interceptor;
+    private final InterceptorChain next;
     private final TargetInvoker targetInvoker;
-    private int currentIndex = 0;
 
     /**
      * Creates a new interceptor chain.
@@ -32,9 +34,26 @@ public class InterceptorChain {
      * @param targetInvoker the final target invoker
      */
     public InterceptorChain(List<Interceptor<?>> interceptors, TargetInvoker targetInvoker) {
-        this.interceptors = interceptors != null ? interceptors : List.of();
+        this(interceptors != null ? interceptors : List.of(), 0, targetInvoker);
+        logger.debug("InterceptorChain created with {} interceptors", interceptors != null ? interceptors.size() : 0);
+    }
+
+    private InterceptorChain(List<Interceptor<?>> interceptors, int index, TargetInvoker targetInvoker) {
+        if (index < interceptors.size()) {
+            this.interceptor = interceptors.get(index);
+            this.next = new InterceptorChain(interceptors, index + 1, targetInvoker);
+        } else {
+            this.interceptor = null;
+            this.next = null;
+        }
         this.targetInvoker = targetInvoker;
-        logger.debug("InterceptorChain created with {} interceptors", this.interceptors.size());
+    }
+
+    /**
+     * Returns whether the chain has no interceptors, so that proceeding only invokes the target.
+     */
+    public boolean isEmpty() {
+        return interceptor == null;
     }
 
     /**
@@ -45,15 +64,9 @@ public class InterceptorChain {
      * @throws Throwable if an error occurs
      */
     public Object proceed(InvocationContext context) throws Throwable {
-        if (currentIndex < interceptors.size()) {
-            Interceptor<?> interceptor = interceptors.get(currentIndex);
-            currentIndex++;
-            logger.trace("Executing interceptor [{}/{}]: {}",
-                    currentIndex, interceptors.size(), interceptor.getClass().getSimpleName());
-            return interceptor.intercept(context, this);
-        } else {
-            logger.trace("All interceptors executed, invoking target");
+        if (interceptor == null) {
             return targetInvoker.invoke(context);
         }
+        return interceptor.intercept(context, next);
     }
-}
\ No newline at end of file
+}
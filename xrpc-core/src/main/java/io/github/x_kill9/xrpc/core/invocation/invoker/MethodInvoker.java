@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.invocation.invoker;
+
+import io.github.x_kill9.xrpc.core.columnar.ColumnarResults;
+import io.github.x_kill9.xrpc.core.delta.ResponseDeltas;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Invokes one method of an exported service instance through a {@link MethodHandle}, with
+ * everything the provider needs to know about the method resolved when the service is exported.
+ *
+ * @author x-kill9
+ */
+public final class MethodInvoker {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Method method;
+    private final Class<?>[] parameterTypes;
+    // the parameter types with primitives boxed, to check the arguments against
+    private final Class<?>[] argumentTypes;
+    private final MethodHandle handle;
+    private final String methodKey;
+    private final boolean deltaResponse;
+    private final Class<?> columnarRowType;
+    private final boolean async;
+
+    MethodInvoker(String interfaceName, Object service, Method method) throws IllegalAccessException {
+        this.method = method;
+        // bound to the instance and spread over an argument array: (Object[])Object
+        this.handle = MethodHandles.lookup().unreflect(method)
+                .bindTo(service)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(INVOKER_TYPE);
+        this.parameterTypes = method.getParameterTypes();
+        this.argumentTypes = new Class<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            argumentTypes[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+        }
+        this.methodKey = ResponseDeltas.methodKey(interfaceName, method.getName(), parameterTypes);
+        this.deltaResponse = ResponseDeltas.isDeltaMethod(service.getClass(), interfaceName, method.getName(),
+                parameterTypes);
+        this.columnarRowType = ColumnarResults.rowType(service.getClass(), interfaceName, method.getName(),
+                parameterTypes);
+        this.async = CompletionStage.class.isAssignableFrom(method.getReturnType());
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    Class<?>[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * Returns the key identifying the method, as built by {@link ResponseDeltas#methodKey}.
+     */
+    public String getMethodKey() {
+        return methodKey;
+    }
+
+    /**
+     * Returns whether the interface method is annotated with
+     * {@link io.github.x_kill9.xrpc.core.delta.DeltaResponse}.
+     */
+    public boolean isDeltaResponse() {
+        return deltaResponse;
+    }
+
+    /**
+     * Returns the row type of a {@link io.github.x_kill9.xrpc.core.columnar.ColumnarResponse}
+     * method, or {@code null} for other methods.
+     */
+    public Class<?> getColumnarRowType() {
+        return columnarRowType;
+    }
+
+    /**
+     * Returns whether the method returns a {@link CompletionStage} of its result, which is sent
+     * when the stage completes.
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Invokes the method on the service instance.
+     *
+     * <p>Unlike {@link Method#invoke}, a primitive parameter only accepts its own wrapper type, not a
+     * value that would widen to it.
+     *
+     * @param args the arguments, {@code null} for none
+     * @return the result, {@code null} for {@code void} methods
+     * @throws IllegalArgumentException  if the number of arguments is wrong, an argument is not of
+     *                                   its parameter type, or {@code null} is passed for a primitive
+     * @throws InvocationTargetException wrapping whatever the method threw, as {@link Method#invoke} does
+     */
+    public Object invoke(Object[] args) throws InvocationTargetException {
+        int count = args != null ? args.length : 0;
+        if (count != parameterTypes.length) {
+            throw new IllegalArgumentException("Wrong number of arguments for " + methodKey + ": " + count);
+        }
+        checkArguments(args);
+        try {
+            return handle.invokeExact(args);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    // the handle would throw these mismatches from inside, where they look like business failures
+    private void checkArguments(Object[] args) {
+        for (int i = 0; i < argumentTypes.length; i++) {
+            Object arg = args[i];
+            if (arg == null ? parameterTypes[i].isPrimitive() : !argumentTypes[i].isInstance(arg)) {
+                throw new IllegalArgumentException("Argument " + i + " of " + methodKey + " is not of type "
+                        + parameterTypes[i].getName() + ": " + (arg == null ? "null" : arg.getClass().getName()));
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.invocation.invoker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@link MethodInvoker}s of all exported services, built once when the services are exported.
+ *
+ * <p>Every public method of a service instance except those declared by {@link Object} can be
+ * invoked, which are the methods a request could reach with
+ * {@code instance.getClass().getMethod(name, parameterTypes)}. Finding the invoker of a request
+ * is two hash lookups and a comparison of the parameter types of the overloads of that name.
+ *
+ * @author x-kill9
+ */
+public final class ServiceInvokerTable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceInvokerTable.class);
+
+    private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+    // interface name -> method name -> overloads
+    private final Map<String, Map<String, MethodInvoker[]>> invokers;
+    private final Map<String, Object> services;
+
+    private ServiceInvokerTable(Map<String, Map<String, MethodInvoker[]>> invokers, Map<String, Object> services) {
+        this.invokers = invokers;
+        this.services = services;
+    }
+
+    /**
+     * Builds the invokers of the given services.
+     *
+     * @param serviceMap interface name -> service instance, as built by
+     *                   {@link io.github.x_kill9.xrpc.core.util.ServiceMapBuilder}
+     * @return the table
+     */
+    public static ServiceInvokerTable build(Map<String, Object> serviceMap) {
+        Map<String, Map<String, MethodInvoker[]>> invokers = new HashMap<>();
+        for (Map.Entry<String, Object> entry : serviceMap.entrySet()) {
+            String interfaceName = entry.getKey();
+            Object service = entry.getValue();
+            Map<String, List<MethodInvoker>> byName = new HashMap<>();
+            for (Method method : service.getClass().getMethods()) {
+                if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                if (!Modifier.isPublic(method.getDeclaringClass().getModifiers()) && !method.trySetAccessible()) {
+                    logger.warn("Cannot access {}.{}, it will not be invocable", interfaceName, method.getName());
+                    continue;
+                }
+                try {
+                    byName.computeIfAbsent(method.getName(), name -> new ArrayList<>())
+                            .add(new MethodInvoker(interfaceName, service, method));
+                } catch (IllegalAccessException e) {
+                    logger.warn("Cannot access {}.{}, it will not be invocable", interfaceName, method.getName(), e);
+                }
+            }
+            Map<String, MethodInvoker[]> methods = new HashMap<>();
+            byName.forEach((name, overloads) -> methods.put(name, overloads.toArray(new MethodInvoker[0])));
+            invokers.put(interfaceName, methods);
+            logger.debug("Built {} method invokers for service {}", methods.size(), interfaceName);
+        }
+        return new ServiceInvokerTable(invokers, new HashMap<>(serviceMap));
+    }
+
+    /**
+     * Returns the instance of an exported service.
+     *
+     * @param interfaceName the interface name
+     * @return the service instance, or {@code null} if the service is not exported
+     */
+    public Object getService(String interfaceName) {
+        return services.get(interfaceName);
+    }
+
+    /**
+     * Returns the names of the exported services.
+     *
+     * @return the interface names
+     */
+    public Set<String> getServiceNames() {
+        return services.keySet();
+    }
+
+    /**
+     * Returns the invoker of a method.
+     *
+     * @param interfaceName  the interface name
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types, {@code null} for none
+     * @return the invoker, or {@code null} if the service has no such method
+     */
+    public MethodInvoker find(String interfaceName, String methodName, Class<?>[] parameterTypes) {
+        Map<String, MethodInvoker[]> methods = invokers.get(interfaceName);
+        MethodInvoker[] overloads = methods != null ? methods.get(methodName) : null;
+        if (overloads == null) {
+            return null;
+        }
+        Class<?>[] types = parameterTypes != null ? parameterTypes : NO_TYPES;
+        for (MethodInvoker invoker : overloads) {
+            if (Arrays.equals(invoker.getParameterTypes(), types)) {
+                return invoker;
+            }
+        }
+        return null;
+    }
+}
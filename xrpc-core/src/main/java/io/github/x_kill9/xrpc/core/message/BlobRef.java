@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.message;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Stands in for a large {@code byte[]} argument, identified by the SHA-256 digest of its content.
+ *
+ * <p>The first time a consumer sends a blob to a connection it includes the data, and the
+ * provider caches it by digest. Later requests carry only the digest; if the provider has
+ * evicted the blob it answers with {@link io.github.x_kill9.xrpc.core.constants.StatusCodes#BLOB_NOT_FOUND}
+ * and the consumer resends the data. A provider publishes the size of its cache in its instance
+ * metadata under {@link #METADATA_KEY}; larger blobs are never cached, so they are always sent
+ * with their content.
+ *
+ * @author x-kill9
+ */
+public class BlobRef implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Service instance metadata key holding the blob cache size of a connection in bytes.
+     */
+    public static final String METADATA_KEY = "blobCacheBytes";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private byte[] digest;
+    private int length;
+    private byte[] data;
+
+    public BlobRef() {
+    }
+
+    public BlobRef(byte[] digest, int length, byte[] data) {
+        this.digest = digest;
+        this.length = length;
+        this.data = data;
+    }
+
+    /**
+     * Computes the content digest of a blob.
+     *
+     * @param data the blob
+     * @return the SHA-256 digest
+     */
+    public static byte[] digest(byte[] data) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(DIGEST_ALGORITHM + " not available", e);
+        }
+    }
+
+    public byte[] getDigest() {
+        return digest;
+    }
+
+    public void setDigest(byte[] digest) {
+        this.digest = digest;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public void setLength(int length) {
+        this.length = length;
+    }
+
+    /**
+     * Returns the blob content, or {@code null} if this is a reference only.
+     *
+     * @return the content or {@code null}
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+}
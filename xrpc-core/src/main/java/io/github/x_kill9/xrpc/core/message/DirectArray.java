@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.message;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A primitive array held in off-heap memory, returned by service methods with large numeric results.
+ *
+ * <p>A service method declared to return {@code DirectArray} has its result sent as a
+ * {@link io.github.x_kill9.xrpc.core.enums.MessageType#RESPONSE_ARRAY} message: the elements
+ * are copied once from this buffer into the outgoing network buffer, and the consumer receives
+ * a {@code DirectArray} that is a view of the network buffer it was read into, without further
+ * copies. Elements are stored little-endian.
+ *
+ * <p>An array must be released exactly when its contents are no longer needed:
+ * <ul>
+ *   <li>on the provider, the framework releases the returned array once it has been written;</li>
+ *   <li>on the consumer, the caller owns the received array and must call {@link #release()}
+ *       (or use it in a try-with-resources block), otherwise the network buffer is leaked.</li>
+ * </ul>
+ * Views obtained from an array must not be used after it is released. Releasing is idempotent.
+ *
+ * @author x-kill9
+ */
+public final class DirectArray implements AutoCloseable {
+
+    private final ElementType elementType;
+    private final ByteBuffer buffer;
+    private final Runnable releaser;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private DirectArray(ElementType elementType, ByteBuffer buffer, Runnable releaser) {
+        if (buffer.remaining() % elementType.getSize() != 0) {
+            throw new IllegalArgumentException(buffer.remaining() + " bytes do not hold whole "
+                    + elementType + " elements");
+        }
+        this.elementType = elementType;
+        this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        this.releaser = releaser;
+    }
+
+    /**
+     * Allocates a zero-filled array in direct memory.
+     *
+     * @param elementType the element type
+     * @param length      the number of elements
+     * @return the array
+     */
+    public static DirectArray allocate(ElementType elementType, int length) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.multiplyExact(length, elementType.getSize()));
+        return new DirectArray(elementType, buffer, null);
+    }
+
+    /**
+     * Wraps the remaining bytes of a buffer, which must not be modified elsewhere afterwards.
+     *
+     * @param elementType the element type
+     * @param buffer      the little-endian element bytes
+     * @param releaser    invoked once when the array is released, or {@code null}
+     * @return the array
+     * @throws IllegalArgumentException if the buffer does not hold a whole number of elements
+     */
+    public static DirectArray wrap(ElementType elementType, ByteBuffer buffer, Runnable releaser) {
+        return new DirectArray(elementType, buffer, releaser);
+    }
+
+    /**
+     * Copies a {@code long[]} into a new direct array.
+     *
+     * @param values the values
+     * @return the array
+     */
+    public static DirectArray of(long[] values) {
+        DirectArray array = allocate(ElementType.LONG, values.length);
+        array.buffer.asLongBuffer().put(values);
+        return array;
+    }
+
+    /**
+     * Copies a {@code double[]} into a new direct array.
+     *
+     * @param values the values
+     * @return the array
+     */
+    public static DirectArray of(double[] values) {
+        DirectArray array = allocate(ElementType.DOUBLE, values.length);
+        array.buffer.asDoubleBuffer().put(values);
+        return array;
+    }
+
+    /**
+     * Copies an {@code int[]} into a new direct array.
+     *
+     * @param values the values
+     * @return the array
+     */
+    public static DirectArray of(int[] values) {
+        DirectArray array = allocate(ElementType.INT, values.length);
+        array.buffer.asIntBuffer().put(values);
+        return array;
+    }
+
+    /**
+     * Copies a {@code byte[]} into a new direct array.
+     *
+     * @param values the values
+     * @return the array
+     */
+    public static DirectArray of(byte[] values) {
+        DirectArray array = allocate(ElementType.BYTE, values.length);
+        array.buffer.duplicate().put(values);
+        return array;
+    }
+
+    public ElementType getElementType() {
+        return elementType;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the length
+     */
+    public int length() {
+        return buffer.capacity() / elementType.getSize();
+    }
+
+    /**
+     * Returns the size of the elements in bytes.
+     *
+     * @return the byte size
+     */
+    public int byteSize() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns a little-endian view of the element bytes, positioned at the first element.
+     *
+     * @return the byte view
+     * @throws IllegalStateException if the array has been released
+     */
+    public ByteBuffer asByteBuffer() {
+        checkNotReleased();
+        return buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns a view of a {@link ElementType#LONG} array.
+     *
+     * @return the long view
+     * @throws IllegalStateException if the array has been released or holds another element type
+     */
+    public LongBuffer asLongBuffer() {
+        checkElementType(ElementType.LONG);
+        return asByteBuffer().asLongBuffer();
+    }
+
+    /**
+     * Returns a view of a {@link ElementType#DOUBLE} array.
+     *
+     * @return the double view
+     * @throws IllegalStateException if the array has been released or holds another element type
+     */
+    public DoubleBuffer asDoubleBuffer() {
+        checkElementType(ElementType.DOUBLE);
+        return asByteBuffer().asDoubleBuffer();
+    }
+
+    /**
+     * Returns a view of an {@link ElementType#INT} array.
+     *
+     * @return the int view
+     * @throws IllegalStateException if the array has been released or holds another element type
+     */
+    public IntBuffer asIntBuffer() {
+        checkElementType(ElementType.INT);
+        return asByteBuffer().asIntBuffer();
+    }
+
+    /**
+     * Copies a {@link ElementType#LONG} array onto the heap.
+     *
+     * @return the values
+     */
+    public long[] toLongArray() {
+        LongBuffer view = asLongBuffer();
+        long[] values = new long[view.remaining()];
+        view.get(values);
+        return values;
+    }
+
+    /**
+     * Copies a {@link ElementType#DOUBLE} array onto the heap.
+     *
+     * @return the values
+     */
+    public double[] toDoubleArray() {
+        DoubleBuffer view = asDoubleBuffer();
+        double[] values = new double[view.remaining()];
+        view.get(values);
+        return values;
+    }
+
+    /**
+     * Copies an {@link ElementType#INT} array onto the heap.
+     *
+     * @return the values
+     */
+    public int[] toIntArray() {
+        IntBuffer view = asIntBuffer();
+        int[] values = new int[view.remaining()];
+        view.get(values);
+        return values;
+    }
+
+    /**
+     * Copies the element bytes onto the heap.
+     *
+     * @return the bytes
+     */
+    public byte[] toByteArray() {
+        ByteBuffer view = asByteBuffer();
+        byte[] values = new byte[view.remaining()];
+        view.get(values);
+        return values;
+    }
+
+    /**
+     * Releases the memory backing this array. Only the first call has an effect.
+     */
+    public void release() {
+        if (released.compareAndSet(false, true) && releaser != null) {
+            releaser.run();
+        }
+    }
+
+    public boolean isReleased() {
+        return released.get();
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+    @Override
+    public String toString() {
+        return "DirectArray{" + elementType + "[" + length() + "]" + (isReleased() ? ", released" : "") + "}";
+    }
+
+    private void checkElementType(ElementType expected) {
+        if (elementType != expected) {
+            throw new IllegalStateException("Array holds " + elementType + " elements, not " + expected);
+        }
+    }
+
+    private void checkNotReleased() {
+        if (released.get()) {
+            throw new IllegalStateException("Array has been released");
+        }
+    }
+
+    /**
+     * Element types of a {@link DirectArray}, with the byte identifying them on the wire.
+     */
+    public enum ElementType {
+
+        BYTE((byte) 0x01, Byte.BYTES),
+
+        INT((byte) 0x02, Integer.BYTES),
+
+        LONG((byte) 0x03, Long.BYTES),
+
+        DOUBLE((byte) 0x04, Double.BYTES);
+
+        private final byte value;
+        private final int size;
+
+        ElementType(byte value, int size) {
+            this.value = value;
+            this.size = size;
+        }
+
+        public byte getValue() {
+            return value;
+        }
+
+        /**
+         * Returns the size of one element in bytes.
+         *
+         * @return the element size
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the element type corresponding to the given byte value.
+         *
+         * @param value the byte value
+         * @return the matching element type
+         * @throws IllegalArgumentException if no matching type exists
+         */
+        public static ElementType of(byte value) {
+            for (ElementType type : values()) {
+                if (type.value == value) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown array element type: " + value);
+        }
+    }
+}
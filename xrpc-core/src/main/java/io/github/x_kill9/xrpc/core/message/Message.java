@@ -5,20 +5,25 @@
 package io.github.x_kill9.xrpc.core.message;
 
 import io.github.x_kill9.xrpc.core.constants.Constants;
+import io.github.x_kill9.xrpc.core.serialize.InboundStringTable;
 
 /**
  * Represents the protocol-level message exchanged between client and server.
  *
- * <p>A message consists of a fixed header and a variable-length body.
+ * <p>A message consists of a header and a variable-length body.
  * The header includes version, message type, serialization type, compression type,
  * request ID, and body length. The body contains the serialized request or response.
  *
+ * <p>The {@link #version} selects the header layout used on the wire: version 1 uses the
+ * fixed 18-byte header, version 2 ({@link Constants#PROTOCOL_VERSION_V2}) packs the type
+ * fields into a single byte and encodes the request ID and body length as varints.
+ *
  * @author x-kill9
  */
 public class Message {
 
     /**
-     * Protocol version (see {@link Constants#PROTOCOL_VERSION}).
+     * Protocol version (see {@link Constants#PROTOCOL_VERSION} and {@link Constants#PROTOCOL_VERSION_V2}).
      */
     private byte version = Constants.PROTOCOL_VERSION;
 
@@ -52,6 +57,23 @@ public class Message {
      */
     private byte[] bodyBytes;
 
+    /**
+     * Array result carried after the body of a {@link io.github.x_kill9.xrpc.core.enums.MessageType#RESPONSE_ARRAY}
+     * message, or {@code null}.
+     */
+    private DirectArray directArray;
+
+    /**
+     * Request or response to be serialized by the encoder when {@link #bodyBytes} is {@code null},
+     * so that it can use the string table of the connection it is written to.
+     */
+    private Object payload;
+
+    /**
+     * String table the body of a received message refers to, or {@code null} if it was written without one.
+     */
+    private InboundStringTable.Snapshot stringTable;
+
     public Message() {
     }
 
@@ -119,4 +141,28 @@ public class Message {
     public void setBodyBytes(byte[] bodyBytes) {
         this.bodyBytes = bodyBytes;
     }
-}
\ No newline at end of file
+
+    public DirectArray getDirectArray() {
+        return directArray;
+    }
+
+    public void setDirectArray(DirectArray directArray) {
+        this.directArray = directArray;
+    }
+
+    public Object getPayload() {
+        return payload;
+    }
+
+    public void setPayload(Object payload) {
+        this.payload = payload;
+    }
+
+    public InboundStringTable.Snapshot getStringTable() {
+        return stringTable;
+    }
+
+    public void setStringTable(InboundStringTable.Snapshot stringTable) {
+        this.stringTable = stringTable;
+    }
+}
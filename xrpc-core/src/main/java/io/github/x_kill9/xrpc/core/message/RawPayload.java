@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.message;
+
+/**
+ * An already serialized {@link Request} or {@link Response} body together with its serialize type.
+ *
+ * <p>Used for pass-through invocation, where a gateway forwards bodies between peers without
+ * decoding them. The body is exactly what a peer would put into or read from a {@link Message}.
+ *
+ * @author x-kill9
+ */
+public class RawPayload {
+
+    private final byte serializeType;
+    private final byte[] body;
+
+    public RawPayload(byte serializeType, byte[] body) {
+        this.serializeType = serializeType;
+        this.body = body;
+    }
+
+    public byte getSerializeType() {
+        return serializeType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.message;
+
+import java.io.IOException;
+
+/**
+ * A received {@link Request} whose routing part has been decoded, with the arguments and
+ * attachments decoded on demand.
+ *
+ * <p>The provider resolves the service and method from the routing part and calls
+ * {@link #materialize()} only when the method is actually invoked, so requests rejected
+ * before that never pay for decoding their arguments.
+ *
+ * @author x-kill9
+ */
+public class StagedRequest {
+
+    private final String interfaceName;
+    private final String methodName;
+    private final Class<?>[] parameterTypes;
+    private final BodyDecoder bodyDecoder;
+
+    private Request request;
+
+    /**
+     * Creates a staged request for an already fully decoded request.
+     *
+     * @param request the decoded request
+     */
+    public StagedRequest(Request request) {
+        this(request.getInterfaceName(), request.getMethodName(), request.getParameterTypes(), null);
+        this.request = request;
+    }
+
+    /**
+     * Creates a staged request from its routing part.
+     *
+     * @param interfaceName  the interface name
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @param bodyDecoder    decodes the full request on first use
+     */
+    public StagedRequest(String interfaceName, String methodName, Class<?>[] parameterTypes, BodyDecoder bodyDecoder) {
+        this.interfaceName = interfaceName;
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+        this.bodyDecoder = bodyDecoder;
+    }
+
+    public String getInterfaceName() {
+        return interfaceName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public Class<?>[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * Returns whether the arguments have been decoded.
+     *
+     * @return {@code true} if {@link #materialize()} has completed
+     */
+    public boolean isMaterialized() {
+        return request != null;
+    }
+
+    /**
+     * Decodes the arguments and attachments, once.
+     *
+     * @return the full request
+     * @throws IOException if the body cannot be decoded
+     */
+    public Request materialize() throws IOException {
+        if (request == null) {
+            request = bodyDecoder.decode();
+        }
+        return request;
+    }
+
+    /**
+     * Decodes the full request from the retained message body.
+     */
+    @FunctionalInterface
+    public interface BodyDecoder {
+
+        /**
+         * Decodes the full request.
+         *
+         * @return the request
+         * @throws IOException if the body cannot be decoded
+         */
+        Request decode() throws IOException;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.proxy;
+
+import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the executor that completes the futures returned by asynchronous service methods.
+ *
+ * <p>Responses arrive on I/O threads, which must not run application callbacks. The futures
+ * of {@code CompletableFuture}- and {@code CompletionStage}-returning methods are therefore
+ * completed on this executor, and callbacks attached to them before completion run there too.
+ * It is a pool of {@code xrpc.client.callbackThreads} daemon threads, or the common
+ * {@link ForkJoinPool} if that is {@code 0}, unless the application sets its own.
+ *
+ * @author x-kill9
+ */
+public final class CallbackExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(CallbackExecutors.class);
+
+    private static volatile Executor executor;
+
+    private CallbackExecutors() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the callback executor, creating the configured one on first use.
+     *
+     * @return the executor
+     */
+    public static Executor get() {
+        Executor current = executor;
+        if (current == null) {
+            synchronized (CallbackExecutors.class) {
+                current = executor;
+                if (current == null) {
+                    current = create(ConfigFactory.getConfig().getClient().getCallbackThreads());
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Replaces the callback executor, for example by one the application already manages.
+     *
+     * <p>The previous executor is not shut down.
+     *
+     * @param callbackExecutor the executor
+     */
+    public static void set(Executor callbackExecutor) {
+        if (callbackExecutor == null) {
+            throw new IllegalArgumentException("Callback executor must not be null");
+        }
+        executor = callbackExecutor;
+    }
+
+    private static Executor create(int threads) {
+        if (threads <= 0) {
+            logger.debug("Completing asynchronous calls on the common pool");
+            return ForkJoinPool.commonPool();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "xrpc-callback-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.debug("Completing asynchronous calls on {} callback threads", threads);
+        return pool;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.proxy;
+
+import io.github.x_kill9.xrpc.core.cluster.ClusterInvocation;
+import io.github.x_kill9.xrpc.core.cluster.ClusterStrategy;
+import io.github.x_kill9.xrpc.core.cluster.RetryBudget;
+import io.github.x_kill9.xrpc.core.config.call.CallSettings;
+import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
+import io.github.x_kill9.xrpc.core.config.model.ClientConfig;
+import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
+import io.github.x_kill9.xrpc.core.invocation.context.InvocationContextBuilder;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.AsyncInterceptorChain;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.Interceptor;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.InterceptorChain;
+import io.github.x_kill9.xrpc.core.message.Request;
+import io.github.x_kill9.xrpc.core.spi.ExtensionLoader;
+import io.github.x_kill9.xrpc.core.transport.RpcClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Everything a proxy needs to call one remote method, resolved once when the proxy is created.
+ *
+ * <p>A call only builds the request from the arguments and passes it through the interceptor
+ * chain to the {@link RpcClient}; the interface name, method name and parameter types of the
+ * request are shared by all calls. The {@link CallSettings call settings} of the method, its
+ * {@link ClusterStrategy}, the chain and its target are resolved once with the plan, and without
+ * interceptors the call goes to the target directly. The cluster strategy sends the request and
+ * decides what a failure leads to; a oneway call returns as soon as the request is handed to the
+ * client.
+ *
+ * <p>Methods returning {@link CompletableFuture} or {@link CompletionStage} are asynchronous:
+ * the call returns as soon as the request is sent, and the returned future is completed on the
+ * {@link CallbackExecutors callback executor} with the result, the failure of the call, or a
+ * {@link TimeoutException} after the call timeout. Their calls pass through an
+ * {@link AsyncInterceptorChain}, so interceptors observe the completion of the call instead of
+ * its start.
+ *
+ * @author x-kill9
+ */
+public final class InvocationPlan {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvocationPlan.class);
+
+    private final Class<?> interfaceClass;
+    private final Method method;
+    private final String interfaceName;
+    private final String methodName;
+    private final Class<?>[] parameterTypes;
+    private final RpcClient client;
+    private final boolean async;
+    private final CallSettings settings;
+    private final ClusterStrategy cluster;
+    private final RetryBudget retryBudget;
+    private final InterceptorChain chain;
+    private final AsyncInterceptorChain asyncChain;
+
+    /**
+     * @param interfaceClass the service interface
+     * @param method         the interface method
+     * @param client         the RPC client for sending requests
+     * @param interceptors   the interceptors to apply
+     */
+    public InvocationPlan(Class<?> interfaceClass, Method method, RpcClient client, List<Interceptor<?>> interceptors) {
+        this.interfaceClass = interfaceClass;
+        this.method = method;
+        this.interfaceName = interfaceClass.getName();
+        this.methodName = method.getName();
+        this.parameterTypes = method.getParameterTypes();
+        this.client = client;
+        this.async = method.getReturnType() == CompletableFuture.class || method.getReturnType() == CompletionStage.class;
+        ClientConfig clientConfig = ConfigFactory.getConfig().getClient();
+        this.settings = CallSettings.resolve(clientConfig, interfaceClass, method);
+        this.cluster = ExtensionLoader.getExtensionLoader(ClusterStrategy.class).getExtension(settings.getCluster());
+        this.retryBudget = RetryBudget.forService(interfaceName, clientConfig);
+        if (async) {
+            AsyncInterceptorChain compiled = new AsyncInterceptorChain(interceptors, this::sendAsync);
+            this.chain = null;
+            this.asyncChain = compiled.isEmpty() ? null : compiled;
+        } else {
+            InterceptorChain compiled = new InterceptorChain(interceptors, this::send);
+            this.chain = compiled.isEmpty() ? null : compiled;
+            this.asyncChain = null;
+        }
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the call settings of the method.
+     */
+    public CallSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Returns whether the method returns a future of its result.
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Calls the remote method.
+     *
+     * @param args the arguments, {@code null} for none
+     * @return the result of the remote method, or a future of it for asynchronous methods
+     * @throws Throwable the exception of the call or of an interceptor
+     */
+    public Object invoke(Object[] args) throws Throwable {
+        InvocationContext context = InvocationContextBuilder.build(interfaceClass, method, args);
+        context.setCallSettings(settings);
+        if (async) {
+            return asyncChain == null ? sendAsync(context) : asyncChain.proceed(context).toCompletableFuture();
+        }
+        return chain == null ? send(context) : chain.proceed(context);
+    }
+
+    private Object send(InvocationContext context) throws Exception {
+        Request request = new Request(interfaceName, methodName, parameterTypes, context.getArgs());
+        logger.debug("Sending RPC request - service: {}, method: {}", interfaceName, methodName);
+        if (settings.isOneway()) {
+            client.sendRequest(request, context);
+            return null;
+        }
+        retryBudget.deposit();
+        return cluster.invoke(new ClusterInvocation(client, request, context, settings, retryBudget));
+    }
+
+    private CompletableFuture<Object> sendAsync(InvocationContext context) {
+        Request request = new Request(interfaceName, methodName, parameterTypes, context.getArgs());
+        logger.debug("Sending asynchronous RPC request - service: {}, method: {}", interfaceName, methodName);
+        retryBudget.deposit();
+        return cluster.invokeAsync(new ClusterInvocation(client, request, context, settings, retryBudget));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.proxy;
+
+import io.github.x_kill9.xrpc.core.proxy.bytecode.BytecodeProxyFactory;
+import io.github.x_kill9.xrpc.core.serialize.Serializer;
+import io.github.x_kill9.xrpc.core.spi.ExtensionLoader;
+import io.github.x_kill9.xrpc.core.transport.RpcClient;
+
+import java.util.Locale;
+
+/**
+ * Creates the {@link ProxyFactory} selected by the client's {@code proxy} setting.
+ *
+ * <p>Proxy factories are extensions registered in
+ * {@code META-INF/xrpc/io.github.x_kill9.xrpc.core.proxy.ProxyFactory}, each with a public
+ * constructor taking the {@link RpcClient}; {@link #JDK} and {@link #BYTECODE} are built in.
+ *
+ * @author x-kill9
+ */
+public final class ProxyFactories {
+
+    /**
+     * JDK dynamic proxies, the default.
+     */
+    public static final String JDK = "jdk";
+
+    /**
+     * Proxy classes generated per interface, see {@link BytecodeProxyFactory}.
+     */
+    public static final String BYTECODE = "bytecode";
+
+    private ProxyFactories() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Creates a proxy factory of the given type.
+     *
+     * @param type   the extension name, such as {@link #JDK} or {@link #BYTECODE}, case-insensitive
+     * @param client the RPC client used to send requests
+     * @return the proxy factory
+     * @throws IllegalArgumentException if the type is unknown
+     */
+    public static ProxyFactory create(String type, RpcClient client) {
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown proxy type: null");
+        }
+        return ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+                .newExtension(type.toLowerCase(Locale.ROOT), client);
+    }
+
+    /**
+     * Returns whether a proxy factory of the given type is registered.
+     *
+     * @param type the extension name, case-insensitive
+     * @return {@code true} if {@link #create(String, RpcClient)} accepts the type
+     */
+    public static boolean isSupported(String type) {
+        return type != null && ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+                .getSupportedExtensions().contains(type.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Passes a service interface to every registered serializer, not only the client default,
+     * because the call settings of a method may select another serializer.
+     *
+     * @param interfaceClass the referenced service interface
+     */
+    public static void registerServiceInterface(Class<?> interfaceClass) {
+        ExtensionLoader<Serializer> loader = ExtensionLoader.getExtensionLoader(Serializer.class);
+        for (String name : loader.getSupportedExtensions()) {
+            loader.getExtension(name).registerServiceInterface(interfaceClass);
+        }
+    }
+}
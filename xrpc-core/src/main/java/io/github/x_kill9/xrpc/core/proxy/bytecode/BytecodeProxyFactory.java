@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.proxy.bytecode;
+
+import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
+import io.github.x_kill9.xrpc.core.config.model.ClientConfig;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.Interceptor;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.factory.InterceptorFactory;
+import io.github.x_kill9.xrpc.core.proxy.InvocationPlan;
+import io.github.x_kill9.xrpc.core.proxy.ProxyFactories;
+import io.github.x_kill9.xrpc.core.proxy.ProxyFactory;
+import io.github.x_kill9.xrpc.core.proxy.jdk.RpcInvocationHandler;
+import io.github.x_kill9.xrpc.core.transport.RpcClient;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ProxyFactory} that generates a proxy class per service interface with ASM.
+ *
+ * <p>Each generated method calls the {@link InvocationPlan} of its interface method directly
+ * (see {@link ProxyClassGenerator}), so a call involves neither a {@link Method} lookup nor an
+ * {@link java.lang.reflect.InvocationHandler} dispatch, and {@code equals}, {@code hashCode} and
+ * {@code toString} are not routed through the call path at all. Unlike a JDK proxy, checked
+ * exceptions an interceptor throws are not wrapped in
+ * {@link java.lang.reflect.UndeclaredThrowableException}.
+ *
+ * <p>Interfaces that cannot be implemented by a class in another class loader, such as
+ * non-public interfaces or interfaces whose methods return non-public types, get a JDK proxy.
+ *
+ * @author x-kill9
+ */
+public class BytecodeProxyFactory implements ProxyFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(BytecodeProxyFactory.class);
+
+    private static final AtomicInteger CLASS_COUNTER = new AtomicInteger();
+
+    private final Map<Class<?>, Object> proxyCache = new ConcurrentHashMap<>();
+    private final RpcClient client;
+
+    /**
+     * Constructs a new bytecode proxy factory with the given RPC client.
+     *
+     * @param client the RPC client used to send requests
+     */
+    public BytecodeProxyFactory(RpcClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Returns a proxy instance for the specified interface.
+     *
+     * <p>The proxy is created once and cached for subsequent requests.
+     *
+     * @param clazz the service interface class
+     * @param <T>   the interface type
+     * @return a proxy instance
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getProxy(Class<T> clazz) {
+        return (T) proxyCache.computeIfAbsent(clazz, this::createProxy);
+    }
+
+    private Object createProxy(Class<?> interfaceClass) {
+        ClientConfig clientConfig = ConfigFactory.getConfig().getClient();
+        List<Interceptor<?>> interceptors = InterceptorFactory.createInterceptors(clientConfig.getInterceptors());
+        ProxyFactories.registerServiceInterface(interfaceClass);
+
+        List<Method> methods = proxiedMethods(interfaceClass);
+        if (methods != null) {
+            try {
+                return generateProxy(interfaceClass, methods, interceptors);
+            } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+                logger.warn("Cannot generate proxy class for {}, using a JDK proxy: {}",
+                        interfaceClass.getName(), e.toString());
+            }
+        }
+        return Proxy.newProxyInstance(
+                interfaceClass.getClassLoader(),
+                new Class<?>[]{interfaceClass},
+                new RpcInvocationHandler(interfaceClass, client, interceptors)
+        );
+    }
+
+    private Object generateProxy(Class<?> interfaceClass, List<Method> methods, List<Interceptor<?>> interceptors)
+            throws ReflectiveOperationException {
+        String className = interfaceClass.getName() + "$$XrpcProxy$" + CLASS_COUNTER.incrementAndGet();
+        byte[] classFile = ProxyClassGenerator.generate(className, interfaceClass, methods);
+
+        InvocationPlan[] plans = new InvocationPlan[methods.size()];
+        for (int i = 0; i < plans.length; i++) {
+            plans[i] = new InvocationPlan(interfaceClass, methods.get(i), client, interceptors);
+        }
+        ProxyRuntime.offerPlans(className, plans);
+        try {
+            Class<?> proxyClass = new ProxyClassLoader(interfaceClass.getClassLoader()).define(className, classFile);
+            Object proxy = proxyClass.getConstructor().newInstance();
+            logger.debug("Generated proxy class {} with {} methods", className, plans.length);
+            return proxy;
+        } finally {
+            // left over only if the static initializer did not run
+            ProxyRuntime.withdrawPlans(className);
+        }
+    }
+
+    /**
+     * Returns the methods a generated class has to implement, or {@code null} if the interface
+     * needs a JDK proxy.
+     */
+    private static List<Method> proxiedMethods(Class<?> interfaceClass) {
+        if (!isPublic(interfaceClass) || interfaceClass.getClassLoader() == null) {
+            return null;
+        }
+        // an interface may inherit the same method from several superinterfaces
+        Map<String, Method> bySignature = new HashMap<>();
+        List<Method> methods = new ArrayList<>();
+        for (Method method : interfaceClass.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+            String signature = method.getName() + Type.getMethodDescriptor(method);
+            String parameters = signature.substring(0, signature.indexOf(')') + 1);
+            Method existing = bySignature.putIfAbsent(parameters, method);
+            if (existing != null) {
+                if (existing.getReturnType() != method.getReturnType()) {
+                    // covariant returns would need bridge methods
+                    return null;
+                }
+                continue;
+            }
+            if (!isPublic(method.getReturnType())) {
+                return null;
+            }
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        String name = method.getName();
+        int parameterCount = method.getParameterCount();
+        return ("equals".equals(name) && parameterCount == 1 && method.getParameterTypes()[0] == Object.class)
+                || ("hashCode".equals(name) && parameterCount == 0)
+                || ("toString".equals(name) && parameterCount == 0);
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        for (Class<?> current = type; current != null; current = current.getDeclaringClass()) {
+            if (!current.isPrimitive() && !Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Defines one proxy class, delegating everything else to the interface's class loader.
+     */
+    private static final class ProxyClassLoader extends ClassLoader {
+
+        ProxyClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] classFile) {
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+    }
+}
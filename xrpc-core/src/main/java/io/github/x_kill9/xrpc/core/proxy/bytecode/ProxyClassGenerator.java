@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.proxy.bytecode;
+
+import io.github.x_kill9.xrpc.core.proxy.InvocationPlan;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Writes the class file of a proxy for one service interface.
+ *
+ * <p>For the {@code i}-th proxied method the class holds the plan in a static final field
+ * {@code plan$i}, set by the static initializer from {@link ProxyRuntime#takePlans(String)}.
+ * The method boxes its arguments into an array, calls {@link InvocationPlan#invoke(Object[])}
+ * on that field and unboxes the result, so each method is a monomorphic call on a constant the
+ * JIT can inline through. {@code equals}, {@code hashCode} and {@code toString} are implemented
+ * directly, with the identity semantics of a JDK proxy.
+ *
+ * @author x-kill9
+ */
+final class ProxyClassGenerator {
+
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String PLAN = Type.getInternalName(InvocationPlan.class);
+    private static final String PLAN_DESCRIPTOR = Type.getDescriptor(InvocationPlan.class);
+    private static final String RUNTIME = Type.getInternalName(ProxyRuntime.class);
+    private static final String INVOKE_DESCRIPTOR = "([Ljava/lang/Object;)Ljava/lang/Object;";
+
+    private ProxyClassGenerator() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Generates the proxy class.
+     *
+     * @param className      the binary name of the class
+     * @param interfaceClass the service interface
+     * @param methods        the proxied methods, in the order of their plans
+     * @return the class file
+     */
+    static byte[] generate(String className, Class<?> interfaceClass, List<Method> methods) {
+        String internalName = className.replace('.', '/');
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+                internalName, null, OBJECT, new String[]{Type.getInternalName(interfaceClass)});
+
+        for (int i = 0; i < methods.size(); i++) {
+            writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL,
+                    planField(i), PLAN_DESCRIPTOR, null, null).visitEnd();
+        }
+        writeStaticInitializer(writer, className, internalName, methods.size());
+        writeConstructor(writer);
+        for (int i = 0; i < methods.size(); i++) {
+            writeMethod(writer, internalName, i, methods.get(i));
+        }
+        writeObjectMethods(writer);
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void writeStaticInitializer(ClassWriter writer, String className, String internalName, int count) {
+        MethodVisitor mv = writer.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+        mv.visitCode();
+        mv.visitLdcInsn(className);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, RUNTIME, "takePlans",
+                "(Ljava/lang/String;)[" + PLAN_DESCRIPTOR, false);
+        for (int i = 0; i < count; i++) {
+            mv.visitInsn(Opcodes.DUP);
+            pushInt(mv, i);
+            mv.visitInsn(Opcodes.AALOAD);
+            mv.visitFieldInsn(Opcodes.PUTSTATIC, internalName, planField(i), PLAN_DESCRIPTOR);
+        }
+        mv.visitInsn(Opcodes.POP);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void writeConstructor(ClassWriter writer) {
+        MethodVisitor mv = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void writeMethod(ClassWriter writer, String internalName, int index, Method method) {
+        Class<?>[] exceptionTypes = method.getExceptionTypes();
+        String[] exceptions = new String[exceptionTypes.length];
+        for (int i = 0; i < exceptions.length; i++) {
+            exceptions[i] = Type.getInternalName(exceptionTypes[i]);
+        }
+        MethodVisitor mv = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, method.getName(),
+                Type.getMethodDescriptor(method), null, exceptions);
+        mv.visitCode();
+        mv.visitFieldInsn(Opcodes.GETSTATIC, internalName, planField(index), PLAN_DESCRIPTOR);
+
+        Type[] parameterTypes = Type.getArgumentTypes(method);
+        if (parameterTypes.length == 0) {
+            // a JDK proxy passes null for no arguments as well
+            mv.visitInsn(Opcodes.ACONST_NULL);
+        } else {
+            pushInt(mv, parameterTypes.length);
+            mv.visitTypeInsn(Opcodes.ANEWARRAY, OBJECT);
+            int slot = 1;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                mv.visitInsn(Opcodes.DUP);
+                pushInt(mv, i);
+                mv.visitVarInsn(parameterTypes[i].getOpcode(Opcodes.ILOAD), slot);
+                box(mv, parameterTypes[i]);
+                mv.visitInsn(Opcodes.AASTORE);
+                slot += parameterTypes[i].getSize();
+            }
+        }
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, PLAN, "invoke", INVOKE_DESCRIPTOR, false);
+
+        Type returnType = Type.getReturnType(method);
+        if (returnType.getSort() == Type.VOID) {
+            mv.visitInsn(Opcodes.POP);
+            mv.visitInsn(Opcodes.RETURN);
+        } else {
+            unbox(mv, returnType);
+            mv.visitInsn(returnType.getOpcode(Opcodes.IRETURN));
+        }
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void writeObjectMethods(ClassWriter writer) {
+        MethodVisitor mv = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, "equals",
+                "(Ljava/lang/Object;)Z", null, null);
+        mv.visitCode();
+        Label notSame = new Label();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitJumpInsn(Opcodes.IF_ACMPNE, notSame);
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitLabel(notSame);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, "hashCode", "()I", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/System", "identityHashCode", "(Ljava/lang/Object;)I", false);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, "toString", "()Ljava/lang/String;", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, RUNTIME, "toString", "(Ljava/lang/Object;)Ljava/lang/String;", false);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void box(MethodVisitor mv, Type type) {
+        Type boxed = boxedType(type);
+        if (boxed != null) {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, boxed.getInternalName(), "valueOf",
+                    Type.getMethodDescriptor(boxed, type), false);
+        }
+    }
+
+    private static void unbox(MethodVisitor mv, Type type) {
+        Type boxed = boxedType(type);
+        if (boxed == null) {
+            mv.visitTypeInsn(Opcodes.CHECKCAST, type.getInternalName());
+            return;
+        }
+        mv.visitTypeInsn(Opcodes.CHECKCAST, boxed.getInternalName());
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, boxed.getInternalName(), type.getClassName() + "Value",
+                Type.getMethodDescriptor(type), false);
+    }
+
+    private static Type boxedType(Type type) {
+        return switch (type.getSort()) {
+            case Type.BOOLEAN -> Type.getType(Boolean.class);
+            case Type.CHAR -> Type.getType(Character.class);
+            case Type.BYTE -> Type.getType(Byte.class);
+            case Type.SHORT -> Type.getType(Short.class);
+            case Type.INT -> Type.getType(Integer.class);
+            case Type.FLOAT -> Type.getType(Float.class);
+            case Type.LONG -> Type.getType(Long.class);
+            case Type.DOUBLE -> Type.getType(Double.class);
+            default -> null;
+        };
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        } else {
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        }
+    }
+
+    private static String planField(int index) {
+        return "plan$" + index;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.proxy.bytecode;
+
+import io.github.x_kill9.xrpc.core.proxy.InvocationPlan;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entry points called by the proxy classes that {@link BytecodeProxyFactory} generates.
+ *
+ * <p>Public only because generated classes live in their own class loader; not for use by
+ * applications.
+ *
+ * @author x-kill9
+ */
+public final class ProxyRuntime {
+
+    // generated class name -> plans its static initializer has yet to take
+    private static final Map<String, InvocationPlan[]> PENDING_PLANS = new ConcurrentHashMap<>();
+
+    private ProxyRuntime() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Hands the plans of a proxy class to its static initializer.
+     *
+     * @param className the generated class name
+     * @return the plans, in the order of the class's plan fields
+     * @throws IllegalStateException if no plans were offered for the class
+     */
+    public static InvocationPlan[] takePlans(String className) {
+        InvocationPlan[] plans = PENDING_PLANS.remove(className);
+        if (plans == null) {
+            throw new IllegalStateException("No invocation plans for proxy class " + className);
+        }
+        return plans;
+    }
+
+    /**
+     * Returns the {@code toString} of a proxy, the same as for a JDK proxy.
+     *
+     * @param proxy the proxy
+     * @return the class name and identity hash code of the proxy
+     */
+    public static String toString(Object proxy) {
+        return proxy.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+    }
+
+    static void offerPlans(String className, InvocationPlan[] plans) {
+        PENDING_PLANS.put(className, plans);
+    }
+
+    static void withdrawPlans(String className) {
+        PENDING_PLANS.remove(className);
+    }
+}
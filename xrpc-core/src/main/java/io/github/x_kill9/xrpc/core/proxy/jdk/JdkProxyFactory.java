@@ -8,6 +8,7 @@ import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
 import io.github.x_kill9.xrpc.core.config.model.ClientConfig;
 import io.github.x_kill9.xrpc.core.invocation.interceptor.Interceptor;
 import io.github.x_kill9.xrpc.core.invocation.interceptor.factory.InterceptorFactory;
+import io.github.x_kill9.xrpc.core.proxy.ProxyFactories;
 import io.github.x_kill9.xrpc.core.proxy.ProxyFactory;
 import io.github.x_kill9.xrpc.core.transport.RpcClient;
 
@@ -64,9 +65,10 @@ public class JdkProxyFactory implements ProxyFactory {
     @SuppressWarnings("unchecked")
     private <T> T createProxy(Class<?> interfaceClass) {
         List<Interceptor<?>> interceptors = buildInterceptors();
+        ProxyFactories.registerServiceInterface(interfaceClass);
         return (T) Proxy.newProxyInstance(
                 interfaceClass.getClassLoader(),
-                new Class[]{interfaceClass},
+                new Class<?>[]{interfaceClass},
                 new RpcInvocationHandler(interfaceClass, client, interceptors)
         );
     }
@@ -4,33 +4,27 @@
  */
 package io.github.x_kill9.xrpc.core.proxy.jdk;
 
-import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
-import io.github.x_kill9.xrpc.core.config.model.ClientConfig;
-import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
-import io.github.x_kill9.xrpc.core.invocation.context.InvocationContextBuilder;
 import io.github.x_kill9.xrpc.core.invocation.interceptor.Interceptor;
-import io.github.x_kill9.xrpc.core.invocation.interceptor.InterceptorChain;
-import io.github.x_kill9.xrpc.core.invocation.interceptor.TargetInvoker;
-import io.github.x_kill9.xrpc.core.message.Request;
-import io.github.x_kill9.xrpc.core.message.Response;
-import io.github.x_kill9.xrpc.core.protocol.request.RequestBuilder;
-import io.github.x_kill9.xrpc.core.protocol.response.ResponseParser;
+import io.github.x_kill9.xrpc.core.proxy.InvocationPlan;
 import io.github.x_kill9.xrpc.core.transport.RpcClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link InvocationHandler} implementation for JDK dynamic proxies.
  *
  * <p>Handles method calls on the proxy by passing them through an interceptor chain
- * and finally sending the request via {@link RpcClient}. Methods inherited from
- * {@link Object} (equals, hashCode, toString) are handled locally.
+ * and finally sending the request via {@link RpcClient}, using the {@link InvocationPlan}
+ * of each interface method built with the handler, so that invalid call settings surface
+ * when the proxy is created. Methods inherited from {@link Object}
+ * (equals, hashCode, toString) are handled locally.
  *
  * @author x-kill9
  */
@@ -41,6 +35,7 @@ public class RpcInvocationHandler implements InvocationHandler {
     private final Class<?> interfaceClass;
     private final RpcClient client;
     private final List<Interceptor<?>> interceptors;
+    private final Map<Method, InvocationPlan> plans = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new invocation handler.
@@ -53,29 +48,24 @@ public class RpcInvocationHandler implements InvocationHandler {
         this.interfaceClass = interfaceClass;
         this.client = client;
         this.interceptors = interceptors;
+        for (Method method : interfaceClass.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers())) {
+                plans.put(method, new InvocationPlan(interfaceClass, method, client, interceptors));
+            }
+        }
         logger.debug("RpcInvocationHandler created for interface: {}", interfaceClass.getName());
     }
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        logger.trace("Invoking method: {}.{} with {} args",
-                interfaceClass.getSimpleName(), method.getName(), args != null ? args.length : 0);
-
         // Handle methods from Object class locally
         if (method.getDeclaringClass() == Object.class) {
             return handleObjectMethod(proxy, method, args);
         }
 
-        ClientConfig clientConfig = ConfigFactory.getConfig().getClient();
-        InvocationContext context = InvocationContextBuilder.build(interfaceClass, method, args);
-        TargetInvoker targetInvoker = buildTargetInvoker(method, args, clientConfig.getCallTimeout());
-
-        logger.debug("Starting interceptor chain execution for {}.{}", interfaceClass.getSimpleName(), method.getName());
-        InterceptorChain chain = new InterceptorChain(interceptors, targetInvoker);
-        Object result = chain.proceed(context);
-
-        logger.trace("Method {}.{} executed successfully", interfaceClass.getSimpleName(), method.getName());
-        return result;
+        InvocationPlan plan = plans.computeIfAbsent(method,
+                m -> new InvocationPlan(interfaceClass, m, client, interceptors));
+        return plan.invoke(args);
     }
 
     /**
@@ -98,31 +88,4 @@ public class RpcInvocationHandler implements InvocationHandler {
             default -> throw new UnsupportedOperationException("Unsupported Object method: " + methodName);
         };
     }
-
-    /**
-     * Creates the {@link TargetInvoker} that will actually send the request.
-     *
-     * @param method      the method being invoked
-     * @param args        the method arguments
-     * @param callTimeout the call timeout in milliseconds
-     * @return a target invoker that sends the request and returns the parsed response
-     */
-    private TargetInvoker buildTargetInvoker(Method method, Object[] args, int callTimeout) {
-        return context -> {
-            logger.trace("Building request for method: {}", method.getName());
-            Request request = RequestBuilder.buildRequest(interfaceClass, method, args);
-
-            logger.debug("Sending RPC request - service: {}, method: {}", interfaceClass.getName(), method.getName());
-            long start = System.currentTimeMillis();
-
-            CompletableFuture<Response> future = client.sendRequest(request, context);
-            logger.trace("Request sent, waiting for response with timeout: {}ms", callTimeout);
-
-            Response response = future.get(callTimeout, TimeUnit.MILLISECONDS);
-            long cost = System.currentTimeMillis() - start;
-            logger.debug("Received response, status: {}, cost: {}ms", response.getStatus(), cost);
-
-            return ResponseParser.parse(response);
-        };
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.serialize;
+
+/**
+ * Receiving half of a connection-scoped string table, filled by the definitions an
+ * {@link OutboundStringTable} sends ahead of each message body.
+ *
+ * <p>A message body is read against the {@link Snapshot} taken right after its definitions
+ * were applied, so a body decoded later, such as the lazily decoded arguments of a request,
+ * is not affected by definitions of subsequent messages. Slots are copied on write only when a
+ * message redefines them, which is rare once the table has warmed up. Decoded strings are the
+ * instances held by the table, so repeated strings are not allocated again.
+ *
+ * <p>Not thread-safe for definitions: a table belongs to one connection and is filled by one
+ * thread. Snapshots are immutable and may be read by any thread.
+ *
+ * @author x-kill9
+ */
+public final class InboundStringTable {
+
+    private String[] slots;
+    private Snapshot snapshot;
+
+    /**
+     * @param capacity the number of slots, as agreed with the peer
+     */
+    public InboundStringTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("String table capacity must be positive: " + capacity);
+        }
+        this.slots = new String[capacity];
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Stores a string at a slot.
+     *
+     * @param slot  the slot
+     * @param value the string
+     * @throws IllegalArgumentException if the slot is out of range
+     */
+    public void define(int slot, String value) {
+        if (slot < 0 || slot >= slots.length) {
+            throw new IllegalArgumentException("String table slot " + slot + " out of range 0.." + (slots.length - 1));
+        }
+        if (snapshot != null) {
+            // the current slots are shared by an earlier snapshot
+            slots = slots.clone();
+            snapshot = null;
+        }
+        slots[slot] = value;
+    }
+
+    /**
+     * Returns the table as of the definitions applied so far.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = new Snapshot(slots);
+        }
+        return snapshot;
+    }
+
+    /**
+     * An immutable view of the table, against which one message body is read.
+     */
+    public static final class Snapshot {
+        private final String[] slots;
+
+        private Snapshot(String[] slots) {
+            this.slots = slots;
+        }
+
+        /**
+         * Returns the string at a slot.
+         *
+         * @param slot the slot
+         * @return the string
+         * @throws IllegalArgumentException if the slot is out of range or was never defined
+         */
+        public String get(int slot) {
+            String value = slot >= 0 && slot < slots.length ? slots[slot] : null;
+            if (value == null) {
+                throw new IllegalArgumentException("Undefined string table slot: " + slot);
+            }
+            return value;
+        }
+    }
+}
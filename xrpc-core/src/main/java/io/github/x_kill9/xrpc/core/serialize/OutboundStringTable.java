@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.serialize;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sending half of a connection-scoped string table.
+ *
+ * <p>The sender alone decides which string occupies which slot, evicting the least recently
+ * used string when the table is full. The strings a message newly places in the table are sent
+ * ahead of its body as definitions, and the receiving {@link InboundStringTable} simply stores
+ * them at the given slots, so both halves stay in sync without an eviction policy of their own.
+ * This requires messages to be serialized in the order they are written to the connection.
+ *
+ * <p>A slot used by the current message is never reassigned within that message, since the
+ * receiver applies all definitions before it reads the body. Strings that find no free slot,
+ * and strings longer than {@link #MAX_STRING_LENGTH}, are written inline.
+ *
+ * <p>Not thread-safe: a table belongs to one connection and is used by one thread at a time.
+ *
+ * @author x-kill9
+ */
+public final class OutboundStringTable {
+
+    /**
+     * Longest string, in characters, that is placed in the table.
+     */
+    public static final int MAX_STRING_LENGTH = 256;
+
+    private final int capacity;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final List<Definition> definitions = new ArrayList<>();
+    private int nextSlot;
+    private long message;
+
+    /**
+     * @param capacity the number of slots, as agreed with the peer
+     */
+    public OutboundStringTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("String table capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Starts a new message, discarding the definitions of the previous one.
+     */
+    public void beginMessage() {
+        message++;
+        definitions.clear();
+    }
+
+    /**
+     * Returns the slot of a string, placing it in the table if it is not there yet.
+     *
+     * @param value the string
+     * @return the slot, or {@code -1} if the string is to be written inline
+     */
+    public int slotOf(String value) {
+        if (value == null || value.isEmpty() || value.length() > MAX_STRING_LENGTH) {
+            return -1;
+        }
+        Entry entry = entries.get(value);
+        if (entry != null) {
+            entry.message = message;
+            return entry.slot;
+        }
+        int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.poll();
+        } else if (nextSlot < capacity) {
+            slot = nextSlot++;
+        } else {
+            Iterator<Entry> eldest = entries.values().iterator();
+            Entry evicted = eldest.next();
+            if (evicted.message == message) {
+                // every slot is used by this message
+                return -1;
+            }
+            eldest.remove();
+            slot = evicted.slot;
+        }
+        entries.put(value, new Entry(slot, message));
+        definitions.add(new Definition(slot, value));
+        return slot;
+    }
+
+    /**
+     * Returns the strings the current message placed in the table, in order.
+     *
+     * @return the definitions
+     */
+    public List<Definition> getDefinitions() {
+        return definitions;
+    }
+
+    /**
+     * Forgets the definitions of the current message, which will not be sent.
+     *
+     * <p>Their slots are freed; strings they evicted stay forgotten, which is safe because the
+     * sender only ever refers to strings it still has.
+     */
+    public void abortMessage() {
+        for (Definition definition : definitions) {
+            entries.remove(definition.getValue());
+            freeSlots.add(definition.getSlot());
+        }
+        definitions.clear();
+    }
+
+    private static final class Entry {
+        private final int slot;
+        private long message;
+
+        private Entry(int slot, long message) {
+            this.slot = slot;
+            this.message = message;
+        }
+    }
+
+    /**
+     * A string placed at a slot by the current message.
+     */
+    public static final class Definition {
+        private final int slot;
+        private final String value;
+
+        Definition(int slot, String value) {
+            this.slot = slot;
+            this.value = value;
+        }
+
+        public int getSlot() {
+            return slot;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -4,6 +4,9 @@
  */
 package io.github.x_kill9.xrpc.core.serialize;
 
+import io.github.x_kill9.xrpc.core.message.Request;
+import io.github.x_kill9.xrpc.core.message.StagedRequest;
+
 import java.io.IOException;
 
 /**
@@ -36,6 +39,111 @@ public interface Serializer {
      */
     <T> T deserialize(byte[] bytes, Class<T> clazz) throws IOException;
 
+    /**
+     * Decodes the routing part of a request, leaving the arguments for later.
+     *
+     * <p>Serializers whose format allows reading the interface, method and parameter types
+     * without the arguments override this; the default implementation decodes the whole request.
+     *
+     * @param bytes the serialized request
+     * @return the staged request
+     * @throws IOException if the routing part cannot be decoded
+     */
+    default StagedRequest deserializeRequest(byte[] bytes) throws IOException {
+        return new StagedRequest(deserialize(bytes, Request.class));
+    }
+
+    /**
+     * Returns whether this serializer can write strings as slots of a connection-scoped string table.
+     *
+     * <p>Serializers that return {@code true} override the table-aware variants of
+     * {@link #serialize(Object, OutboundStringTable)}, {@link #deserialize(byte[], Class, InboundStringTable.Snapshot)}
+     * and {@link #deserializeRequest(byte[], InboundStringTable.Snapshot)}. The default is {@code false}.
+     *
+     * @return {@code true} if string tables are supported
+     */
+    default boolean supportsStringTable() {
+        return false;
+    }
+
+    /**
+     * Serializes the given object, writing strings held by the table as their slot.
+     *
+     * <p>The caller starts a message on the table before and sends the table's definitions ahead of
+     * the returned bytes. The default implementation ignores the table.
+     *
+     * @param obj     the object to serialize
+     * @param strings the sending string table of the connection
+     * @return the serialized byte array
+     * @throws IOException if serialization fails
+     */
+    default byte[] serialize(Object obj, OutboundStringTable strings) throws IOException {
+        return serialize(obj);
+    }
+
+    /**
+     * Deserializes bytes written by {@link #serialize(Object, OutboundStringTable)}.
+     *
+     * @param bytes   the byte array to deserialize
+     * @param clazz   the target class
+     * @param strings the string table the bytes refer to, or {@code null} if they were written without one
+     * @param <T>     the type of the result
+     * @return the deserialized object
+     * @throws IOException if deserialization fails
+     */
+    default <T> T deserialize(byte[] bytes, Class<T> clazz, InboundStringTable.Snapshot strings) throws IOException {
+        return deserialize(bytes, clazz);
+    }
+
+    /**
+     * Decodes the routing part of a request written by {@link #serialize(Object, OutboundStringTable)}.
+     *
+     * @param bytes   the serialized request
+     * @param strings the string table the bytes refer to, or {@code null} if they were written without one
+     * @return the staged request
+     * @throws IOException if the routing part cannot be decoded
+     */
+    default StagedRequest deserializeRequest(byte[] bytes, InboundStringTable.Snapshot strings) throws IOException {
+        return deserializeRequest(bytes);
+    }
+
+    /**
+     * Returns whether arguments are written with their runtime type, so that a large
+     * {@code byte[]} argument can be replaced by a {@link io.github.x_kill9.xrpc.core.message.BlobRef}.
+     *
+     * <p>Serializers that decode arguments by their declared parameter type return {@code false},
+     * which is the default.
+     *
+     * @return {@code true} if blob references can be sent
+     */
+    default boolean supportsBlobReferences() {
+        return false;
+    }
+
+    /**
+     * Returns whether a {@link io.github.x_kill9.xrpc.core.columnar.ColumnarList} result is written
+     * field by field, so that it reaches the consumer as the same list rather than row by row.
+     *
+     * <p>The default is {@code false}, which leaves results of
+     * {@link io.github.x_kill9.xrpc.core.columnar.ColumnarResponse} methods as the provider returned them.
+     *
+     * @return {@code true} if columnar results can be sent
+     */
+    default boolean supportsColumnarLists() {
+        return false;
+    }
+
+    /**
+     * Notifies the serializer of a service interface that will be exported or referenced.
+     *
+     * <p>Serializers that support class registration can use this hook to pre-register the
+     * classes used by the interface's methods. The default implementation does nothing.
+     *
+     * @param interfaceClass the service interface
+     */
+    default void registerServiceInterface(Class<?> interfaceClass) {
+    }
+
     /**
      * Returns the unique type ID of this serializer.
      *
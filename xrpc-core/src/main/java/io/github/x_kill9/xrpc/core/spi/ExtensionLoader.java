@@ -89,10 +89,12 @@ public class ExtensionLoader<T> {
     /**
      * Creates a new extension instance with the given name and varargs constructor parameters.
      *
+     * <p>The first public constructor whose parameters accept the given arguments is used.
+     *
      * @param name the extension name
      * @param args constructor arguments (optional)
      * @return a new instance
-     * @throws XRpcException if instantiation fails
+     * @throws XRpcException if no constructor accepts the arguments or instantiation fails
      */
     @SuppressWarnings("unchecked")
     public T newExtension(String name, Object... args) {
@@ -103,14 +105,34 @@ public class ExtensionLoader<T> {
         }
         try {
             if (args.length > 0) {
-                return (T) clazz.getDeclaredConstructor().newInstance(args);
+                return (T) constructorFor(clazz, args).newInstance(args);
             }
             return (T) clazz.getDeclaredConstructor().newInstance();
+        } catch (XRpcException e) {
+            throw e;
         } catch (Exception e) {
             throw new XRpcException("Failed to create extension instance for: " + name, e);
         }
     }
 
+    private static Constructor<?> constructorFor(Class<?> clazz, Object[] args) {
+        for (Constructor<?> constructor : clazz.getConstructors()) {
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            if (parameterTypes.length != args.length) {
+                continue;
+            }
+            boolean accepts = true;
+            for (int i = 0; i < args.length && accepts; i++) {
+                accepts = args[i] == null ? !parameterTypes[i].isPrimitive() : parameterTypes[i].isInstance(args[i]);
+            }
+            if (accepts) {
+                return constructor;
+            }
+        }
+        throw new XRpcException("Extension " + clazz.getName() + " has no public constructor accepting "
+                + args.length + " given arguments");
+    }
+
     /**
      * Creates a new extension instance with the given name and a map of parameters.
      *
@@ -5,6 +5,7 @@
 package io.github.x_kill9.xrpc.core.transport;
 
 import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
+import io.github.x_kill9.xrpc.core.message.RawPayload;
 import io.github.x_kill9.xrpc.core.message.Request;
 import io.github.x_kill9.xrpc.core.message.Response;
 
@@ -30,4 +31,21 @@ public interface RpcClient {
      * @throws IOException if an I/O error occurs while sending the request
      */
     CompletableFuture<Response> sendRequest(Request request, InvocationContext context) throws IOException;
+
+    /**
+     * Forwards an already serialized request body and returns the response body unparsed.
+     *
+     * <p>The body is sent as is with its serialize type; the provider answers with the same
+     * serialize type. Gateways and proxies use this to relay calls without deserializing and
+     * re-serializing arguments and results. Responses that cannot be relayed as a plain body,
+     * array results and deltas diffed against a base, fail the future with an {@link IOException}.
+     *
+     * @param interfaceName the service interface the body is addressed to, used for discovery
+     * @param payload       the serialized request body
+     * @param context       the invocation context (may contain additional metadata)
+     * @return a {@link CompletableFuture} that will complete with the serialized response body
+     * @throws IOException if an I/O error occurs while sending the request
+     */
+    CompletableFuture<RawPayload> sendRawRequest(String interfaceName, RawPayload payload, InvocationContext context)
+            throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.util;
+
+import java.lang.reflect.Method;
+
+/**
+ * Looks up service interface methods from the names carried by a request.
+ *
+ * @author x-kill9
+ */
+public final class ServiceMethods {
+
+    private ServiceMethods() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the key identifying a service method.
+     *
+     * @param interfaceName  the interface name
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @return the method key
+     */
+    public static String methodKey(String interfaceName, String methodName, Class<?>[] parameterTypes) {
+        StringBuilder key = new StringBuilder(interfaceName).append('#').append(methodName).append('(');
+        if (parameterTypes != null) {
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (i > 0) {
+                    key.append(',');
+                }
+                key.append(parameterTypes[i].getName());
+            }
+        }
+        return key.append(')').toString();
+    }
+
+    /**
+     * Returns the named interface among {@code type} and the types it implements or extends.
+     *
+     * @param type          the interface itself or a service implementation, may be {@code null}
+     * @param interfaceName the interface name
+     * @return the interface, or {@code null} if {@code type} does not implement it
+     */
+    public static Class<?> findInterface(Class<?> type, String interfaceName) {
+        if (type == null) {
+            return null;
+        }
+        if (type.getName().equals(interfaceName)) {
+            return type;
+        }
+        for (Class<?> implemented : type.getInterfaces()) {
+            Class<?> found = findInterface(implemented, interfaceName);
+            if (found != null) {
+                return found;
+            }
+        }
+        return findInterface(type.getSuperclass(), interfaceName);
+    }
+
+    /**
+     * Returns the method of the named interface implemented or extended by {@code type}, where
+     * annotations such as {@link io.github.x_kill9.xrpc.core.delta.DeltaResponse} are declared.
+     *
+     * @param type           the interface itself or a service implementation, may be {@code null}
+     * @param interfaceName  the interface name
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @return the interface method, or {@code null} if there is none
+     */
+    public static Method findInterfaceMethod(Class<?> type, String interfaceName, String methodName,
+                                             Class<?>[] parameterTypes) {
+        Class<?> interfaceClass = findInterface(type, interfaceName);
+        if (interfaceClass == null) {
+            return null;
+        }
+        try {
+            return interfaceClass.getMethod(methodName, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
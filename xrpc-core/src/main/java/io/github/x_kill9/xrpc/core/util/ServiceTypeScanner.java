@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.core.util;
+
+import io.github.x_kill9.xrpc.core.columnar.ColumnarList;
+import io.github.x_kill9.xrpc.core.columnar.ColumnarResponse;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utility to discover the application classes that travel over the wire for a service interface.
+ *
+ * <p>Starting from the parameter and return types of every method (including generic type
+ * arguments such as the {@code Dto} in {@code List<Dto>}), the scanner walks the declared
+ * field types of each class it finds. JDK classes, primitives, interfaces and abstract
+ * classes are not reported, but array classes of reported types are. Methods annotated with
+ * {@link ColumnarResponse} also report {@link ColumnarList}, which replaces their results.
+ *
+ * <p>The result is sorted by class name, so serializers that derive registration IDs from it
+ * produce the same registrations on every peer.
+ *
+ * @author x-kill9
+ */
+public final class ServiceTypeScanner {
+
+    private ServiceTypeScanner() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Collects the concrete application classes reachable from the methods of the given interface.
+     *
+     * @param interfaceClass the service interface
+     * @return the discovered classes, sorted by name
+     */
+    public static List<Class<?>> scan(Class<?> interfaceClass) {
+        Set<Class<?>> result = new HashSet<>();
+        Set<Type> visited = new HashSet<>();
+        Deque<Type> pending = new ArrayDeque<>();
+
+        for (Method method : interfaceClass.getMethods()) {
+            if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            pending.add(method.getGenericReturnType());
+            if (method.isAnnotationPresent(ColumnarResponse.class)) {
+                pending.add(ColumnarList.class);
+            }
+            for (Type type : method.getGenericParameterTypes()) {
+                pending.add(type);
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            Type type = pending.poll();
+            if (!visited.add(type)) {
+                continue;
+            }
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) type;
+                pending.add(parameterized.getRawType());
+                for (Type argument : parameterized.getActualTypeArguments()) {
+                    pending.add(argument);
+                }
+            } else if (type instanceof GenericArrayType) {
+                pending.add(((GenericArrayType) type).getGenericComponentType());
+            } else if (type instanceof WildcardType) {
+                for (Type bound : ((WildcardType) type).getUpperBounds()) {
+                    pending.add(bound);
+                }
+            } else if (type instanceof Class) {
+                Class<?> clazz = (Class<?>) type;
+                if (clazz.isArray()) {
+                    Class<?> component = clazz.getComponentType();
+                    if (isApplicationClass(component)) {
+                        result.add(clazz);
+                    }
+                    pending.add(component);
+                    continue;
+                }
+                if (!isApplicationClass(clazz)) {
+                    continue;
+                }
+                if (!clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())) {
+                    result.add(clazz);
+                }
+                for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+                    for (Field field : current.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                            pending.add(field.getGenericType());
+                        }
+                    }
+                }
+            }
+        }
+
+        return result.stream()
+                .sorted(Comparator.comparing(Class::getName))
+                .toList();
+    }
+
+    private static boolean isApplicationClass(Class<?> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray()) {
+            return false;
+        }
+        String name = clazz.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("jdk.")
+                && !name.startsWith("sun.");
+    }
+}
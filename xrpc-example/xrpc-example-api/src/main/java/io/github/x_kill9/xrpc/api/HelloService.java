@@ -4,6 +4,9 @@
  */
 package io.github.x_kill9.xrpc.api;
 
+import io.github.x_kill9.xrpc.core.codec.FlyweightCodec;
+
+@FlyweightCodec
 public interface HelloService {
     String sayHello();
 }
\ No newline at end of file
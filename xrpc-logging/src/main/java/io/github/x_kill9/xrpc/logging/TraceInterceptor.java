@@ -5,23 +5,27 @@
 package io.github.x_kill9.xrpc.logging;
 
 import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
-import io.github.x_kill9.xrpc.core.invocation.interceptor.Interceptor;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.AsyncInterceptor;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.AsyncInterceptorChain;
 import io.github.x_kill9.xrpc.core.invocation.interceptor.InterceptorChain;
 import io.github.x_kill9.xrpc.logging.config.TraceConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Interceptor that logs method invocation details, including execution time,
  * arguments (optional), result (optional), and errors.
  *
- * <p>The logging behavior is controlled by {@link TraceConfig}.
+ * <p>The logging behavior is controlled by {@link TraceConfig}. Asynchronous calls are logged
+ * when their stage completes, so the cost covers the whole remote call.
  *
  * @author x-kill9
  */
-public class TraceInterceptor implements Interceptor<TraceConfig> {
+public class TraceInterceptor implements AsyncInterceptor<TraceConfig> {
 
     private static final Logger logger = LoggerFactory.getLogger(TraceInterceptor.class);
 
@@ -50,34 +54,59 @@ public class TraceInterceptor implements Interceptor<TraceConfig> {
     @Override
     public Object intercept(InvocationContext context, InterceptorChain chain) throws Throwable {
         long start = System.currentTimeMillis();
-        String interfaceName = context.getInterfaceClass().getName();
-        String methodName = context.getMethod().getName();
+        String logPrefix = logPrefix(context);
+        try {
+            Object result = chain.proceed(context);
+            logSuccess(logPrefix, context, start, result);
+            return result;
+        } catch (Throwable t) {
+            logFailure(logPrefix, context, start, t);
+            throw t;
+        }
+    }
 
+    @Override
+    public CompletionStage<Object> interceptAsync(InvocationContext context, AsyncInterceptorChain chain) {
+        long start = System.currentTimeMillis();
+        String logPrefix = logPrefix(context);
+        return chain.proceed(context).whenComplete((result, error) -> {
+            if (error == null) {
+                logSuccess(logPrefix, context, start, result);
+            } else {
+                logFailure(logPrefix, context, start, error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        });
+    }
+
+    private String logPrefix(InvocationContext context) {
         StringBuilder logPrefix = new StringBuilder();
         if (config.isLogArgs()) {
             Object[] args = context.getArgs();
             logPrefix.append("args=").append(Arrays.toString(args)).append(" ");
         }
+        return logPrefix.toString();
+    }
 
-        try {
-            Object result = chain.proceed(context);
-            long cost = System.currentTimeMillis() - start;
-            if (config.isLogResult()) {
-                logWithLevel("{}Invoke {}.{} success, cost: {}ms, result: {}",
-                        logPrefix.toString(), interfaceName, methodName, cost, result);
-            } else {
-                logWithLevel("{}Invoke {}.{} success, cost: {}ms",
-                        logPrefix.toString(), interfaceName, methodName, cost);
-            }
-            return result;
-        } catch (Throwable t) {
-            long cost = System.currentTimeMillis() - start;
-            logWithLevel("{}Invoke {}.{} failed, cost: {}ms, error: {}",
-                    logPrefix.toString(), interfaceName, methodName, cost, t.getMessage());
-            throw t;
+    private void logSuccess(String logPrefix, InvocationContext context, long start, Object result) {
+        long cost = System.currentTimeMillis() - start;
+        String interfaceName = context.getInterfaceClass().getName();
+        String methodName = context.getMethod().getName();
+        if (config.isLogResult()) {
+            logWithLevel("{}Invoke {}.{} success, cost: {}ms, result: {}",
+                    logPrefix, interfaceName, methodName, cost, result);
+        } else {
+            logWithLevel("{}Invoke {}.{} success, cost: {}ms",
+                    logPrefix, interfaceName, methodName, cost);
         }
     }
 
+    private void logFailure(String logPrefix, InvocationContext context, long start, Throwable t) {
+        long cost = System.currentTimeMillis() - start;
+        logWithLevel("{}Invoke {}.{} failed, cost: {}ms, error: {}",
+                logPrefix, context.getInterfaceClass().getName(), context.getMethod().getName(), cost, t.getMessage());
+    }
+
     /**
      * Logs a message at the level specified in the configuration.
      *
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.netty.client;
+
+import io.github.x_kill9.xrpc.core.message.BlobRef;
+import io.github.x_kill9.xrpc.core.message.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces large {@code byte[]} arguments by {@link BlobRef}s.
+ *
+ * <p>For each provider address it remembers the digests of the blobs already sent with their
+ * content, so a blob travels in full only the first time. Blobs larger than the blob cache the
+ * provider publishes are never remembered, since the provider does not keep them. The memory is
+ * still a guess, as the provider may have evicted a blob or lost it with a closed connection: it
+ * then answers with {@link io.github.x_kill9.xrpc.core.constants.StatusCodes#BLOB_NOT_FOUND}, the
+ * digests of the request are {@link #forget forgotten} and the request is resent with all blob
+ * contents inlined.
+ *
+ * @author x-kill9
+ */
+class BlobDeduplicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlobDeduplicator.class);
+
+    private static final int MAX_TRACKED_DIGESTS = 1024;
+
+    private final int threshold;
+    private final Map<String, Set<ByteBuffer>> sentDigests = new ConcurrentHashMap<>();
+
+    BlobDeduplicator(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the request to send to the given provider, with large blob arguments replaced.
+     *
+     * @param request    the original request, which is not modified
+     * @param address    the provider address
+     * @param cacheBytes the blob cache size of the provider; larger blobs are always inlined
+     * @param inline     whether to include the content of every blob, as after a cache miss
+     * @return a copy with blob references, or the original request if it has no large blob
+     */
+    Request apply(Request request, String address, long cacheBytes, boolean inline) {
+        Object[] parameters = request.getParameters();
+        if (parameters == null) {
+            return request;
+        }
+        Object[] replaced = null;
+        for (int i = 0; i < parameters.length; i++) {
+            if (!(parameters[i] instanceof byte[]) || ((byte[]) parameters[i]).length < threshold) {
+                continue;
+            }
+            if (replaced == null) {
+                replaced = parameters.clone();
+            }
+            byte[] data = (byte[]) parameters[i];
+            byte[] digest = BlobRef.digest(data);
+            boolean known = false;
+            if (data.length <= cacheBytes) {
+                Set<ByteBuffer> sent = sentDigests.computeIfAbsent(address, key -> newDigestSet());
+                known = !sent.add(ByteBuffer.wrap(digest)) && !inline;
+            }
+            replaced[i] = new BlobRef(digest, data.length, known ? null : data);
+            logger.trace("Blob argument {} of {} bytes sent to {} {}", i, data.length, address,
+                    known ? "by reference" : "with content");
+        }
+        if (replaced == null) {
+            return request;
+        }
+        return new Request(request.getInterfaceName(), request.getMethodName(), request.getParameterTypes(),
+                replaced, request.getAttachments());
+    }
+
+    /**
+     * Forgets the blobs of a request the provider answered with
+     * {@link io.github.x_kill9.xrpc.core.constants.StatusCodes#BLOB_NOT_FOUND}.
+     *
+     * @param request the original request
+     * @param address the provider address
+     */
+    void forget(Request request, String address) {
+        Set<ByteBuffer> sent = sentDigests.get(address);
+        if (sent == null || request.getParameters() == null) {
+            return;
+        }
+        for (Object parameter : request.getParameters()) {
+            if (parameter instanceof byte[] && ((byte[]) parameter).length >= threshold) {
+                sent.remove(ByteBuffer.wrap(BlobRef.digest((byte[]) parameter)));
+            }
+        }
+    }
+
+    private static Set<ByteBuffer> newDigestSet() {
+        return Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+                return size() > MAX_TRACKED_DIGESTS;
+            }
+        }));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.netty.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the last full response body received for each delta method and provider address.
+ *
+ * <p>The version held here is advertised with the next call, so the provider can answer with a
+ * delta against it. A request captures the base it advertised, so responses arriving out of
+ * order are still decoded against the right base; the last response to arrive becomes the base.
+ *
+ * @author x-kill9
+ */
+class DeltaBaseTracker {
+
+    private final Map<String, Base> bases = new ConcurrentHashMap<>();
+
+    Base get(String address, String methodKey) {
+        return bases.get(address + '|' + methodKey);
+    }
+
+    void update(String address, String methodKey, long version, byte[] body) {
+        bases.put(address + '|' + methodKey, new Base(version, body));
+    }
+
+    /**
+     * A response body and the version the provider assigned to it.
+     */
+    static final class Base {
+        final long version;
+        final byte[] body;
+
+        Base(long version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+    }
+}
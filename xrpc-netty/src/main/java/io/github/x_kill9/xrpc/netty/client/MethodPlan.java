@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.netty.client;
+
+import io.github.x_kill9.xrpc.core.codec.ServiceCodecs;
+import io.github.x_kill9.xrpc.core.config.call.CallSettings;
+import io.github.x_kill9.xrpc.core.delta.ResponseDeltas;
+import io.github.x_kill9.xrpc.core.enums.CompressType;
+import io.github.x_kill9.xrpc.core.enums.SerializeType;
+import io.github.x_kill9.xrpc.core.loadbalance.LoadBalancer;
+import io.github.x_kill9.xrpc.core.loadbalance.ServiceInstance;
+import io.github.x_kill9.xrpc.core.serialize.Serializer;
+import io.github.x_kill9.xrpc.core.spi.ExtensionLoader;
+import io.github.x_kill9.xrpc.serializer.factory.DefaultSerializerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Everything {@link NettyRpcClient} needs to send calls of one method, resolved on its first call.
+ *
+ * <p>The plan holds the serializer, load balancer, compression and oneway mode of the method's
+ * {@link CallSettings}, the view of the service's instances, whether the method has a flyweight
+ * codec or delta responses, and the protocol version, so a call does not go through the
+ * configuration or the extension loaders.
+ *
+ * @author x-kill9
+ */
+final class MethodPlan {
+
+    final String interfaceName;
+    final String methodName;
+    final ServiceView view;
+    final String loadBalancerName;
+    final LoadBalancer loadBalancer;
+    final Serializer serializer;
+    final CompressType compression;
+    final boolean oneway;
+    // null when the method has no flyweight codec
+    final String codecFingerprint;
+    final boolean deltaMethod;
+    // null unless the method has delta responses
+    final String methodKey;
+    final byte protocolVersion;
+
+    /**
+     * @param settings        the call settings of the method
+     * @param protocolVersion the protocol version
+     * @param interfaceName   the service interface name
+     * @param methodName      the method name, or {@code "*"} for pass-through calls
+     * @param parameterTypes  the parameter types, or {@code null} for pass-through calls
+     * @param view            the instances of the service
+     */
+    MethodPlan(CallSettings settings, byte protocolVersion, String interfaceName, String methodName,
+               Class<?>[] parameterTypes, ServiceView view) {
+        this.interfaceName = interfaceName;
+        this.methodName = methodName;
+        this.view = view;
+        this.loadBalancerName = settings.getLoadBalancer();
+        this.loadBalancer = ExtensionLoader.getExtensionLoader(LoadBalancer.class).getExtension(loadBalancerName);
+        this.serializer = ExtensionLoader.getExtensionLoader(Serializer.class).getExtension(settings.getSerializer());
+        this.compression = settings.getCompression();
+        this.oneway = settings.isOneway();
+        boolean method = parameterTypes != null;
+        this.codecFingerprint = method && ServiceCodecs.find(interfaceName, methodName, parameterTypes) != null
+                ? ServiceCodecs.fingerprint(interfaceName) : null;
+        this.deltaMethod = method && ResponseDeltas.isDeltaMethod(Thread.currentThread().getContextClassLoader(),
+                interfaceName, methodName, parameterTypes);
+        this.methodKey = deltaMethod ? ResponseDeltas.methodKey(interfaceName, methodName, parameterTypes) : null;
+        this.protocolVersion = protocolVersion;
+    }
+
+    /**
+     * Chooses the serializer for a call to the given instance.
+     *
+     * <p>The flyweight codec is used when the method has a generated codec and the instance
+     * advertises the same codec fingerprint; otherwise the configured serializer is used.
+     *
+     * @param instance the selected instance
+     * @return the serializer
+     */
+    Serializer serializerFor(ServiceInstance instance) {
+        if (codecFingerprint != null) {
+            Map<String, String> metadata = instance.getMetadata();
+            if (metadata != null && Objects.equals(metadata.get(ServiceCodecs.METADATA_KEY), codecFingerprint)) {
+                return DefaultSerializerFactory.getSerializer(SerializeType.CODEC.getValue());
+            }
+        }
+        return serializer;
+    }
+}
@@ -7,11 +7,13 @@ package io.github.x_kill9.xrpc.netty.client;
 import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
 import io.github.x_kill9.xrpc.core.config.model.XrpcConfig;
 import io.github.x_kill9.xrpc.core.message.Message;
+import io.github.x_kill9.xrpc.core.message.RawPayload;
 import io.github.x_kill9.xrpc.core.message.Response;
 import io.github.x_kill9.xrpc.netty.client.handler.ClientHandler;
 import io.github.x_kill9.xrpc.netty.client.manager.ConnectionManager;
 import io.github.x_kill9.xrpc.netty.codec.Decoder;
 import io.github.x_kill9.xrpc.netty.codec.Encoder;
+import io.github.x_kill9.xrpc.netty.codec.StreamCompressionSupport;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
@@ -19,7 +21,6 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.timeout.IdleStateHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,7 +52,7 @@ public class NettyClient {
         Bootstrap bootstrap = new Bootstrap();
         this.group = new NioEventLoopGroup();
         this.clientHandler = new ClientHandler();
-        this.connectionManager = new ConnectionManager(bootstrap);
+        this.connectionManager = new ConnectionManager(bootstrap, clientHandler);
 
         logger.debug("Initializing NettyClient with connectTimeout: {}ms, heartbeat: {}s", connectTimeout, heartbeatSeconds);
 
@@ -63,12 +64,9 @@ public class NettyClient {
                     protected void initChannel(SocketChannel ch) {
                         logger.trace("Initializing channel pipeline for {}", ch);
                         ch.pipeline()
-                                .addLast(new LengthFieldBasedFrameDecoder(
-                                        10 * 1024 * 1024,
-                                        14, 4, 0, 0))
                                 .addLast(new IdleStateHandler(0, heartbeatSeconds, 0, TimeUnit.SECONDS))
-                                .addLast(new Decoder())
-                                .addLast(new Encoder())
+                                .addLast(StreamCompressionSupport.DECODER_NAME, new Decoder(true))
+                                .addLast(StreamCompressionSupport.ENCODER_NAME, new Encoder())
                                 .addLast(clientHandler);
                         logger.trace("Channel pipeline initialized for {}", ch);
                     }
@@ -96,6 +94,47 @@ public class NettyClient {
                 });
     }
 
+    /**
+     * Sends a request to the specified server and returns a future for the unparsed response body.
+     *
+     * @param host the server host
+     * @param port the server port
+     * @param msg  the request message
+     * @return a future that will complete with the serialized response body
+     */
+    public CompletableFuture<RawPayload> sendRawRequest(String host, int port, Message msg) {
+        logger.debug("Sending raw requestId: {} to {}:{}", msg.getRequestId(), host, port);
+        return connectionManager.getChannel(host, port)
+                .thenCompose(channel -> clientHandler.sendRawRequest(channel, msg));
+    }
+
+    /**
+     * Sends a request to the specified server and returns a future for the response message.
+     *
+     * @param host the server host
+     * @param port the server port
+     * @param msg  the request message
+     * @return a future that will complete with the response message
+     */
+    public CompletableFuture<Message> sendMessage(String host, int port, Message msg) {
+        logger.debug("Sending requestId: {} to {}:{} for message response", msg.getRequestId(), host, port);
+        return connectionManager.getChannel(host, port)
+                .thenCompose(channel -> clientHandler.sendMessage(channel, msg));
+    }
+
+    /**
+     * Sends a request the server does not answer to the specified server.
+     *
+     * @param host the server host
+     * @param port the server port
+     * @param msg  the request message
+     * @return a future that will complete once the request is written
+     */
+    public CompletableFuture<Response> sendOneway(String host, int port, Message msg) {
+        return connectionManager.getChannel(host, port)
+                .thenCompose(channel -> clientHandler.sendOneway(channel, msg));
+    }
+
     /**
      * Closes all connections and shuts down the client.
      */
@@ -4,14 +4,18 @@
  */
 package io.github.x_kill9.xrpc.netty.client;
 
+import io.github.x_kill9.xrpc.core.config.call.CallSettings;
 import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
-import io.github.x_kill9.xrpc.core.enums.CompressType;
+import io.github.x_kill9.xrpc.core.config.model.XrpcConfig;
+import io.github.x_kill9.xrpc.core.constants.StatusCodes;
+import io.github.x_kill9.xrpc.core.delta.ResponseDeltas;
 import io.github.x_kill9.xrpc.core.enums.MessageType;
 import io.github.x_kill9.xrpc.core.exception.NoAvailableInstanceException;
 import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
-import io.github.x_kill9.xrpc.core.loadbalance.LoadBalancer;
 import io.github.x_kill9.xrpc.core.loadbalance.ServiceInstance;
+import io.github.x_kill9.xrpc.core.message.BlobRef;
 import io.github.x_kill9.xrpc.core.message.Message;
+import io.github.x_kill9.xrpc.core.message.RawPayload;
 import io.github.x_kill9.xrpc.core.message.Request;
 import io.github.x_kill9.xrpc.core.message.Response;
 import io.github.x_kill9.xrpc.core.registry.RegistryService;
@@ -19,18 +23,34 @@ import io.github.x_kill9.xrpc.core.serialize.Serializer;
 import io.github.x_kill9.xrpc.core.spi.ExtensionLoader;
 import io.github.x_kill9.xrpc.core.transport.RpcClient;
 import io.github.x_kill9.xrpc.core.util.id.GeneratorIdUtils;
+import io.github.x_kill9.xrpc.netty.client.handler.ClientHandler;
+import io.github.x_kill9.xrpc.serializer.factory.DefaultSerializerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link RpcClient} implementation using Netty as the transport layer.
  *
  * <p>This client performs service discovery via a registry, applies load balancing,
- * serializes requests using the configured serializer, and sends them via a shared {@link NettyClient}.
+ * serializes requests using the configured serializer (or the generated flyweight codec when
+ * both sides have it), and sends them via a shared {@link NettyClient}. With a string table
+ * configured, requests are serialized by the channel's encoder instead, against the table of
+ * the connection they are written to.
+ *
+ * <p>What a call needs besides its arguments is resolved once per method into a {@link MethodPlan},
+ * following the {@link CallSettings} of the method where the proxy resolved them, and the
+ * instances of each service are kept current by a registry subscription. Plans and subscriptions
+ * are dropped when the configuration is replaced.
  *
  * @author x-kill9
  */
@@ -39,8 +59,21 @@ public class NettyRpcClient implements RpcClient {
     private static final Logger logger = LoggerFactory.getLogger(NettyRpcClient.class);
     private static final NettyClient NETTY_CLIENT = new NettyClient();
 
+    // null when blob deduplication is disabled
+    private final BlobDeduplicator blobDeduplicator;
+    private final DeltaBaseTracker deltaBases = new DeltaBaseTracker();
+    private final boolean stringTable;
+
+    private final Map<Class<?>, Map<Method, MethodPlan>> plans = new ConcurrentHashMap<>();
+    private final Map<String, MethodPlan> passThroughPlans = new ConcurrentHashMap<>();
+    private final Map<String, ServiceView> views = new ConcurrentHashMap<>();
+    private volatile XrpcConfig planConfig;
+
     public NettyRpcClient() {
-        logger.debug("NettyRpcClient created");
+        int blobDedupThreshold = ConfigFactory.getConfig().getClient().getBlobDedupThreshold();
+        this.blobDeduplicator = blobDedupThreshold > 0 ? new BlobDeduplicator(blobDedupThreshold) : null;
+        this.stringTable = ConfigFactory.getConfig().getClient().getStringTableSize() > 0;
+        logger.debug("NettyRpcClient created, blobDedupThreshold: {}, stringTable: {}", blobDedupThreshold, stringTable);
     }
 
     @Override
@@ -49,33 +82,249 @@ public class NettyRpcClient implements RpcClient {
         String methodName = request.getMethodName();
         logger.debug("Sending RPC request for {}.{}", interfaceName, methodName);
 
-        // Get serializer from configuration
-        String serializerType = ConfigFactory.getConfig().getClient().getSerializer();
-        Serializer serializer = ExtensionLoader.getExtensionLoader(Serializer.class)
-                .getExtension(serializerType);
+        MethodPlan plan = plan(request, context);
+        ServiceInstance instance = selectInstance(plan, context);
+
+        Serializer serializer = plan.serializerFor(instance);
+        if (plan.oneway) {
+            return sendOneway(request, serializer, instance, plan);
+        }
+        if (blobDeduplicator == null || !serializer.supportsBlobReferences()) {
+            return send(request, serializer, instance, plan);
+        }
+
+        String address = instance.getHost() + ":" + instance.getPort();
+        long cacheBytes = blobCacheBytes(instance);
+        CompletableFuture<Response> future = send(blobDeduplicator.apply(request, address, cacheBytes, false),
+                serializer, instance, plan);
+        return future.thenCompose(response -> {
+            if (response.getStatus() != StatusCodes.BLOB_NOT_FOUND) {
+                return CompletableFuture.completedFuture(response);
+            }
+            logger.debug("Provider {} evicted a blob of {}.{}, resending with content", address, interfaceName, methodName);
+            blobDeduplicator.forget(request, address);
+            try {
+                return send(blobDeduplicator.apply(request, address, cacheBytes, true), serializer, instance, plan);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    /**
+     * Returns the blob cache size the provider publishes, or {@link Long#MAX_VALUE} if it publishes none.
+     */
+    private static long blobCacheBytes(ServiceInstance instance) {
+        String value = instance.getMetadata() != null ? instance.getMetadata().get(BlobRef.METADATA_KEY) : null;
+        if (value != null) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid {} metadata of {}:{}: {}", BlobRef.METADATA_KEY, instance.getHost(),
+                        instance.getPort(), value);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private CompletableFuture<Response> send(Request request, Serializer serializer, ServiceInstance instance,
+                                             MethodPlan plan) throws IOException {
+        if (plan.deltaMethod) {
+            return sendDelta(request, serializer, instance, plan);
+        }
+
+        Message message;
+        if (stringTable && serializer.supportsStringTable()) {
+            message = newRequestMessage(serializer.getTypeId(), null, plan);
+            message.setPayload(request);
+        } else {
+            byte[] bodyBytes = serializer.serialize(request);
+            logger.trace("Serialized request body, size: {} bytes", bodyBytes.length);
+            message = newRequestMessage(serializer.getTypeId(), bodyBytes, plan);
+        }
+        logger.debug("Sending requestId: {} to {}:{}", message.getRequestId(), instance.getHost(), instance.getPort());
+
+        return NETTY_CLIENT.sendRequest(instance.getHost(), instance.getPort(), message);
+    }
 
-        byte[] bodyBytes = serializer.serialize(request);
-        logger.trace("Serialized request body, size: {} bytes", bodyBytes.length);
+    /**
+     * Sends a call the provider does not answer; the future completes once the request is written.
+     */
+    private CompletableFuture<Response> sendOneway(Request request, Serializer serializer, ServiceInstance instance,
+                                                   MethodPlan plan) throws IOException {
+        Map<String, String> attachments = request.getAttachments() != null
+                ? new HashMap<>(request.getAttachments()) : new HashMap<>();
+        attachments.put(CallSettings.ONEWAY_ATTACHMENT, Boolean.TRUE.toString());
+        Request wire = new Request(request.getInterfaceName(), request.getMethodName(), request.getParameterTypes(),
+                request.getParameters(), attachments);
 
+        Message message = newRequestMessage(serializer.getTypeId(), serializer.serialize(wire), plan);
+        logger.debug("Sending oneway requestId: {} to {}:{}", message.getRequestId(), instance.getHost(),
+                instance.getPort());
+        return NETTY_CLIENT.sendOneway(instance.getHost(), instance.getPort(), message);
+    }
+
+    /**
+     * Sends a call to a delta method, advertising the last body received for it from the same
+     * provider, and rebuilds the full response from the delta the provider answers with.
+     */
+    private CompletableFuture<Response> sendDelta(Request request, Serializer serializer, ServiceInstance instance,
+                                                  MethodPlan plan) throws IOException {
+        String address = instance.getHost() + ":" + instance.getPort();
+        String methodKey = plan.methodKey;
+        DeltaBaseTracker.Base base = deltaBases.get(address, methodKey);
+        Request wire = request;
+        if (base != null) {
+            Map<String, String> attachments = request.getAttachments() != null
+                    ? new HashMap<>(request.getAttachments()) : new HashMap<>();
+            attachments.put(ResponseDeltas.BASE_VERSION_ATTACHMENT, Long.toString(base.version));
+            wire = new Request(request.getInterfaceName(), request.getMethodName(), request.getParameterTypes(),
+                    request.getParameters(), attachments);
+        }
+
+        byte[] bodyBytes = serializer.serialize(wire);
+        Message message = newRequestMessage(serializer.getTypeId(), bodyBytes, plan);
+        logger.debug("Sending delta requestId: {} to {}, base version: {}", message.getRequestId(), address,
+                base != null ? base.version : 0);
+
+        return NETTY_CLIENT.sendMessage(instance.getHost(), instance.getPort(), message).thenCompose(reply -> {
+            try {
+                byte[] body = reply.getBodyBytes();
+                if (reply.getMessageType() == MessageType.RESPONSE_DELTA.getValue()) {
+                    long baseVersion = ResponseDeltas.baseVersion(body);
+                    body = ResponseDeltas.decode(body, base != null && base.version == baseVersion ? base.body : null);
+                    deltaBases.update(address, methodKey, ResponseDeltas.version(reply.getBodyBytes()), body);
+                    logger.trace("Rebuilt delta response of {} bytes from {} bytes", body.length,
+                            reply.getBodyBytes().length);
+                }
+                if (reply.getMessageType() == MessageType.RESPONSE_ARRAY.getValue()) {
+                    // array results bypass delta encoding
+                    return CompletableFuture.completedFuture(ClientHandler.readResponse(reply));
+                }
+                Serializer responseSerializer = DefaultSerializerFactory.getSerializer(reply.getSerializeType());
+                return CompletableFuture.completedFuture(responseSerializer.deserialize(body, Response.class));
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to decode delta response for requestId: {}", reply.getRequestId(), e);
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    /**
+     * Creates a request message with the protocol version and compression of the plan; without
+     * body bytes, the payload is to be set by the caller.
+     */
+    private Message newRequestMessage(byte serializeType, byte[] bodyBytes, MethodPlan plan) {
         long requestId = GeneratorIdUtils.nextId(Request.class);
         Message message = new Message(
                 MessageType.REQUEST.getValue(),
-                serializer.getTypeId(),
-                CompressType.NONE.getValue(),         // compression can be configured later
+                serializeType,
+                plan.compression.getValue(),
                 requestId,
-                bodyBytes.length,
+                bodyBytes != null ? bodyBytes.length : 0,
                 bodyBytes
         );
-        logger.debug("Created XMessage, requestId: {}, type: {}, serializeType: {}, compressType: {}",
-                requestId, MessageType.REQUEST, serializer.getTypeId(), CompressType.NONE);
+        message.setVersion(plan.protocolVersion);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Created XMessage, requestId: {}, type: {}, serializeType: {}, compressType: {}",
+                    requestId, MessageType.REQUEST, serializeType, plan.compression);
+        }
+        return message;
+    }
+
+    @Override
+    public CompletableFuture<RawPayload> sendRawRequest(String interfaceName, RawPayload payload,
+                                                        InvocationContext context) {
+        logger.debug("Forwarding raw RPC request for {}, serializeType: {}, {} bytes",
+                interfaceName, payload.getSerializeType(), payload.getBody().length);
+        MethodPlan plan = passThroughPlan(interfaceName);
+        ServiceInstance instance = selectInstance(plan, context);
 
-        // Discover available service instances from registry
-        String registryType = ConfigFactory.getConfig().getRegistry().getType();
-        logger.trace("Looking up registry service: {}", registryType);
-        RegistryService registry = ExtensionLoader.getExtensionLoader(RegistryService.class)
-                .getExtension(registryType);
+        Message message = newRequestMessage(payload.getSerializeType(), payload.getBody(), plan);
+        logger.debug("Sending raw requestId: {} to {}:{}", message.getRequestId(), instance.getHost(), instance.getPort());
+
+        return NETTY_CLIENT.sendRawRequest(instance.getHost(), instance.getPort(), message);
+    }
 
-        List<ServiceInstance> serviceInstances = registry.lookup(interfaceName);
+    /**
+     * Returns the plan of the called method, building it on the first call.
+     *
+     * <p>Plans are keyed by the proxied interface and the {@link Method} of the context; calls
+     * without a method in their context get a plan of their own.
+     *
+     * @param request the request
+     * @param context the invocation context
+     * @return the plan
+     */
+    private MethodPlan plan(Request request, InvocationContext context) {
+        XrpcConfig config = currentConfig();
+        if (context == null || context.getMethod() == null || context.getInterfaceClass() == null) {
+            return newPlan(config, null, request.getInterfaceName(), request.getMethodName(),
+                    request.getParameterTypes());
+        }
+        Map<Method, MethodPlan> interfacePlans = plans.get(context.getInterfaceClass());
+        if (interfacePlans == null) {
+            interfacePlans = plans.computeIfAbsent(context.getInterfaceClass(), k -> new ConcurrentHashMap<>());
+        }
+        MethodPlan plan = interfacePlans.get(context.getMethod());
+        if (plan == null) {
+            plan = interfacePlans.computeIfAbsent(context.getMethod(), m -> newPlan(config, context.getCallSettings(),
+                    request.getInterfaceName(), request.getMethodName(), request.getParameterTypes()));
+        }
+        return plan;
+    }
+
+    private MethodPlan passThroughPlan(String interfaceName) {
+        XrpcConfig config = currentConfig();
+        return passThroughPlans.computeIfAbsent(interfaceName, name -> newPlan(config, null, name, "*", null));
+    }
+
+    /**
+     * Builds a plan with the given call settings, or the client's if there are none.
+     */
+    private MethodPlan newPlan(XrpcConfig config, CallSettings settings, String interfaceName, String methodName,
+                               Class<?>[] parameterTypes) {
+        ServiceView view = views.computeIfAbsent(interfaceName, name -> ServiceView.subscribe(name,
+                ExtensionLoader.getExtensionLoader(RegistryService.class).getExtension(config.getRegistry().getType())));
+        logger.debug("Building invocation plan for {}.{}", interfaceName, methodName);
+        return new MethodPlan(settings != null ? settings : CallSettings.of(config.getClient()),
+                (byte) config.getClient().getProtocolVersion(), interfaceName, methodName, parameterTypes, view);
+    }
+
+    /**
+     * Returns the configuration, dropping the plans and subscriptions if it has been replaced.
+     */
+    private XrpcConfig currentConfig() {
+        XrpcConfig config = ConfigFactory.getConfig();
+        if (config != planConfig) {
+            synchronized (this) {
+                if (config != planConfig) {
+                    if (planConfig != null) {
+                        logger.info("Configuration replaced, dropping {} service views and their plans", views.size());
+                    }
+                    plans.clear();
+                    passThroughPlans.clear();
+                    views.values().forEach(ServiceView::close);
+                    views.clear();
+                    planConfig = config;
+                }
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Selects an instance of the planned service with the planned load balancer, leaving out the
+     * instances excluded by the context, and records it in the context.
+     *
+     * @param plan    the plan of the called method
+     * @param context the invocation context
+     * @return the selected instance
+     * @throws NoAvailableInstanceException if no instance is available
+     */
+    private ServiceInstance selectInstance(MethodPlan plan, InvocationContext context) {
+        String interfaceName = plan.interfaceName;
+        List<ServiceInstance> serviceInstances = plan.view.instances();
         logger.debug("Found {} service instances for {}",
                 serviceInstances != null ? serviceInstances.size() : 0, interfaceName);
 
@@ -83,24 +332,49 @@ public class NettyRpcClient implements RpcClient {
             logger.error("No available instances found for service: {}", interfaceName);
             throw new NoAvailableInstanceException("No available instance for service: " + interfaceName);
         }
+        if (context != null && context.getExcludedInstances() != null) {
+            serviceInstances = exclude(serviceInstances, context.getExcludedInstances());
+            if (serviceInstances.isEmpty()) {
+                logger.debug("All instances of service {} are excluded from the call", interfaceName);
+                throw new NoAvailableInstanceException("No other instance for service: " + interfaceName);
+            }
+        }
 
-        // Select an instance using configured load balancer
-        String balancer = ConfigFactory.getConfig().getClient().getLoadBalancer();
-        logger.trace("Using load balancer: {}", balancer);
-        LoadBalancer loadBalancer = ExtensionLoader.getExtensionLoader(LoadBalancer.class)
-                .getExtension(balancer);
-        ServiceInstance instance = loadBalancer.select(serviceInstances, context);
+        ServiceInstance instance = plan.loadBalancer.select(serviceInstances, context);
 
         if (instance == null) {
             logger.error("Load balancer returned null instance for service: {}", interfaceName);
             throw new NoAvailableInstanceException("No available instance for service: " + interfaceName);
         }
 
-        logger.info("Selected instance {}:{} for service {}.{} via {} load balancer",
-                instance.getHost(), instance.getPort(), interfaceName, methodName, balancer);
-        logger.debug("Sending requestId: {} to {}:{}", requestId, instance.getHost(), instance.getPort());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Selected instance {}:{} for service {}.{} via {} load balancer",
+                    instance.getHost(), instance.getPort(), interfaceName, plan.methodName, plan.loadBalancerName);
+        }
+        if (context != null) {
+            context.setSelectedInstance(instance);
+        }
+        return instance;
+    }
 
-        return NETTY_CLIENT.sendRequest(instance.getHost(), instance.getPort(), message);
+    /**
+     * Returns the instances at another address than all excluded ones.
+     */
+    private static List<ServiceInstance> exclude(List<ServiceInstance> instances, List<ServiceInstance> excluded) {
+        List<ServiceInstance> remaining = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            boolean keep = true;
+            for (ServiceInstance other : excluded) {
+                if (instance.getPort() == other.getPort() && Objects.equals(instance.getHost(), other.getHost())) {
+                    keep = false;
+                    break;
+                }
+            }
+            if (keep) {
+                remaining.add(instance);
+            }
+        }
+        return remaining;
     }
 
     /**
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.netty.client;
+
+import io.github.x_kill9.xrpc.core.loadbalance.ServiceInstance;
+import io.github.x_kill9.xrpc.core.registry.RegistryService;
+import io.github.x_kill9.xrpc.core.registry.listener.NotifyListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * The instances of one service, kept current by a registry subscription.
+ *
+ * <p>Calls read the instance list the registry last notified instead of looking it up. If the
+ * registry cannot be subscribed to, the instances are looked up on each call.
+ *
+ * @author x-kill9
+ */
+final class ServiceView implements NotifyListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceView.class);
+
+    private final String serviceName;
+    private final RegistryService registry;
+    private volatile List<ServiceInstance> instances;
+    private boolean subscribed;
+
+    private ServiceView(String serviceName, RegistryService registry) {
+        this.serviceName = serviceName;
+        this.registry = registry;
+    }
+
+    /**
+     * Creates a view of a service subscribed to the registry.
+     *
+     * @param serviceName the service interface name
+     * @param registry    the registry
+     * @return the view
+     */
+    static ServiceView subscribe(String serviceName, RegistryService registry) {
+        ServiceView view = new ServiceView(serviceName, registry);
+        try {
+            registry.subscribe(serviceName, view);
+            view.subscribed = true;
+        } catch (RuntimeException e) {
+            logger.warn("Cannot subscribe to instances of {}, looking them up per call: {}", serviceName, e.getMessage());
+        }
+        return view;
+    }
+
+    @Override
+    public void notify(List<ServiceInstance> instances) {
+        this.instances = instances;
+        logger.debug("Instances of {} changed, count: {}", serviceName, instances != null ? instances.size() : 0);
+    }
+
+    /**
+     * Returns the current instances of the service.
+     */
+    List<ServiceInstance> instances() {
+        List<ServiceInstance> current = instances;
+        return subscribed && current != null ? current : registry.lookup(serviceName);
+    }
+
+    /**
+     * Ends the subscription.
+     */
+    void close() {
+        if (subscribed) {
+            registry.unsubscribe(serviceName, this);
+        }
+    }
+}
@@ -4,10 +4,17 @@
  */
 package io.github.x_kill9.xrpc.netty.client.handler;
 
+import io.github.x_kill9.xrpc.core.constants.StatusCodes;
+import io.github.x_kill9.xrpc.core.delta.ResponseDeltas;
+import io.github.x_kill9.xrpc.core.enums.CompressType;
 import io.github.x_kill9.xrpc.core.enums.MessageType;
+import io.github.x_kill9.xrpc.core.message.DirectArray;
 import io.github.x_kill9.xrpc.core.message.Message;
+import io.github.x_kill9.xrpc.core.message.RawPayload;
 import io.github.x_kill9.xrpc.core.message.Response;
 import io.github.x_kill9.xrpc.core.serialize.Serializer;
+import io.github.x_kill9.xrpc.netty.codec.StreamCompressionSupport;
+import io.github.x_kill9.xrpc.netty.codec.StringTableSupport;
 import io.github.x_kill9.xrpc.serializer.factory.DefaultSerializerFactory;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
@@ -15,20 +22,26 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.AttributeKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles incoming messages and manages pending requests for a Netty client.
  *
  * <p>This handler is {@link ChannelHandler.Sharable} and maintains a mapping from channels
- * to their pending requests (by request ID). It processes responses and heartbeats,
- * and cleans up resources when channels become inactive.
+ * to their pending requests (by request ID). It processes responses, heartbeats and
+ * handshake acknowledgements, and cleans up resources when channels become inactive.
+ *
+ * <p>The {@link DirectArray} of a {@link MessageType#RESPONSE_ARRAY} message becomes the result of
+ * its response and is owned by the caller from then on; it is released here if nobody is waiting
+ * for the response any more.
  *
  * @author x-kill9
  */
@@ -37,8 +50,12 @@ public class ClientHandler extends SimpleChannelInboundHandler<Message> {
 
     private static final Logger logger = LoggerFactory.getLogger(ClientHandler.class);
 
-    // Maps each channel to its pending requests: requestId -> CompletableFuture<Response>
-    private final Map<Channel, Map<Long, CompletableFuture<Response>>> channelFutures = new ConcurrentHashMap<>();
+    // Pending handshake of a channel, completed when the server acknowledges it
+    private static final AttributeKey<CompletableFuture<Channel>> HANDSHAKE_FUTURE =
+            AttributeKey.valueOf("xrpc.handshakeFuture");
+
+    // Maps each channel to its pending requests: requestId -> CompletableFuture<Response> or MessageFuture
+    private final Map<Channel, Map<Long, CompletableFuture<?>>> channelFutures = new ConcurrentHashMap<>();
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
@@ -54,31 +71,62 @@ public class ClientHandler extends SimpleChannelInboundHandler<Message> {
 
         logger.trace("Received message type: {}, requestId: {}, channel: {}", messageType, requestId, channel);
 
-        if (messageType == MessageType.RESPONSE) {
-            Map<Long, CompletableFuture<Response>> futures = channelFutures.get(channel);
+        if (messageType == MessageType.RESPONSE || messageType == MessageType.RESPONSE_DELTA
+                || messageType == MessageType.RESPONSE_ARRAY) {
+            Map<Long, CompletableFuture<?>> futures = channelFutures.get(channel);
             if (futures != null) {
-                CompletableFuture<Response> future = futures.remove(requestId);
-                if (future != null) {
+                CompletableFuture<?> pending = futures.remove(requestId);
+                if (pending instanceof MessageFuture) {
+                    logger.debug("Found pending message future for requestId: {}, passing message through", requestId);
+                    if (!((MessageFuture) pending).complete(msg)) {
+                        releaseArray(msg);
+                    }
+                } else if (messageType == MessageType.RESPONSE_DELTA && pending != null) {
+                    logger.error("Unexpected delta response for requestId: {}", requestId);
+                    pending.completeExceptionally(new IOException("Unexpected delta response, requestId: " + requestId));
+                } else if (pending != null) {
+                    @SuppressWarnings("unchecked")
+                    CompletableFuture<Response> future = (CompletableFuture<Response>) pending;
                     logger.debug("Found pending future for requestId: {}, deserializing response", requestId);
                     try {
-                        byte serializeType = msg.getSerializeType();
-                        Serializer serializer = DefaultSerializerFactory.getSerializer(serializeType);
-                        Response response = serializer.deserialize(msg.getBodyBytes(), Response.class);
+                        Response response = readResponse(msg);
                         logger.debug("Response deserialized successfully for requestId: {}, status: {}",
                                 requestId, response.getStatus());
-                        future.complete(response);
+                        if (!future.complete(response)) {
+                            releaseArray(msg);
+                        }
                     } catch (IOException e) {
                         logger.error("Failed to deserialize response for requestId: {}", requestId, e);
                         future.completeExceptionally(e);
                     }
                 } else {
                     logger.warn("No pending future found for requestId: {} on channel: {}", requestId, channel);
+                    releaseArray(msg);
                 }
             } else {
                 logger.warn("No futures map found for channel: {}", channel);
+                releaseArray(msg);
             }
         } else if (messageType == MessageType.HEARTBEAT) {
             logger.trace("Received heartbeat response for requestId: {}", requestId);
+        } else if (messageType == MessageType.HANDSHAKE) {
+            CompletableFuture<Channel> future = channel.attr(HANDSHAKE_FUTURE).getAndSet(null);
+            if (future == null) {
+                logger.warn("Unexpected handshake acknowledgement on channel: {}", channel);
+                return;
+            }
+            CompressType streamCompression = CompressType.of(msg.getCompressType());
+            int stringTableSize = StringTableSupport.fromHandshakeBody(msg.getBodyBytes());
+            logger.debug("Handshake acknowledged on channel: {}, stream compression: {}, string table size: {}",
+                    channel, streamCompression, stringTableSize);
+            try {
+                StreamCompressionSupport.install(ctx.pipeline(), streamCompression);
+                StringTableSupport.install(ctx.pipeline(), stringTableSize);
+                future.complete(channel);
+            } catch (Exception e) {
+                logger.error("Failed to install stream compression {} on channel: {}", streamCompression, channel, e);
+                future.completeExceptionally(e);
+            }
         } else {
             logger.warn("Received unknown message type: {} for requestId: {}", messageType, requestId);
         }
@@ -90,7 +138,7 @@ public class ClientHandler extends SimpleChannelInboundHandler<Message> {
         logger.warn("Channel inactive: {}, cleaning up {} pending requests",
                 channel, channelFutures.getOrDefault(channel, new ConcurrentHashMap<>()).size());
 
-        Map<Long, CompletableFuture<Response>> futures = channelFutures.remove(channel);
+        Map<Long, CompletableFuture<?>> futures = channelFutures.remove(channel);
         if (futures != null) {
             futures.forEach((requestId, future) -> {
                 if (!future.isDone()) {
@@ -126,6 +174,42 @@ public class ClientHandler extends SimpleChannelInboundHandler<Message> {
         super.userEventTriggered(ctx, evt);
     }
 
+    /**
+     * Sends a handshake requesting the given streaming compression and string table size and
+     * returns a future that completes once the server has acknowledged it.
+     *
+     * <p>The server answers with the compression type and table size it agreed on, which may be
+     * {@link CompressType#NONE} and {@code 0}; the matching codecs are installed before the
+     * future completes. No other message may be written to the channel until then.
+     *
+     * @param channel           the freshly connected channel
+     * @param streamCompression the requested streaming compression
+     * @param stringTableSize   the requested string table size, {@code 0} for none
+     * @return a {@link CompletableFuture} that will complete with the channel
+     */
+    public CompletableFuture<Channel> handshake(Channel channel, CompressType streamCompression, int stringTableSize) {
+        logger.debug("Sending handshake to channel: {}, requested stream compression: {}, string table size: {}",
+                channel, streamCompression, stringTableSize);
+
+        CompletableFuture<Channel> future = new CompletableFuture<>();
+        channel.attr(HANDSHAKE_FUTURE).set(future);
+
+        Message handshake = new Message();
+        handshake.setMessageType(MessageType.HANDSHAKE.getValue());
+        handshake.setCompressType(streamCompression.getValue());
+        handshake.setRequestId(0L);
+        byte[] body = StringTableSupport.toHandshakeBody(stringTableSize);
+        handshake.setBodyBytes(body);
+        handshake.setBodyLength(body.length);
+        channel.writeAndFlush(handshake).addListener(f -> {
+            if (!f.isSuccess()) {
+                channel.attr(HANDSHAKE_FUTURE).set(null);
+                future.completeExceptionally(f.cause());
+            }
+        });
+        return future;
+    }
+
     /**
      * Sends a request message over the given channel and returns a future for the response.
      *
@@ -138,13 +222,148 @@ public class ClientHandler extends SimpleChannelInboundHandler<Message> {
         logger.debug("Sending requestId: {} to channel: {}", requestId, channel);
 
         CompletableFuture<Response> future = new CompletableFuture<>();
+        write(channel, msg, future);
+        return future;
+    }
+
+    /**
+     * Sends a request message over the given channel and returns a future for the response body,
+     * which is passed through without being deserialized.
+     *
+     * <p>A {@link MessageType#RESPONSE_DELTA} answer holding the full body is unwrapped; one diffed
+     * against a base, or an array response, fails the future with an {@link IOException}.
+     *
+     * @param channel the channel to send the request on
+     * @param msg     the request message
+     * @return a {@link CompletableFuture} that will complete with the serialized response body
+     */
+    public CompletableFuture<RawPayload> sendRawRequest(Channel channel, Message msg) {
+        logger.debug("Sending raw requestId: {} to channel: {}", msg.getRequestId(), channel);
+        return sendMessage(channel, msg).thenApply(response -> {
+            if (response.getDirectArray() != null) {
+                response.getDirectArray().release();
+                throw new CompletionException(new IOException(
+                        "Array response cannot be passed through, requestId: " + response.getRequestId()));
+            }
+            byte[] body = response.getBodyBytes();
+            if (response.getMessageType() == MessageType.RESPONSE_DELTA.getValue()) {
+                body = fullDeltaBody(response);
+            }
+            return new RawPayload(response.getSerializeType(), body);
+        });
+    }
+
+    // the pass-through path holds no base, so only frames carrying the full body can be forwarded
+    private static byte[] fullDeltaBody(Message response) {
+        byte[] frame = response.getBodyBytes();
+        try {
+            if (ResponseDeltas.baseVersion(frame) != 0) {
+                throw new CompletionException(new IOException(
+                        "Delta response cannot be passed through, requestId: " + response.getRequestId()));
+            }
+            return ResponseDeltas.decode(frame, null);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CompletionException(new IOException(
+                    "Malformed delta response, requestId: " + response.getRequestId(), e));
+        }
+    }
+
+    /**
+     * Sends a request message over the given channel and returns a future for the response
+     * message itself, for callers that decode {@link MessageType#RESPONSE_DELTA} bodies.
+     *
+     * @param channel the channel to send the request on
+     * @param msg     the request message
+     * @return a {@link CompletableFuture} that will complete with the response message
+     */
+    public CompletableFuture<Message> sendMessage(Channel channel, Message msg) {
+        MessageFuture future = new MessageFuture();
+        write(channel, msg, future);
+        return future;
+    }
+
+    /**
+     * Sends a request message the server does not answer; no response is awaited.
+     *
+     * @param channel the channel to send the request on
+     * @param msg     the request message
+     * @return a {@link CompletableFuture} that completes with a successful empty response once
+     *         the message is written, or exceptionally if it cannot be written
+     */
+    public CompletableFuture<Response> sendOneway(Channel channel, Message msg) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        channel.writeAndFlush(msg).addListener(f -> {
+            if (f.isSuccess()) {
+                future.complete(new Response(StatusCodes.SUCCESS, null));
+            } else {
+                logger.error("Failed to write oneway requestId: {} to channel: {}", msg.getRequestId(), channel,
+                        f.cause());
+                future.completeExceptionally(f.cause());
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Deserializes the response carried by a {@link MessageType#RESPONSE} or
+     * {@link MessageType#RESPONSE_ARRAY} message; the array of the latter becomes the result.
+     * The array is released if the response cannot be deserialized.
+     *
+     * @param msg the response message
+     * @return the response
+     * @throws IOException if the body cannot be deserialized
+     */
+    public static Response readResponse(Message msg) throws IOException {
+        try {
+            Serializer serializer = DefaultSerializerFactory.getSerializer(msg.getSerializeType());
+            Response response = serializer.deserialize(msg.getBodyBytes(), Response.class, msg.getStringTable());
+            if (msg.getDirectArray() != null) {
+                response.setResult(msg.getDirectArray());
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            releaseArray(msg);
+            throw e;
+        }
+    }
+
+    private static void releaseArray(Message msg) {
+        if (msg.getDirectArray() != null) {
+            msg.getDirectArray().release();
+        }
+    }
+
+    private void write(Channel channel, Message msg, CompletableFuture<?> future) {
+        long requestId = msg.getRequestId();
         channelFutures.computeIfAbsent(channel, k -> {
             logger.trace("Creating new futures map for channel: {}", channel);
             return new ConcurrentHashMap<>();
         }).put(requestId, future);
+        // a caller that times the future out (CompletableFuture#orTimeout) no longer waits for the response
+        future.whenComplete((response, error) -> {
+            if (error != null) {
+                removeFuture(channel, requestId);
+            }
+        });
 
-        channel.writeAndFlush(msg);
+        channel.writeAndFlush(msg).addListener(f -> {
+            // e.g. a payload the encoder failed to serialize
+            if (!f.isSuccess() && removeFuture(channel, requestId) != null) {
+                logger.error("Failed to write requestId: {} to channel: {}", requestId, channel, f.cause());
+                future.completeExceptionally(f.cause());
+            }
+        });
         logger.trace("RequestId: {} written to channel pipeline", requestId);
-        return future;
+    }
+
+    private CompletableFuture<?> removeFuture(Channel channel, long requestId) {
+        Map<Long, CompletableFuture<?>> futures = channelFutures.get(channel);
+        return futures != null ? futures.remove(requestId) : null;
+    }
+
+    /**
+     * Marks a pending request whose response message is returned without deserialization.
+     */
+    private static final class MessageFuture extends CompletableFuture<Message> {
     }
 }
\ No newline at end of file
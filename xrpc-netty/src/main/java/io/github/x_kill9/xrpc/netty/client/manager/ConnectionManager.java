@@ -4,6 +4,11 @@
  */
 package io.github.x_kill9.xrpc.netty.client.manager;
 
+import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
+import io.github.x_kill9.xrpc.core.config.model.ClientConfig;
+import io.github.x_kill9.xrpc.core.enums.CompressType;
+import io.github.x_kill9.xrpc.netty.client.handler.ClientHandler;
+import io.github.x_kill9.xrpc.netty.codec.StreamCompressionSupport;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -14,6 +19,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages Netty channels for client connections.
@@ -22,6 +28,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * when channels become inactive. Maintains a map of pending connection futures
  * to avoid duplicate connection attempts.
  *
+ * <p>When streaming compression is configured, a channel is only handed out after its
+ * handshake has been acknowledged, so every request is written with the negotiated codecs.
+ *
  * @author x-kill9
  */
 public class ConnectionManager {
@@ -29,12 +38,22 @@ public class ConnectionManager {
     private static final Logger logger = LoggerFactory.getLogger(ConnectionManager.class);
 
     private final Bootstrap bootstrap;
+    private final ClientHandler clientHandler;
+    private final CompressType streamCompression;
+    private final int stringTableSize;
+    private final int connectTimeout;
     private final Map<String, Channel> channelMap = new ConcurrentHashMap<>();
     private final Map<String, CompletableFuture<Channel>> channelFutures = new ConcurrentHashMap<>();
 
-    public ConnectionManager(Bootstrap bootstrap) {
+    public ConnectionManager(Bootstrap bootstrap, ClientHandler clientHandler) {
+        ClientConfig config = ConfigFactory.getConfig().getClient();
         this.bootstrap = bootstrap;
-        logger.debug("ConnectionManager initialized");
+        this.clientHandler = clientHandler;
+        this.streamCompression = StreamCompressionSupport.fromName(config.getStreamCompression());
+        this.stringTableSize = config.getStringTableSize();
+        this.connectTimeout = config.getConnectTimeout();
+        logger.debug("ConnectionManager initialized, stream compression: {}, string table size: {}",
+                streamCompression, stringTableSize);
     }
 
     /**
@@ -106,7 +125,22 @@ public class ConnectionManager {
                     logger.warn("Channel closed for {}, removing from cache", key);
                     channelFutures.remove(key, future);
                 });
-                future.complete(channel);
+                if (streamCompression == CompressType.NONE && stringTableSize == 0) {
+                    future.complete(channel);
+                    return;
+                }
+                clientHandler.handshake(channel, streamCompression, stringTableSize)
+                        .orTimeout(connectTimeout, TimeUnit.MILLISECONDS)
+                        .whenComplete((ch, ex) -> {
+                            if (ex != null) {
+                                logger.error("Handshake with {} failed: {}", key, ex.getMessage());
+                                channelFutures.remove(key, future);
+                                channel.close();
+                                future.completeExceptionally(ex);
+                            } else {
+                                future.complete(ch);
+                            }
+                        });
             } else {
                 logger.error("Failed to connect to {}: {}", key, f.cause().getMessage());
                 channelFutures.remove(key, future);
@@ -5,45 +5,104 @@
 package io.github.x_kill9.xrpc.netty.codec;
 
 import io.github.x_kill9.xrpc.core.constants.Constants;
+import io.github.x_kill9.xrpc.core.enums.MessageType;
 import io.github.x_kill9.xrpc.core.exception.DecoderException;
+import io.github.x_kill9.xrpc.core.message.DirectArray;
 import io.github.x_kill9.xrpc.core.message.Message;
+import io.github.x_kill9.xrpc.core.serialize.InboundStringTable;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
  * Decodes incoming bytes into {@link Message} objects according to the XRPC protocol.
  *
- * <p>The protocol header consists of:
+ * <p>Every frame starts with the magic number (2 bytes) and the version (1 byte), which
+ * selects the rest of the header. The version 1 header continues with:
  * <ul>
- *   <li>magic number (2 bytes)</li>
- *   <li>version (1 byte)</li>
  *   <li>message type (1 byte)</li>
  *   <li>serialization type (1 byte)</li>
  *   <li>compression type (1 byte)</li>
  *   <li>request ID (8 bytes)</li>
  *   <li>body length (4 bytes)</li>
  * </ul>
+ * The version 2 header continues with:
+ * <ul>
+ *   <li>flags (1 byte): message type (bits 7-5), serialization type (bits 4-2), compression type (bits 1-0)</li>
+ *   <li>request ID (varint)</li>
+ *   <li>body length (varint)</li>
+ * </ul>
  * followed by the body of the specified length.
  *
+ * <p>The decoder performs its own framing: if a frame is not yet complete, the reader index is
+ * reset and decoding resumes once more bytes arrive. Bodies larger than
+ * {@link Constants#MAX_FRAME_LENGTH} are rejected and the connection is closed.
+ *
+ * <p>On client channels, a {@link MessageType#RESPONSE_ARRAY} body may be up to
+ * {@link Constants#MAX_ARRAY_FRAME_LENGTH} bytes. Only its serialized response is copied out; the
+ * elements become a {@link DirectArray} over a retained slice of the inbound buffer, which is
+ * released when the array is. Providers never receive responses, so their decoder rejects such
+ * frames rather than let any peer make it buffer that much.
+ *
+ * <p>Once a string table has been agreed for the connection, request and response bodies start
+ * with the string definitions written by the {@link Encoder}. They are applied in arrival order
+ * and stripped from the body; a body written against the table gets the resulting
+ * {@link InboundStringTable.Snapshot} as {@link Message#getStringTable()}.
+ *
+ * <p>Request and response bodies compressed per message are inflated by
+ * {@link MessageCompressionSupport} before the string definitions are read.
+ *
  * @author x-kill9
  */
 public class Decoder extends ByteToMessageDecoder {
 
     private static final Logger logger = LoggerFactory.getLogger(Decoder.class);
-    private static final short HEADER_SIZE = Constants.HEADER_SIZE;
+    private static final int HEADER_SIZE = Constants.HEADER_SIZE;
+    private static final int V2_MIN_HEADER_SIZE = Constants.V2_MIN_HEADER_SIZE;
     private static final short MAGIC = Constants.MAGIC;
 
+    // Whether array responses are accepted, which only clients receive
+    private final boolean arrayResponses;
+    // Receiving string table of the connection, once agreed in the handshake
+    private InboundStringTable strings;
+
+    /**
+     * Creates a decoder for a provider channel, which rejects array responses.
+     */
+    public Decoder() {
+        this(false);
+    }
+
+    /**
+     * @param arrayResponses whether {@link MessageType#RESPONSE_ARRAY} frames are accepted, as on
+     *                       client channels
+     */
+    public Decoder(boolean arrayResponses) {
+        this.arrayResponses = arrayResponses;
+    }
+
+    /**
+     * Reads requests and responses against a string table from now on. Called on the event loop.
+     *
+     * @param capacity the number of slots agreed with the peer
+     */
+    public void enableStringTable(int capacity) {
+        this.strings = new InboundStringTable(capacity);
+    }
+
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
         try {
             in.markReaderIndex();
 
-            if (in.readableBytes() < HEADER_SIZE) {
+            if (in.readableBytes() < V2_MIN_HEADER_SIZE) {
                 return;
             }
 
@@ -57,14 +116,45 @@ public class Decoder extends ByteToMessageDecoder {
             }
 
             byte version = in.readByte();
-            byte msgType = in.readByte();
-            byte serializeType = in.readByte();
-            byte compressType = in.readByte();
-            long requestId = in.readLong();
-            int bodyLength = in.readInt();
+            Message message;
+            if (version == Constants.PROTOCOL_VERSION_V2) {
+                message = decodeV2Header(in);
+            } else if (version == Constants.PROTOCOL_VERSION) {
+                message = decodeV1Header(in);
+            } else {
+                logger.error("Unsupported protocol version: {} from channel: {}, closing connection",
+                        version, ctx.channel());
+                in.clear();
+                ctx.close();
+                throw new DecoderException("Unsupported protocol version: " + version);
+            }
 
+            if (message == null) {
+                logger.trace("Insufficient data for header, resetting reader index");
+                in.resetReaderIndex();
+                return;
+            }
+            message.setVersion(version);
+
+            int bodyLength = message.getBodyLength();
             logger.trace("Decoded header - version: {}, msgType: {}, serializeType: {}, compressType: {}, requestId: {}, bodyLength: {}",
-                    version, msgType, serializeType, compressType, requestId, bodyLength);
+                    version, message.getMessageType(), message.getSerializeType(), message.getCompressType(),
+                    message.getRequestId(), bodyLength);
+
+            boolean arrayResponse = message.getMessageType() == MessageType.RESPONSE_ARRAY.getValue();
+            if (arrayResponse && !arrayResponses) {
+                logger.error("Unexpected array response from channel: {}, closing connection", ctx.channel());
+                in.clear();
+                ctx.close();
+                throw new DecoderException("Unexpected array response");
+            }
+            int maxBodyLength = arrayResponse ? Constants.MAX_ARRAY_FRAME_LENGTH : Constants.MAX_FRAME_LENGTH;
+            if (bodyLength < 0 || bodyLength > maxBodyLength) {
+                logger.error("Invalid body length: {} from channel: {}, closing connection", bodyLength, ctx.channel());
+                in.clear();
+                ctx.close();
+                throw new DecoderException("Invalid body length: " + bodyLength);
+            }
 
             if (in.readableBytes() < bodyLength) {
                 logger.trace("Insufficient data for body, expected: {}, available: {}, resetting reader index",
@@ -73,25 +163,139 @@ public class Decoder extends ByteToMessageDecoder {
                 return;
             }
 
-            byte[] bodyBytes = new byte[bodyLength];
-            in.readBytes(bodyBytes);
-            logger.trace("Read body bytes: {} bytes", bodyLength);
-
-            Message message = new Message();
-            message.setVersion(version);
-            message.setMessageType(msgType);
-            message.setSerializeType(serializeType);
-            message.setCompressType(compressType);
-            message.setRequestId(requestId);
-            message.setBodyBytes(bodyBytes);
+            if (arrayResponse) {
+                readArrayBody(in, message);
+            } else if (MessageCompressionSupport.isCompressed(message)) {
+                byte[] inflated = MessageCompressionSupport.decompress(in.readSlice(bodyLength));
+                if (strings != null && message.getMessageType() != MessageType.RESPONSE_DELTA.getValue()) {
+                    readStringTableBody(Unpooled.wrappedBuffer(inflated), message);
+                } else {
+                    message.setBodyBytes(inflated);
+                }
+                logger.trace("Inflated body: {} to {} bytes", bodyLength, inflated.length);
+            } else if (strings != null && (message.getMessageType() == MessageType.REQUEST.getValue()
+                    || message.getMessageType() == MessageType.RESPONSE.getValue())) {
+                readStringTableBody(in.readSlice(bodyLength), message);
+            } else {
+                byte[] bodyBytes = new byte[bodyLength];
+                in.readBytes(bodyBytes);
+                message.setBodyBytes(bodyBytes);
+                logger.trace("Read body bytes: {} bytes", bodyLength);
+            }
 
             out.add(message);
             logger.debug("Decoded XMessage, requestId: {}, msgType: {}, bodySize: {}",
-                    requestId, msgType, bodyLength);
+                    message.getRequestId(), message.getMessageType(), bodyLength);
         } catch (DecoderException e) {
             logger.error("Decoder exception: {}", e.getMessage());
+            // the stream cannot be re-synchronized after a malformed frame
+            in.clear();
+            ctx.close();
         } catch (Exception e) {
             logger.error("Unexpected error during decoding", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Reads the body of a {@link MessageType#RESPONSE_ARRAY} message, whose length has been checked
+     * to be available, without copying the array elements.
+     */
+    private void readArrayBody(ByteBuf in, Message message) {
+        int bodyLength = message.getBodyLength();
+        int end = in.readerIndex() + bodyLength;
+        int responseLength = bodyLength >= Integer.BYTES + 1 ? in.readInt() : -1;
+        if (responseLength < 0 || responseLength > bodyLength - Integer.BYTES - 1) {
+            throw new DecoderException("Invalid array response length: " + responseLength);
+        }
+        byte[] response = new byte[responseLength];
+        in.readBytes(response);
+        DirectArray.ElementType elementType;
+        try {
+            elementType = DirectArray.ElementType.of(in.readByte());
+        } catch (IllegalArgumentException e) {
+            throw new DecoderException(e.getMessage());
+        }
+        int arrayLength = end - in.readerIndex();
+        if (arrayLength % elementType.getSize() != 0) {
+            throw new DecoderException(arrayLength + " bytes do not hold whole " + elementType + " elements");
+        }
+        ByteBuf elements = in.readRetainedSlice(arrayLength);
+        message.setBodyBytes(response);
+        message.setDirectArray(DirectArray.wrap(elementType,
+                elements.nioBuffer().order(ByteOrder.LITTLE_ENDIAN), elements::release));
+        logger.trace("Read array body: {} response bytes, {} {} elements", responseLength,
+                arrayLength / elementType.getSize(), elementType);
+    }
+
+    /**
+     * Applies the string definitions at the start of a request or response body and reads the rest as body bytes.
+     */
+    private void readStringTableBody(ByteBuf body, Message message) {
+        int count = VarIntUtils.readVarInt(body) - 1;
+        if (count < -1) {
+            throw new DecoderException("Truncated string definitions");
+        }
+        try {
+            for (int i = 0; i < count; i++) {
+                int slot = VarIntUtils.readVarInt(body);
+                int length = VarIntUtils.readVarInt(body);
+                if (slot < 0 || length < 0 || length > body.readableBytes()) {
+                    throw new DecoderException("Truncated string definition " + i + " of " + count);
+                }
+                strings.define(slot, body.readCharSequence(length, StandardCharsets.UTF_8).toString());
+            }
+        } catch (IllegalArgumentException e) {
+            throw new DecoderException(e.getMessage());
+        }
+        if (count >= 0) {
+            message.setStringTable(strings.snapshot());
+        }
+        byte[] bodyBytes = new byte[body.readableBytes()];
+        body.readBytes(bodyBytes);
+        message.setBodyBytes(bodyBytes);
+        logger.trace("Read body bytes: {} bytes after {} string definitions", bodyBytes.length, Math.max(count, 0));
+    }
+
+    /**
+     * Reads the remainder of a version 1 header.
+     *
+     * @return the message with its header fields set, or {@code null} if the header is incomplete
+     */
+    private Message decodeV1Header(ByteBuf in) {
+        // magic and version have already been consumed
+        if (in.readableBytes() < HEADER_SIZE - 3) {
+            return null;
+        }
+        Message message = new Message();
+        message.setMessageType(in.readByte());
+        message.setSerializeType(in.readByte());
+        message.setCompressType(in.readByte());
+        message.setRequestId(in.readLong());
+        message.setBodyLength(in.readInt());
+        return message;
+    }
+
+    /**
+     * Reads the remainder of a version 2 header.
+     *
+     * @return the message with its header fields set, or {@code null} if the header is incomplete
+     */
+    private Message decodeV2Header(ByteBuf in) {
+        int flags = in.readUnsignedByte();
+        long requestId = VarIntUtils.readVarLong(in);
+        if (requestId < 0) {
+            return null;
+        }
+        int bodyLength = VarIntUtils.readVarInt(in);
+        if (bodyLength < 0) {
+            return null;
+        }
+        Message message = new Message();
+        message.setMessageType((byte) ((flags >>> Constants.V2_MESSAGE_TYPE_SHIFT) & Constants.V2_TYPE_MASK));
+        message.setSerializeType((byte) ((flags >>> Constants.V2_SERIALIZE_TYPE_SHIFT) & Constants.V2_TYPE_MASK));
+        message.setCompressType((byte) (flags & Constants.V2_COMPRESS_TYPE_MASK));
+        message.setRequestId(requestId);
+        message.setBodyLength(bodyLength);
+        return message;
+    }
+}
@@ -5,35 +5,203 @@
 package io.github.x_kill9.xrpc.netty.codec;
 
 import io.github.x_kill9.xrpc.core.constants.Constants;
+import io.github.x_kill9.xrpc.core.enums.MessageType;
+import io.github.x_kill9.xrpc.core.exception.EncoderException;
+import io.github.x_kill9.xrpc.core.message.DirectArray;
 import io.github.x_kill9.xrpc.core.message.Message;
+import io.github.x_kill9.xrpc.core.serialize.OutboundStringTable;
+import io.github.x_kill9.xrpc.core.serialize.Serializer;
+import io.github.x_kill9.xrpc.serializer.factory.DefaultSerializerFactory;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Encodes {@link Message} objects into bytes according to the XRPC protocol.
  *
- * <p>The encoding order follows the fixed header:
+ * <p>The header layout is selected by {@link Message#getVersion()}. Version 1 uses the fixed header:
  * magic (2 bytes), version, message type, serialization type, compression type,
  * request ID (8 bytes), body length (4 bytes), and then the body bytes.
  *
+ * <p>Version 2 uses the compact header: magic (2 bytes), version, one flags byte holding the
+ * message type (bits 7-5), serialization type (bits 4-2) and compression type (bits 1-0),
+ * the request ID as a varint, the body length as a varint, and then the body bytes.
+ * A small request therefore carries a 6 to 12 byte header instead of 18 bytes.
+ *
+ * <p>The body of a {@link MessageType#RESPONSE_ARRAY} message is written from the message's
+ * {@link DirectArray}: the length of the serialized response (4 bytes), the response, the
+ * element type (1 byte) and the raw elements, which are copied straight from the array's
+ * buffer. The array is released once it has been written.
+ *
+ * <p>A message without body bytes has its {@link Message#getPayload() payload} serialized here.
+ * Once a string table has been agreed for the connection, the body of every request and
+ * response starts with an unsigned varint: {@code 0} if the rest was written without the table,
+ * otherwise the number of string definitions plus one, followed by the definitions as slot,
+ * UTF-8 length and bytes. Payloads of serializers that support string tables are serialized
+ * against the table; since encoding happens in write order, the peer applies the definitions
+ * in the same order they were made.
+ *
+ * <p>Request and response bodies whose header asks for {@link io.github.x_kill9.xrpc.core.enums.CompressType#GZIP}
+ * are compressed as a whole, string definitions included, by {@link MessageCompressionSupport}.
+ *
  * @author x-kill9
  */
 public class Encoder extends MessageToByteEncoder<Message> {
 
     private static final short MAGIC = Constants.MAGIC;
 
+    // Sending string table of the connection, once agreed in the handshake
+    private OutboundStringTable strings;
+
+    /**
+     * Writes requests and responses against a string table from now on. Called on the event loop.
+     *
+     * @param capacity the number of slots agreed with the peer
+     */
+    public void enableStringTable(int capacity) {
+        this.strings = new OutboundStringTable(capacity);
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, Message msg, ByteBuf out) {
+        DirectArray array = msg.getDirectArray();
+        if (array != null) {
+            try {
+                if (msg.getMessageType() != MessageType.RESPONSE_ARRAY.getValue()) {
+                    throw new EncoderException("Array result on message type: " + msg.getMessageType());
+                }
+                byte[] response = msg.getBodyBytes();
+                msg.setBodyLength(Integer.BYTES + response.length + 1 + array.byteSize());
+                encodeHeader(msg, out);
+                out.ensureWritable(msg.getBodyLength());
+                out.writeInt(response.length);
+                out.writeBytes(response);
+                out.writeByte(array.getElementType().getValue());
+                out.writeBytes(array.asByteBuffer());
+            } finally {
+                array.release();
+            }
+            return;
+        }
+        if (strings != null && (msg.getMessageType() == MessageType.REQUEST.getValue()
+                || msg.getMessageType() == MessageType.RESPONSE.getValue())) {
+            encodeWithStringTable(ctx, msg, out);
+            return;
+        }
+        if (msg.getBodyBytes() == null && msg.getPayload() != null) {
+            byte[] body = serializePayload(msg, null);
+            msg.setBodyBytes(body);
+            msg.setBodyLength(body.length);
+        }
+        byte[] body = msg.getBodyBytes();
+        if (body != null && MessageCompressionSupport.isCompressed(msg)) {
+            body = MessageCompressionSupport.compress(body);
+            msg.setBodyLength(body.length);
+        }
+        encodeHeader(msg, out);
+        if (body != null) {
+            out.writeBytes(body);
+        }
+    }
+
+    private void encodeWithStringTable(ChannelHandlerContext ctx, Message msg, ByteBuf out) {
+        byte[] body = msg.getBodyBytes();
+        boolean tableFormat = body == null && msg.getPayload() != null
+                && DefaultSerializerFactory.getSerializer(msg.getSerializeType()).supportsStringTable();
+        ByteBuf prefix = ctx.alloc().heapBuffer();
+        try {
+            if (tableFormat) {
+                strings.beginMessage();
+                body = serializePayload(msg, strings);
+                VarIntUtils.writeVarInt(prefix, strings.getDefinitions().size() + 1);
+                for (OutboundStringTable.Definition definition : strings.getDefinitions()) {
+                    byte[] value = definition.getValue().getBytes(StandardCharsets.UTF_8);
+                    VarIntUtils.writeVarInt(prefix, definition.getSlot());
+                    VarIntUtils.writeVarInt(prefix, value.length);
+                    prefix.writeBytes(value);
+                }
+            } else {
+                if (body == null) {
+                    body = msg.getPayload() != null ? serializePayload(msg, null) : new byte[0];
+                }
+                VarIntUtils.writeVarInt(prefix, 0);
+            }
+            if (MessageCompressionSupport.isCompressed(msg)) {
+                // the prefix is read into the compressed body and leaves nothing to write on its own
+                byte[] plain = new byte[prefix.readableBytes() + body.length];
+                prefix.readBytes(plain, 0, prefix.readableBytes());
+                System.arraycopy(body, 0, plain, plain.length - body.length, body.length);
+                body = MessageCompressionSupport.compress(plain);
+            }
+            msg.setBodyLength(prefix.readableBytes() + body.length);
+            encodeHeader(msg, out);
+            out.writeBytes(prefix);
+            out.writeBytes(body);
+        } catch (RuntimeException e) {
+            if (tableFormat) {
+                // the definitions are not sent, so the peer must not be assumed to have them
+                strings.abortMessage();
+            }
+            throw e;
+        } finally {
+            prefix.release();
+        }
+    }
+
+    /**
+     * Serializes the payload of a message, against the string table if one is given.
+     */
+    private byte[] serializePayload(Message msg, OutboundStringTable table) {
+        Serializer serializer = DefaultSerializerFactory.getSerializer(msg.getSerializeType());
+        try {
+            return table != null ? serializer.serialize(msg.getPayload(), table) : serializer.serialize(msg.getPayload());
+        } catch (Exception e) {
+            throw new EncoderException("Failed to serialize " + msg.getPayload().getClass().getName()
+                    + ", requestId: " + msg.getRequestId(), e);
+        }
+    }
+
+    private void encodeHeader(Message msg, ByteBuf out) {
+        byte version = msg.getVersion();
         out.writeShort(MAGIC);
-        out.writeByte(msg.getVersion());
+        out.writeByte(version);
+        if (version == Constants.PROTOCOL_VERSION_V2) {
+            encodeV2Header(msg, out);
+        } else if (version == Constants.PROTOCOL_VERSION) {
+            encodeV1Header(msg, out);
+        } else {
+            throw new EncoderException("Unsupported protocol version: " + version);
+        }
+    }
+
+    private void encodeV1Header(Message msg, ByteBuf out) {
         out.writeByte(msg.getMessageType());
         out.writeByte(msg.getSerializeType());
         out.writeByte(msg.getCompressType());
         out.writeLong(msg.getRequestId());
         out.writeInt(msg.getBodyLength());
-        if (msg.getBodyBytes() != null) {
-            out.writeBytes(msg.getBodyBytes());
+    }
+
+    private void encodeV2Header(Message msg, ByteBuf out) {
+        int messageType = msg.getMessageType();
+        int serializeType = msg.getSerializeType();
+        int compressType = msg.getCompressType();
+        if ((messageType & ~Constants.V2_TYPE_MASK) != 0
+                || (serializeType & ~Constants.V2_TYPE_MASK) != 0
+                || (compressType & ~Constants.V2_COMPRESS_TYPE_MASK) != 0) {
+            throw new EncoderException("Header fields do not fit protocol version 2 - messageType: " + messageType
+                    + ", serializeType: " + serializeType + ", compressType: " + compressType);
+        }
+        if (msg.getRequestId() < 0 || msg.getBodyLength() < 0) {
+            throw new EncoderException("Request ID and body length must not be negative in protocol version 2, requestId: "
+                    + msg.getRequestId() + ", bodyLength: " + msg.getBodyLength());
         }
+        out.writeByte((messageType << Constants.V2_MESSAGE_TYPE_SHIFT)
+                | (serializeType << Constants.V2_SERIALIZE_TYPE_SHIFT)
+                | compressType);
+        VarIntUtils.writeVarLong(out, msg.getRequestId());
+        VarIntUtils.writeVarInt(out, msg.getBodyLength());
     }
-}
\ No newline at end of file
+}
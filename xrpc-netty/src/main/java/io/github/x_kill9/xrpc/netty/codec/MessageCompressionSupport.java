@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.netty.codec;
+
+import io.github.x_kill9.xrpc.core.constants.Constants;
+import io.github.x_kill9.xrpc.core.enums.CompressType;
+import io.github.x_kill9.xrpc.core.enums.MessageType;
+import io.github.x_kill9.xrpc.core.exception.DecoderException;
+import io.github.x_kill9.xrpc.core.exception.EncoderException;
+import io.github.x_kill9.xrpc.core.message.Message;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses the bodies of single messages.
+ *
+ * <p>A {@link MessageType#REQUEST}, {@link MessageType#RESPONSE} or
+ * {@link MessageType#RESPONSE_DELTA} message whose header carries {@link CompressType#GZIP}
+ * has its whole body, including any string definitions, gzip-compressed by the {@link Encoder}
+ * and inflated by the {@link Decoder}; the header holds the compressed length. Other message
+ * types are never compressed per message, and {@link CompressType#DEFLATE} is left to
+ * {@link StreamCompressionSupport}. Since the provider answers with the compression type of the
+ * request, a compressed request gets a compressed response.
+ *
+ * @author x-kill9
+ */
+public final class MessageCompressionSupport {
+
+    private MessageCompressionSupport() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns whether the body of the given message is compressed per message.
+     *
+     * @param msg the message, with its header fields set
+     * @return {@code true} if the body is to be compressed or inflated
+     */
+    public static boolean isCompressed(Message msg) {
+        byte type = msg.getMessageType();
+        return msg.getCompressType() == CompressType.GZIP.getValue()
+                && (type == MessageType.REQUEST.getValue()
+                || type == MessageType.RESPONSE.getValue()
+                || type == MessageType.RESPONSE_DELTA.getValue());
+    }
+
+    /**
+     * Compresses a message body.
+     *
+     * @param body the body bytes
+     * @return the compressed bytes
+     * @throws EncoderException if the body cannot be compressed
+     */
+    public static byte[] compress(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, body.length / 2));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new EncoderException("Failed to compress message body", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Inflates a compressed message body, which may not exceed {@link Constants#MAX_FRAME_LENGTH}
+     * bytes once inflated.
+     *
+     * @param body the compressed body; its readable bytes are consumed
+     * @return the inflated bytes
+     * @throws DecoderException if the body is malformed or inflates to too many bytes
+     */
+    public static byte[] decompress(ByteBuf body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.readableBytes() * 2);
+        byte[] buffer = new byte[8192];
+        try (InputStream gzip = new GZIPInputStream(new ByteBufInputStream(body))) {
+            int read;
+            while ((read = gzip.read(buffer)) != -1) {
+                if (out.size() + read > Constants.MAX_FRAME_LENGTH) {
+                    throw new DecoderException("Inflated body exceeds " + Constants.MAX_FRAME_LENGTH + " bytes");
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new DecoderException("Malformed compressed body: " + e.getMessage());
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.netty.codec;
+
+import io.github.x_kill9.xrpc.core.enums.CompressType;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.compression.JdkZlibDecoder;
+import io.netty.handler.codec.compression.JdkZlibEncoder;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Installs connection-scoped streaming compression into an XRPC channel pipeline.
+ *
+ * <p>Unlike per-message compression, a streaming codec keeps one compression window per
+ * direction for the whole lifetime of the channel, so repeated class names and similar
+ * argument objects in consecutive messages compress against each other. Every written
+ * message is sync-flushed by the deflater, so a message is always fully decodable on the
+ * peer as soon as it is sent and latency is not affected.
+ *
+ * <p>The codecs are placed below the XRPC {@link Decoder} and {@link Encoder}, which must be
+ * registered under {@link #DECODER_NAME} and {@link #ENCODER_NAME}. Installation happens once
+ * the {@link io.github.x_kill9.xrpc.core.enums.MessageType#HANDSHAKE} exchange has agreed on
+ * the compression type.
+ *
+ * @author x-kill9
+ */
+public final class StreamCompressionSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamCompressionSupport.class);
+
+    /**
+     * Pipeline name of the XRPC {@link Decoder}.
+     */
+    public static final String DECODER_NAME = "decoder";
+
+    /**
+     * Pipeline name of the XRPC {@link Encoder}.
+     */
+    public static final String ENCODER_NAME = "encoder";
+
+    private static final String INFLATER_NAME = "streamInflater";
+    private static final String DEFLATER_NAME = "streamDeflater";
+
+    private StreamCompressionSupport() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns whether the given type can be used as a streaming compression.
+     *
+     * @param type the requested compression type
+     * @return {@code true} if the type is supported for streaming
+     */
+    public static boolean isSupported(CompressType type) {
+        return type == CompressType.DEFLATE;
+    }
+
+    /**
+     * Parses the streaming compression name used in configuration.
+     *
+     * @param name the configured name, such as {@code none} or {@code deflate}
+     * @return the matching compression type
+     * @throws IllegalArgumentException if the name is not a supported streaming compression
+     */
+    public static CompressType fromName(String name) {
+        if (name == null || "none".equalsIgnoreCase(name)) {
+            return CompressType.NONE;
+        }
+        CompressType type = CompressType.valueOf(name.trim().toUpperCase());
+        if (!isSupported(type)) {
+            throw new IllegalArgumentException("Unsupported stream compression: " + name);
+        }
+        return type;
+    }
+
+    /**
+     * Installs the streaming codecs for the given type into the pipeline.
+     *
+     * <p>Must be called on the channel's event loop, between two messages, so that no
+     * partially read or written frame straddles the switch.
+     *
+     * @param pipeline the channel pipeline
+     * @param type     the negotiated compression type; {@link CompressType#NONE} is a no-op
+     */
+    public static void install(ChannelPipeline pipeline, CompressType type) {
+        if (type == CompressType.NONE) {
+            return;
+        }
+        if (!isSupported(type)) {
+            throw new IllegalArgumentException("Unsupported stream compression: " + type);
+        }
+        pipeline.addBefore(DECODER_NAME, INFLATER_NAME, new JdkZlibDecoder(ZlibWrapper.NONE));
+        pipeline.addBefore(ENCODER_NAME, DEFLATER_NAME, new JdkZlibEncoder(ZlibWrapper.NONE));
+        logger.debug("Stream compression {} installed on channel: {}", type, pipeline.channel());
+    }
+}
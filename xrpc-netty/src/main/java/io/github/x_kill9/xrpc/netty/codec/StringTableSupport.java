@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.netty.codec;
+
+import io.github.x_kill9.xrpc.core.constants.Constants;
+import io.netty.channel.ChannelPipeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Negotiates and installs connection-scoped string tables.
+ *
+ * <p>The client requests a table size in the body of its
+ * {@link io.github.x_kill9.xrpc.core.enums.MessageType#HANDSHAKE} message and the server answers
+ * with the size it agreed to; an empty body means no table, which is also what a server that
+ * predates string tables answers. Both peers then use one table of that size per direction.
+ *
+ * @author x-kill9
+ */
+public final class StringTableSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(StringTableSupport.class);
+
+    private StringTableSupport() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Encodes a table size as a handshake body.
+     *
+     * @param size the table size, {@code 0} for none
+     * @return the body, empty for no table
+     */
+    public static byte[] toHandshakeBody(int size) {
+        return size > 0 ? ByteBuffer.allocate(Integer.BYTES).putInt(size).array() : new byte[0];
+    }
+
+    /**
+     * Reads the table size from a handshake body, capped at {@link Constants#MAX_STRING_TABLE_SIZE}.
+     *
+     * @param body the handshake body, may be {@code null}
+     * @return the table size, {@code 0} for none
+     */
+    public static int fromHandshakeBody(byte[] body) {
+        if (body == null || body.length < Integer.BYTES) {
+            return 0;
+        }
+        int size = ByteBuffer.wrap(body).getInt();
+        return Math.max(0, Math.min(size, Constants.MAX_STRING_TABLE_SIZE));
+    }
+
+    /**
+     * Switches the XRPC codecs of the pipeline to string tables of the given size.
+     *
+     * <p>Must be called on the channel's event loop, between two messages.
+     *
+     * @param pipeline the channel pipeline
+     * @param size     the agreed table size; {@code 0} is a no-op
+     */
+    public static void install(ChannelPipeline pipeline, int size) {
+        if (size <= 0) {
+            return;
+        }
+        ((Decoder) pipeline.get(StreamCompressionSupport.DECODER_NAME)).enableStringTable(size);
+        ((Encoder) pipeline.get(StreamCompressionSupport.ENCODER_NAME)).enableStringTable(size);
+        logger.debug("String table of {} slots installed on channel: {}", size, pipeline.channel());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.netty.codec;
+
+import io.github.x_kill9.xrpc.core.exception.DecoderException;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Utility for reading and writing unsigned LEB128 varints on a {@link ByteBuf}.
+ *
+ * <p>Each byte carries seven bits of the value, least significant group first; the high bit
+ * is set on every byte except the last. Values below 128 take a single byte, which keeps
+ * request IDs and body lengths of small messages compact in the version 2 header.
+ *
+ * <p>The read methods return {@code -1} when the buffer does not yet hold the complete
+ * varint, so callers can reset the reader index and wait for more data.
+ *
+ * @author x-kill9
+ */
+public final class VarIntUtils {
+
+    private static final int MAX_VAR_INT_BYTES = 5;
+    private static final int MAX_VAR_LONG_BYTES = 10;
+
+    private VarIntUtils() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Writes a non-negative int as a varint.
+     *
+     * @param out   the target buffer
+     * @param value the value to write, must not be negative
+     */
+    public static void writeVarInt(ByteBuf out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Writes a non-negative long as a varint.
+     *
+     * @param out   the target buffer
+     * @param value the value to write, must not be negative
+     */
+    public static void writeVarLong(ByteBuf out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a varint-encoded non-negative int.
+     *
+     * @param in the source buffer
+     * @return the decoded value, or {@code -1} if the varint is incomplete
+     * @throws DecoderException if the varint is longer than five bytes or overflows an int
+     */
+    public static int readVarInt(ByteBuf in) {
+        int result = 0;
+        for (int i = 0; i < MAX_VAR_INT_BYTES; i++) {
+            if (!in.isReadable()) {
+                return -1;
+            }
+            byte b = in.readByte();
+            result |= (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                if (result < 0) {
+                    throw new DecoderException("Varint overflows int: " + Integer.toUnsignedString(result));
+                }
+                return result;
+            }
+        }
+        throw new DecoderException("Malformed varint, exceeds " + MAX_VAR_INT_BYTES + " bytes");
+    }
+
+    /**
+     * Reads a varint-encoded non-negative long.
+     *
+     * @param in the source buffer
+     * @return the decoded value, or {@code -1} if the varint is incomplete
+     * @throws DecoderException if the varint is longer than ten bytes or overflows a long
+     */
+    public static long readVarLong(ByteBuf in) {
+        long result = 0;
+        for (int i = 0; i < MAX_VAR_LONG_BYTES; i++) {
+            if (!in.isReadable()) {
+                return -1;
+            }
+            byte b = in.readByte();
+            result |= (long) (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                if (result < 0) {
+                    throw new DecoderException("Varint overflows long: " + Long.toUnsignedString(result));
+                }
+                return result;
+            }
+        }
+        throw new DecoderException("Malformed varint, exceeds " + MAX_VAR_LONG_BYTES + " bytes");
+    }
+}
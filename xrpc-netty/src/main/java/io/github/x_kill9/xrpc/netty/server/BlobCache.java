@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.netty.server;
+
+import io.github.x_kill9.xrpc.core.message.BlobRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-connection cache of blob arguments received with their content, keyed by digest.
+ *
+ * <p>Entries are evicted in least-recently-used order once their total size exceeds the
+ * configured limit. A blob larger than the limit is not cached at all; providers publish the
+ * limit so that consumers send such blobs with their content every time.
+ *
+ * <p>Service code receives a copy of a cached blob, so a method that modifies its argument does
+ * not change the blob later calls receive.
+ *
+ * @author x-kill9
+ */
+class BlobCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlobCache.class);
+
+    private final long maxBytes;
+    private final LinkedHashMap<ByteBuffer, byte[]> blobs = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    BlobCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Resolves the blob references among the given arguments in place.
+     *
+     * <p>References carrying their content are cached and replaced by it; references without
+     * content are replaced by a copy of the cached blob.
+     *
+     * @param parameters the request arguments
+     * @return {@code false} if a referenced blob is not cached
+     */
+    synchronized boolean resolve(Object[] parameters) {
+        if (parameters == null) {
+            return true;
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            if (!(parameters[i] instanceof BlobRef)) {
+                continue;
+            }
+            BlobRef ref = (BlobRef) parameters[i];
+            ByteBuffer key = ByteBuffer.wrap(ref.getDigest());
+            byte[] data = ref.getData();
+            if (data != null) {
+                // the cache keeps the received array, the method gets its own
+                parameters[i] = put(key, data) ? data.clone() : data;
+                continue;
+            }
+            data = blobs.get(key);
+            if (data == null) {
+                logger.debug("Blob of {} bytes not cached, asking the client to resend it", ref.getLength());
+                return false;
+            }
+            parameters[i] = data.clone();
+        }
+        return true;
+    }
+
+    /**
+     * Caches a blob unless it is larger than the cache or already cached.
+     *
+     * @return whether the given array is now held by the cache
+     */
+    private boolean put(ByteBuffer key, byte[] data) {
+        if (data.length > maxBytes || blobs.containsKey(key)) {
+            return false;
+        }
+        blobs.put(key, data);
+        totalBytes += data.length;
+        Iterator<Map.Entry<ByteBuffer, byte[]>> iterator = blobs.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().length;
+            iterator.remove();
+        }
+        logger.trace("Cached blob of {} bytes, {} blobs / {} bytes cached", data.length, blobs.size(), totalBytes);
+        return blobs.containsKey(key);
+    }
+}
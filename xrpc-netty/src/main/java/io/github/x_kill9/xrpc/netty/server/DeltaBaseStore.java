@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.netty.server;
+
+import io.github.x_kill9.xrpc.core.delta.ResponseDeltas;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Per-connection record of the last response body sent for each delta method.
+ *
+ * <p>Holds one body per method, so its size is bounded by the delta methods a connection calls.
+ *
+ * @author x-kill9
+ */
+class DeltaBaseStore {
+
+    private final Map<String, Base> bases = new HashMap<>();
+
+    /**
+     * Encodes a response body as a delta frame and records it as the new base of the method.
+     *
+     * @param methodKey         the method key
+     * @param body              the serialized response
+     * @param clientBaseVersion the base version the consumer holds, or {@code 0}
+     * @return the frame
+     */
+    synchronized byte[] encode(String methodKey, byte[] body, long clientBaseVersion) {
+        // random rather than counted, so a version never matches a base from an earlier connection
+        long version;
+        do {
+            version = ThreadLocalRandom.current().nextLong();
+        } while (version == 0);
+        Base base = bases.get(methodKey);
+        byte[] frame = base != null && base.version == clientBaseVersion
+                ? ResponseDeltas.encode(version, body, base.version, base.body)
+                : ResponseDeltas.encode(version, body, 0, null);
+        bases.put(methodKey, new Base(version, body));
+        return frame;
+    }
+
+    private static final class Base {
+        private final long version;
+        private final byte[] body;
+
+        private Base(long version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+    }
+}
@@ -4,12 +4,17 @@
  */
 package io.github.x_kill9.xrpc.netty.server;
 
+import io.github.x_kill9.xrpc.core.codec.ServiceCodecs;
 import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
+import io.github.x_kill9.xrpc.core.invocation.invoker.ServiceInvokerTable;
 import io.github.x_kill9.xrpc.core.loadbalance.ServiceInstance;
+import io.github.x_kill9.xrpc.core.message.BlobRef;
 import io.github.x_kill9.xrpc.core.registry.RegistryService;
 import io.github.x_kill9.xrpc.core.spi.ExtensionLoader;
 import io.github.x_kill9.xrpc.netty.codec.Decoder;
 import io.github.x_kill9.xrpc.netty.codec.Encoder;
+import io.github.x_kill9.xrpc.netty.codec.StreamCompressionSupport;
+import io.github.x_kill9.xrpc.serializer.factory.DefaultSerializerFactory;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
@@ -18,11 +23,11 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -42,16 +47,19 @@ public class NettyServer {
     private final String host;
     private final int port;
     private final Map<String, Object> serviceMap;
+    private final ServiceInvokerTable invokers;
 
     public NettyServer(String host, int port, Map<String, Object> serviceMap) {
         this.host = host;
         this.port = port;
         this.serviceMap = serviceMap;
+        this.invokers = ServiceInvokerTable.build(serviceMap);
         logger.debug("NettyServer created - host: {}, port: {}, services: {}", host, port, serviceMap.keySet());
     }
 
     public void start() throws Exception {
         logger.info("Starting XRPC server on {}:{}", host, port);
+        registerServiceInterfaces();
         EventLoopGroup bossGroup = new NioEventLoopGroup(1);
         EventLoopGroup workerGroup = new NioEventLoopGroup();
 
@@ -64,12 +72,9 @@ public class NettyServer {
                         protected void initChannel(SocketChannel ch) {
                             logger.trace("Initializing server channel pipeline for {}", ch);
                             ch.pipeline()
-                                    .addLast(new LengthFieldBasedFrameDecoder(
-                                            10 * 1024 * 1024,
-                                            14, 4, 0, 0))
-                                    .addLast(new Decoder())
-                                    .addLast(new Encoder())
-                                    .addLast(new ServerHandler(serviceMap));
+                                    .addLast(StreamCompressionSupport.DECODER_NAME, new Decoder())
+                                    .addLast(StreamCompressionSupport.ENCODER_NAME, new Encoder())
+                                    .addLast(new ServerHandler(invokers));
                             logger.trace("Server channel pipeline initialized for {}", ch);
                         }
                     })
@@ -92,6 +97,16 @@ public class NettyServer {
                 instance.setHost(host);
                 instance.setPort(port);
                 instance.setWeight(1);
+                Map<String, String> metadata = new HashMap<>();
+                // lets consumers send blobs the cache cannot hold with their content right away
+                metadata.put(BlobRef.METADATA_KEY,
+                        String.valueOf(ConfigFactory.getConfig().getServer().getBlobCacheBytes()));
+                String codecFingerprint = ServiceCodecs.fingerprint(entry.getKey());
+                if (codecFingerprint != null) {
+                    // lets consumers with the same generated codec switch to the flyweight format
+                    metadata.put(ServiceCodecs.METADATA_KEY, codecFingerprint);
+                }
+                instance.setMetadata(metadata);
                 logger.debug("Registering service: {} to registry at {}:{}", entry.getKey(), host, port);
                 registry.register(instance);
                 registeredInstances.add(instance);
@@ -121,4 +136,40 @@ public class NettyServer {
             logger.info("Server shutdown complete");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Makes the exported interfaces known to the serializers before the first request arrives.
+     */
+    private void registerServiceInterfaces() {
+        for (Map.Entry<String, Object> entry : serviceMap.entrySet()) {
+            Class<?> interfaceClass = resolveInterface(entry.getKey(), entry.getValue());
+            if (interfaceClass == null) {
+                logger.warn("Cannot resolve service interface {} for serializer registration", entry.getKey());
+                continue;
+            }
+            DefaultSerializerFactory.registerServiceInterface(interfaceClass);
+        }
+    }
+
+    /**
+     * Resolves the interface class with the given name from the service implementation.
+     *
+     * @param interfaceName the fully qualified interface name
+     * @param instance      the service implementation
+     * @return the interface class, or {@code null} if it cannot be resolved
+     */
+    private Class<?> resolveInterface(String interfaceName, Object instance) {
+        for (Class<?> clazz = instance.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            for (Class<?> candidate : clazz.getInterfaces()) {
+                if (candidate.getName().equals(interfaceName)) {
+                    return candidate;
+                }
+            }
+        }
+        try {
+            return Class.forName(interfaceName, false, instance.getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
@@ -4,33 +4,50 @@
  */
 package io.github.x_kill9.xrpc.netty.server;
 
+import io.github.x_kill9.xrpc.core.columnar.ColumnarResults;
+import io.github.x_kill9.xrpc.core.config.call.CallSettings;
+import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
+import io.github.x_kill9.xrpc.core.constants.Constants;
 import io.github.x_kill9.xrpc.core.constants.StatusCodes;
 import io.github.x_kill9.xrpc.core.container.RpcContainer;
+import io.github.x_kill9.xrpc.core.delta.ResponseDeltas;
+import io.github.x_kill9.xrpc.core.enums.CompressType;
 import io.github.x_kill9.xrpc.core.enums.MessageType;
+import io.github.x_kill9.xrpc.core.invocation.invoker.MethodInvoker;
+import io.github.x_kill9.xrpc.core.invocation.invoker.ServiceInvokerTable;
+import io.github.x_kill9.xrpc.core.message.BlobRef;
+import io.github.x_kill9.xrpc.core.message.DirectArray;
 import io.github.x_kill9.xrpc.core.message.Message;
 import io.github.x_kill9.xrpc.core.message.Request;
 import io.github.x_kill9.xrpc.core.message.Response;
+import io.github.x_kill9.xrpc.core.message.StagedRequest;
 import io.github.x_kill9.xrpc.core.serialize.Serializer;
 import io.github.x_kill9.xrpc.core.util.ServiceMapBuilder;
+import io.github.x_kill9.xrpc.netty.codec.StreamCompressionSupport;
+import io.github.x_kill9.xrpc.netty.codec.StringTableSupport;
 import io.github.x_kill9.xrpc.serializer.factory.DefaultSerializerFactory;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Handles incoming RPC requests, invokes the corresponding service method,
  * and sends back a response.
  *
  * <p>This handler is {@link ChannelHandler.Sharable} and processes messages
- * of type {@link MessageType#REQUEST} and {@link MessageType#HEARTBEAT}.
- * It properly handles exceptions and returns appropriate error responses.
+ * of type {@link MessageType#REQUEST}, {@link MessageType#HEARTBEAT} and {@link MessageType#HANDSHAKE}.
+ * It properly handles exceptions and returns appropriate error responses. Requests marked
+ * {@link CallSettings#ONEWAY_ATTACHMENT oneway} are invoked without any response.
  *
  * @author x-kill9
  */
@@ -39,12 +56,19 @@ public class ServerHandler extends SimpleChannelInboundHandler<Message> {
 
     private static final Logger logger = LoggerFactory.getLogger(ServerHandler.class);
 
-    // Mapping from interface name to service implementation instance
-    private final Map<String, Object> serviceMap;
+    // Blob arguments received on a connection, created when the first blob reference arrives
+    private static final AttributeKey<BlobCache> BLOB_CACHE = AttributeKey.valueOf("xrpc.blobCache");
 
-    public ServerHandler(Map<String, Object> serviceMap) {
-        this.serviceMap = serviceMap;
-        logger.debug("ServerHandler created with {} services: {}", serviceMap.size(), serviceMap.keySet());
+    // Last response bodies of delta methods on a connection, created with the first delta response
+    private static final AttributeKey<DeltaBaseStore> DELTA_BASES = AttributeKey.valueOf("xrpc.deltaBases");
+
+    // Invokers of the exported services, built once by the server and shared by all connections
+    private final ServiceInvokerTable invokers;
+
+    public ServerHandler(ServiceInvokerTable invokers) {
+        this.invokers = invokers;
+        logger.debug("ServerHandler created with {} services: {}", invokers.getServiceNames().size(),
+                invokers.getServiceNames());
     }
 
     @Override
@@ -58,21 +82,22 @@ public class ServerHandler extends SimpleChannelInboundHandler<Message> {
             logger.trace("Deserializing request with serializeType: {}", serializeType);
 
             Serializer serializer = DefaultSerializerFactory.getSerializer(serializeType);
-            Request request;
+            // only the routing part is decoded here; arguments are decoded right before invocation
+            StagedRequest staged;
             try {
-                request = serializer.deserialize(msg.getBodyBytes(), Request.class);
+                staged = serializer.deserializeRequest(msg.getBodyBytes(), msg.getStringTable());
             } catch (Exception e) {
                 logger.error("Failed to deserialize request, requestId: {}", requestId, e);
                 sendResponse(ctx, msg, new Response(StatusCodes.BAD_REQUEST, "Invalid request format"), serializeType);
                 return;
             }
 
-            String interfaceName = request.getInterfaceName();
-            String methodName = request.getMethodName();
+            String interfaceName = staged.getInterfaceName();
+            String methodName = staged.getMethodName();
             logger.debug("Processing RPC request - requestId: {}, service: {}.{}, parameterTypes: {}",
-                    requestId, interfaceName, methodName, request.getParameterTypes());
+                    requestId, interfaceName, methodName, staged.getParameterTypes());
 
-            Object instance = serviceMap.get(interfaceName);
+            Object instance = invokers.getService(interfaceName);
             if (instance == null) {
                 logger.error("No service instance found for interface: {}", interfaceName);
                 sendResponse(ctx, msg,
@@ -83,54 +108,175 @@ public class ServerHandler extends SimpleChannelInboundHandler<Message> {
 
             logger.trace("Invoking method {} on instance: {}", methodName, instance.getClass().getName());
 
-            Method method;
-            try {
-                method = instance.getClass().getMethod(methodName, request.getParameterTypes());
-            } catch (NoSuchMethodException e) {
-                logger.error("Method not found: {}.{}", interfaceName, methodName, e);
+            MethodInvoker invoker = invokers.find(interfaceName, methodName, staged.getParameterTypes());
+            if (invoker == null) {
+                logger.error("Method not found: {}.{}", interfaceName, methodName);
                 sendResponse(ctx, msg,
                         new Response(StatusCodes.METHOD_NOT_FOUND, "Method not found: " + methodName),
                         serializeType);
                 return;
             }
 
-            Object result;
+            Request request;
             try {
-                result = method.invoke(instance, request.getParameters());
-            } catch (IllegalAccessException e) {
-                logger.error("Illegal access to method: {}.{}", interfaceName, methodName, e);
-                sendResponse(ctx, msg,
-                        new Response(StatusCodes.SERVER_ERROR, "Illegal access to method: " + methodName),
-                        serializeType);
+                request = staged.materialize();
+            } catch (Exception e) {
+                logger.error("Failed to deserialize request arguments, requestId: {}", requestId, e);
+                sendResponse(ctx, msg, new Response(StatusCodes.BAD_REQUEST, "Invalid request format"), serializeType);
+                return;
+            }
+            if (!resolveBlobs(ctx, request.getParameters())) {
+                sendResponse(ctx, msg, new Response(StatusCodes.BLOB_NOT_FOUND, "Blob argument not cached"), serializeType);
                 return;
+            }
+            // the caller of a oneway request awaits no response, not even a failure
+            boolean oneway = request.getAttachments() != null
+                    && Boolean.parseBoolean(request.getAttachments().get(CallSettings.ONEWAY_ATTACHMENT));
+
+            Object result;
+            try {
+                result = invoker.invoke(request.getParameters());
             } catch (InvocationTargetException e) {
                 // Business method threw an exception
                 Throwable cause = e.getCause();
                 logger.error("Business method threw exception: {}.{}, cause: {}", interfaceName, methodName,
                         cause.getMessage(), cause);
-                sendResponse(ctx, msg,
-                        new Response(StatusCodes.FAILURE, cause.getMessage()),
-                        serializeType);
+                if (!oneway) {
+                    sendResponse(ctx, msg,
+                            new Response(StatusCodes.FAILURE, cause.getMessage()),
+                            serializeType);
+                }
                 return;
             } catch (Exception e) {
                 logger.error("Unexpected error while invoking method: {}.{}", interfaceName, methodName, e);
-                sendResponse(ctx, msg,
-                        new Response(StatusCodes.INTERNAL_ERROR, "Internal server error: " + e.getMessage()),
-                        serializeType);
+                if (!oneway) {
+                    sendResponse(ctx, msg,
+                            new Response(StatusCodes.INTERNAL_ERROR, "Internal server error: " + e.getMessage()),
+                            serializeType);
+                }
                 return;
             }
 
             logger.trace("Method {}.{} invoked successfully, result: {}", interfaceName, methodName, result);
-            sendResponse(ctx, msg, new Response(StatusCodes.SUCCESS, result), serializeType);
-            logger.debug("Response sent for requestId: {}, status: 200", requestId);
+            if (oneway) {
+                return;
+            }
+            if (invoker.isAsync() && result instanceof CompletionStage) {
+                // respond when the implementation completes, on the thread that completes it
+                ((CompletionStage<?>) result).whenComplete((value, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        logger.error("Business method completed exceptionally: {}.{}, cause: {}", interfaceName,
+                                methodName, cause.getMessage(), cause);
+                        sendResponse(ctx, msg, new Response(StatusCodes.FAILURE, cause.getMessage()), serializeType);
+                    } else {
+                        sendResult(ctx, msg, invoker, request, value, serializer);
+                    }
+                });
+                return;
+            }
+            sendResult(ctx, msg, invoker, request, result, serializer);
 
         } else if (msgType == MessageType.HEARTBEAT) {
             logger.trace("Received heartbeat requestId: {}, no response needed", requestId);
+        } else if (msgType == MessageType.HANDSHAKE) {
+            handleHandshake(ctx, msg);
         } else {
             logger.warn("Received unknown message type: {} for requestId: {}", msgType, requestId);
         }
     }
 
+    /**
+     * Sends the successful result of a service method in the form the method calls for.
+     *
+     * @param ctx        the channel handler context
+     * @param requestMsg the original request message
+     * @param invoker    the invoked method
+     * @param request    the request
+     * @param result     the result, already awaited for asynchronous methods
+     * @param serializer the serializer of the request
+     */
+    private void sendResult(ChannelHandlerContext ctx, Message requestMsg, MethodInvoker invoker, Request request,
+                            Object result, Serializer serializer) {
+        byte serializeType = requestMsg.getSerializeType();
+        if (invoker.getColumnarRowType() != null && serializer.supportsColumnarLists()) {
+            result = ColumnarResults.toColumnar(invoker.getColumnarRowType(), result);
+        }
+        if (result instanceof DirectArray) {
+            sendArrayResponse(ctx, requestMsg, (DirectArray) result, serializeType);
+        } else if (invoker.isDeltaResponse()) {
+            sendDeltaResponse(ctx, requestMsg, new Response(StatusCodes.SUCCESS, result), serializeType,
+                    invoker.getMethodKey(), request.getAttachments());
+        } else {
+            sendResponse(ctx, requestMsg, new Response(StatusCodes.SUCCESS, result), serializeType);
+        }
+        logger.debug("Response sent for requestId: {}, status: 200", requestMsg.getRequestId());
+    }
+
+    /**
+     * Replaces blob references among the arguments by their content, using the connection's blob cache.
+     *
+     * @param ctx        the channel handler context
+     * @param parameters the request arguments
+     * @return {@code false} if a referenced blob is not cached
+     */
+    private boolean resolveBlobs(ChannelHandlerContext ctx, Object[] parameters) {
+        if (parameters == null) {
+            return true;
+        }
+        for (Object parameter : parameters) {
+            if (parameter instanceof BlobRef) {
+                Attribute<BlobCache> attribute = ctx.channel().attr(BLOB_CACHE);
+                BlobCache cache = attribute.get();
+                if (cache == null) {
+                    cache = new BlobCache(ConfigFactory.getConfig().getServer().getBlobCacheBytes());
+                    BlobCache existing = attribute.setIfAbsent(cache);
+                    if (existing != null) {
+                        cache = existing;
+                    }
+                }
+                return cache.resolve(parameters);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Answers a connection handshake and switches the channel to the agreed streaming compression
+     * and string table.
+     *
+     * <p>The acknowledgement is written uncompressed; the codecs are installed right after it,
+     * on the event loop, so the next message in each direction is the first compressed one.
+     *
+     * @param ctx          the channel handler context
+     * @param handshakeMsg the handshake message carrying the requested compression type and table size
+     */
+    private void handleHandshake(ChannelHandlerContext ctx, Message handshakeMsg) {
+        CompressType requested;
+        try {
+            requested = CompressType.of(handshakeMsg.getCompressType());
+        } catch (IllegalArgumentException e) {
+            requested = CompressType.NONE;
+        }
+        CompressType agreed = StreamCompressionSupport.isSupported(requested) ? requested : CompressType.NONE;
+        int stringTableSize = StringTableSupport.fromHandshakeBody(handshakeMsg.getBodyBytes());
+        logger.debug("Handshake from channel: {}, requested stream compression: {}, agreed: {}, string table size: {}",
+                ctx.channel(), requested, agreed, stringTableSize);
+
+        Message ack = new Message();
+        ack.setVersion(handshakeMsg.getVersion());
+        ack.setMessageType(MessageType.HANDSHAKE.getValue());
+        ack.setCompressType(agreed.getValue());
+        ack.setRequestId(handshakeMsg.getRequestId());
+        byte[] body = StringTableSupport.toHandshakeBody(stringTableSize);
+        ack.setBodyBytes(body);
+        ack.setBodyLength(body.length);
+        ctx.writeAndFlush(ack);
+        StreamCompressionSupport.install(ctx.pipeline(), agreed);
+        StringTableSupport.install(ctx.pipeline(), stringTableSize);
+    }
+
     /**
      * Sends a response message back to the client.
      *
@@ -140,23 +286,133 @@ public class ServerHandler extends SimpleChannelInboundHandler<Message> {
      * @param serializeType the serialization type to use
      */
     private void sendResponse(ChannelHandlerContext ctx, Message requestMsg, Response response, byte serializeType) {
+        if (requestMsg.getStringTable() != null) {
+            // answer against the string table like the request; the encoder serializes in write order
+            Message message = new Message(MessageType.RESPONSE.getValue(), serializeType,
+                    requestMsg.getCompressType(), requestMsg.getRequestId(), 0, null);
+            message.setVersion(requestMsg.getVersion());
+            message.setPayload(response);
+            ctx.writeAndFlush(message).addListener(f -> {
+                if (!f.isSuccess()) {
+                    logger.error("Failed to send response, requestId: {}", requestMsg.getRequestId(), f.cause());
+                    ctx.close();
+                }
+            });
+            return;
+        }
         try {
             Serializer serializer = DefaultSerializerFactory.getSerializer(serializeType);
             byte[] bodyBytes = serializer.serialize(response);
+            writeResponse(ctx, requestMsg, MessageType.RESPONSE, serializeType, bodyBytes);
+        } catch (Exception e) {
+            logger.error("Failed to send response, requestId: {}", requestMsg.getRequestId(), e);
+            ctx.close();
+        }
+    }
+
+    /**
+     * Sends the successful response of a delta method as a delta against the body the client
+     * last received on this connection, if it still holds that version.
+     *
+     * @param ctx           the channel handler context
+     * @param requestMsg    the original request message
+     * @param response      the response object
+     * @param serializeType the serialization type to use
+     * @param methodKey     the method key
+     * @param attachments   the request attachments, carrying the client's base version
+     */
+    private void sendDeltaResponse(ChannelHandlerContext ctx, Message requestMsg, Response response,
+                                   byte serializeType, String methodKey, Map<String, String> attachments) {
+        long clientBaseVersion = 0;
+        String advertised = attachments != null ? attachments.get(ResponseDeltas.BASE_VERSION_ATTACHMENT) : null;
+        if (advertised != null) {
+            try {
+                clientBaseVersion = Long.parseLong(advertised);
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring malformed delta base version: {}", advertised);
+            }
+        }
+        try {
+            Serializer serializer = DefaultSerializerFactory.getSerializer(serializeType);
+            byte[] bodyBytes = serializer.serialize(response);
+            Attribute<DeltaBaseStore> attribute = ctx.channel().attr(DELTA_BASES);
+            DeltaBaseStore store = attribute.get();
+            if (store == null) {
+                store = new DeltaBaseStore();
+                DeltaBaseStore existing = attribute.setIfAbsent(store);
+                if (existing != null) {
+                    store = existing;
+                }
+            }
+            byte[] frame = store.encode(methodKey, bodyBytes, clientBaseVersion);
+            logger.trace("Delta response for {}: {} of {} bytes", methodKey, frame.length, bodyBytes.length);
+            writeResponse(ctx, requestMsg, MessageType.RESPONSE_DELTA, serializeType, frame);
+        } catch (Exception e) {
+            logger.error("Failed to send delta response, requestId: {}", requestMsg.getRequestId(), e);
+            ctx.close();
+        }
+    }
+
+    /**
+     * Sends a successful response whose result is an array as a {@link MessageType#RESPONSE_ARRAY}
+     * message, with the elements written from the array's buffer by the encoder, which then
+     * releases the array.
+     *
+     * @param ctx           the channel handler context
+     * @param requestMsg    the original request message
+     * @param array         the array returned by the service method
+     * @param serializeType the serialization type to use for the response without its result
+     */
+    private void sendArrayResponse(ChannelHandlerContext ctx, Message requestMsg, DirectArray array,
+                                   byte serializeType) {
+        if (array.isReleased() || array.byteSize() > Constants.MAX_ARRAY_FRAME_LENGTH - 1024) {
+            logger.error("Cannot send array result {}, requestId: {}", array, requestMsg.getRequestId());
+            array.release();
+            sendResponse(ctx, requestMsg,
+                    new Response(StatusCodes.INTERNAL_ERROR, "Array result released or too large: " + array),
+                    serializeType);
+            return;
+        }
+        try {
+            Serializer serializer = DefaultSerializerFactory.getSerializer(serializeType);
+            byte[] bodyBytes = serializer.serialize(new Response(StatusCodes.SUCCESS, null));
             Message message = new Message(
-                    MessageType.RESPONSE.getValue(),
+                    MessageType.RESPONSE_ARRAY.getValue(),
                     serializeType,
                     requestMsg.getCompressType(),
                     requestMsg.getRequestId(),
                     bodyBytes.length,
                     bodyBytes);
-            ctx.writeAndFlush(message);
+            message.setVersion(requestMsg.getVersion());
+            message.setDirectArray(array);
+            logger.trace("Array response of {} bytes for requestId: {}", array.byteSize(), requestMsg.getRequestId());
+            ctx.writeAndFlush(message).addListener(f -> {
+                // covers writes that fail before reaching the encoder
+                if (!f.isSuccess()) {
+                    array.release();
+                }
+            });
         } catch (Exception e) {
-            logger.error("Failed to send response, requestId: {}", requestMsg.getRequestId(), e);
+            array.release();
+            logger.error("Failed to send array response, requestId: {}", requestMsg.getRequestId(), e);
             ctx.close();
         }
     }
 
+    private void writeResponse(ChannelHandlerContext ctx, Message requestMsg, MessageType messageType,
+                               byte serializeType, byte[] bodyBytes) {
+        Message message = new Message(
+                messageType.getValue(),
+                serializeType,
+                requestMsg.getCompressType(),
+                requestMsg.getRequestId(),
+                bodyBytes.length,
+                bodyBytes);
+        // answer with the same header layout the client used
+        message.setVersion(requestMsg.getVersion());
+        ctx.writeAndFlush(message);
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
         logger.error("Exception caught in ServerHandler on channel: {}", ctx.channel(), cause);
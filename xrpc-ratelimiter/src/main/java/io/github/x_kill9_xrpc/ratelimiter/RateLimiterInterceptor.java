@@ -6,21 +6,25 @@ package io.github.x_kill9_xrpc.ratelimiter;
 
 import io.github.x_kill9.xrpc.core.flowcontrol.RateLimiter;
 import io.github.x_kill9.xrpc.core.invocation.context.InvocationContext;
-import io.github.x_kill9.xrpc.core.invocation.interceptor.Interceptor;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.AsyncInterceptor;
+import io.github.x_kill9.xrpc.core.invocation.interceptor.AsyncInterceptorChain;
 import io.github.x_kill9.xrpc.core.invocation.interceptor.InterceptorChain;
 import io.github.x_kill9.xrpc.core.spi.ExtensionLoader;
 import io.github.x_kill9_xrpc.ratelimiter.exception.RateLimitException;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Interceptor that applies rate limiting to RPC invocations.
  *
  * <p>Uses a {@link RateLimiter} implementation obtained via SPI based on the configuration.
+ * A rejected asynchronous call gets a stage failed with {@link RateLimitException}.
  *
  * @author x-kill9
  */
-public class RateLimiterInterceptor implements Interceptor<RateLimiterConfig> {
+public class RateLimiterInterceptor implements AsyncInterceptor<RateLimiterConfig> {
 
     private RateLimiterConfig config;
     private RateLimiter limiter;
@@ -59,4 +63,12 @@ public class RateLimiterInterceptor implements Interceptor<RateLimiterConfig> {
         }
         return chain.proceed(context);
     }
+
+    @Override
+    public CompletionStage<Object> interceptAsync(InvocationContext context, AsyncInterceptorChain chain) {
+        if (!limiter.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RateLimitException("Rate limited"));
+        }
+        return chain.proceed(context);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.fury;
+
+import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
+import io.github.x_kill9.xrpc.core.config.model.FuryConfig;
+import io.github.x_kill9.xrpc.core.enums.SerializeType;
+import io.github.x_kill9.xrpc.core.exception.SerializerException;
+import io.github.x_kill9.xrpc.core.serialize.Serializer;
+import io.github.x_kill9.xrpc.core.util.ServiceTypeScanner;
+import org.apache.fury.Fury;
+import org.apache.fury.ThreadSafeFury;
+import org.apache.fury.config.Language;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.serializer.BufferObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Apache Fury based implementation of {@link Serializer}.
+ *
+ * <p>Fury generates serializer classes for each type at runtime (JIT codegen) instead of
+ * reflecting over fields, and keeps its instances in a thread-safe pool. With
+ * {@link FuryConfig#isRegistration()} enabled, the classes of
+ * {@link FuryConfig#getRegisteredClasses()} are registered with a {@code short} ID given by
+ * their position in the list, above the IDs Fury reserves. The IDs come from the configured
+ * order alone, so peers sharing the list agree on them without any chance of collision; other
+ * classes are written by name.
+ *
+ * <p>Primitive arrays of at least {@link FuryConfig#getOutOfBandThreshold()} bytes are taken
+ * out of the Fury stream and appended as raw segments. On the receiving side each segment is
+ * handed to Fury as a view of the received bytes, so large arrays are copied once into their
+ * target array rather than through Fury's own buffer. The payload layout is:
+ * <pre>
+ * IN_BAND:     [0x00][fury stream]
+ * OUT_OF_BAND: [0x01][int streamLength][fury stream][int count]([int length][bytes])*
+ * BUFFERED:    [0x02][fury stream written with a buffer callback, all of it in-band]
+ * </pre>
+ *
+ * @author x-kill9
+ */
+public class FurySerializer implements Serializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(FurySerializer.class);
+
+    private static final byte IN_BAND = 0x00;
+    private static final byte OUT_OF_BAND = 0x01;
+    private static final byte BUFFERED = 0x02;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    /**
+     * Registration IDs start above the IDs Fury reserves for its internal types.
+     */
+    private static final int REGISTRATION_ID_OFFSET = 256;
+
+    private final FuryConfig config;
+    // the registered classes, each with its index plus the offset as ID
+    private final List<Class<?>> registeredClasses;
+    private final ThreadSafeFury fury;
+
+    public FurySerializer() {
+        this(ConfigFactory.getConfig().getSerializer().getFury());
+    }
+
+    /**
+     * @param config the Fury settings
+     * @throws SerializerException if registration is enabled and a registered class cannot be loaded
+     */
+    public FurySerializer(FuryConfig config) {
+        this.config = config;
+        this.registeredClasses = config.isRegistration() ? loadClasses(config.getRegisteredClasses()) : List.of();
+        this.fury = newFury();
+        logger.debug("FurySerializer created - references: {}, registration: {}, codegen: {}, outOfBandThreshold: {}",
+                config.isReferences(), config.isRegistration(), config.isCodegen(), config.getOutOfBandThreshold());
+    }
+
+    @Override
+    public byte[] serialize(Object obj) throws SerializerException {
+        logger.trace("Serializing object: {}", obj.getClass().getName());
+        try {
+            MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(INITIAL_BUFFER_SIZE);
+            buffer.writeByte(IN_BAND);
+            if (config.getOutOfBandThreshold() <= 0) {
+                fury.serialize(buffer, obj, null);
+                return buffer.getBytes(0, buffer.writerIndex());
+            }
+
+            buffer.writeInt32(0); // stream length, patched below when out-of-band buffers exist
+            int streamStart = buffer.writerIndex();
+            List<BufferObject> outOfBand = new ArrayList<>(0);
+            fury.serialize(buffer, obj, bufferObject -> {
+                if (bufferObject.totalBytes() < config.getOutOfBandThreshold()) {
+                    return true;
+                }
+                outOfBand.add(bufferObject);
+                return false;
+            });
+            if (outOfBand.isEmpty()) {
+                // reuse the last byte of the reserved length as the format byte; the stream still
+                // records the callback, so Fury expects a buffer list when reading it
+                byte[] result = buffer.getBytes(streamStart - 1, buffer.writerIndex() - streamStart + 1);
+                result[0] = BUFFERED;
+                return result;
+            }
+
+            buffer.putByte(0, OUT_OF_BAND);
+            buffer.putInt32(1, buffer.writerIndex() - streamStart);
+            buffer.writeInt32(outOfBand.size());
+            for (BufferObject bufferObject : outOfBand) {
+                buffer.writeInt32(bufferObject.totalBytes());
+                bufferObject.writeTo(buffer);
+            }
+            byte[] result = buffer.getBytes(0, buffer.writerIndex());
+            logger.trace("Serialized object to {} bytes with {} out-of-band buffers", result.length, outOfBand.size());
+            return result;
+        } catch (RuntimeException e) {
+            logger.error("Serialization failed for object: {}", obj.getClass().getName(), e);
+            throw new SerializerException("Serialization failed", e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(byte[] bytes, Class<T> clazz) throws SerializerException {
+        logger.trace("Deserializing {} bytes to type: {}", bytes.length, clazz.getName());
+        try {
+            Object obj;
+            if (bytes[0] == IN_BAND) {
+                obj = fury.deserialize(MemoryBuffer.fromByteArray(bytes, 1, bytes.length - 1));
+            } else if (bytes[0] == BUFFERED) {
+                obj = fury.deserialize(MemoryBuffer.fromByteArray(bytes, 1, bytes.length - 1), List.of());
+            } else if (bytes[0] == OUT_OF_BAND) {
+                MemoryBuffer header = MemoryBuffer.fromByteArray(bytes);
+                header.readerIndex(1);
+                int streamLength = header.readInt32();
+                int streamStart = header.readerIndex();
+                header.readerIndex(streamStart + streamLength);
+                int count = header.readInt32();
+                List<MemoryBuffer> buffers = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    int length = header.readInt32();
+                    int offset = header.readerIndex();
+                    buffers.add(MemoryBuffer.fromByteArray(bytes, offset, length));
+                    header.readerIndex(offset + length);
+                }
+                obj = fury.deserialize(MemoryBuffer.fromByteArray(bytes, streamStart, streamLength), buffers);
+            } else {
+                throw new SerializerException("Unknown Fury payload format: " + bytes[0]);
+            }
+            return clazz.cast(obj);
+        } catch (RuntimeException e) {
+            if (e instanceof SerializerException) {
+                throw e;
+            }
+            logger.error("Deserialization failed for type: {}, bytes length: {}", clazz.getName(), bytes.length, e);
+            throw new SerializerException("Deserialization failed", e);
+        }
+    }
+
+    /**
+     * Logs the classes used by the given service interface that registration mode writes by
+     * name, because they are missing from {@link FuryConfig#getRegisteredClasses()}.
+     *
+     * @param interfaceClass the service interface
+     */
+    @Override
+    public void registerServiceInterface(Class<?> interfaceClass) {
+        if (!config.isRegistration() || !logger.isDebugEnabled()) {
+            return;
+        }
+        List<String> unregistered = new ArrayList<>();
+        for (Class<?> type : ServiceTypeScanner.scan(interfaceClass)) {
+            if (!registeredClasses.contains(type)) {
+                unregistered.add(type.getName());
+            }
+        }
+        if (!unregistered.isEmpty()) {
+            logger.debug("Classes of service interface {} not in registeredClasses, written by name: {}",
+                    interfaceClass.getName(), unregistered);
+        }
+    }
+
+    @Override
+    public boolean supportsBlobReferences() {
+        return true;
+    }
+
+    @Override
+    public byte getTypeId() {
+        return SerializeType.FURY.getValue();
+    }
+
+    private ThreadSafeFury newFury() {
+        ThreadSafeFury threadSafeFury = Fury.builder()
+                .withLanguage(Language.JAVA)
+                .withRefTracking(config.isReferences())
+                .requireClassRegistration(false)
+                .suppressClassRegistrationWarnings(true)
+                .withCodegen(config.isCodegen())
+                .buildThreadSafeFuryPool(config.getMinPoolSize(), config.getMaxPoolSize());
+        for (int i = 0; i < registeredClasses.size(); i++) {
+            threadSafeFury.register(registeredClasses.get(i), (short) (REGISTRATION_ID_OFFSET + i));
+        }
+        return threadSafeFury;
+    }
+
+    private static List<Class<?>> loadClasses(List<String> classNames) {
+        if (classNames.size() > FuryConfig.MAX_REGISTERED_CLASSES) {
+            throw new SerializerException("Fury registers at most " + FuryConfig.MAX_REGISTERED_CLASSES
+                    + " classes, but got: " + classNames.size());
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = FurySerializer.class.getClassLoader();
+        }
+        List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                classes.add(Class.forName(className.trim(), false, classLoader));
+            } catch (ClassNotFoundException e) {
+                throw new SerializerException("Fury registered class not found: " + className, e);
+            }
+        }
+        return classes;
+    }
+}
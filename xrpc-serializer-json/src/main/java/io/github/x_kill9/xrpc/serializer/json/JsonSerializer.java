@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.json;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.github.x_kill9.xrpc.core.enums.SerializeType;
+import io.github.x_kill9.xrpc.core.exception.SerializerException;
+import io.github.x_kill9.xrpc.core.message.Request;
+import io.github.x_kill9.xrpc.core.message.Response;
+import io.github.x_kill9.xrpc.core.serialize.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Jackson-based implementation of {@link Serializer} for {@link SerializeType#JSON}.
+ *
+ * <p>{@link Request} and {@link Response} envelopes are written and read with the streaming
+ * {@link JsonGenerator}/{@link JsonParser} API, which keeps the output readable for debugging
+ * and gateways:
+ * <pre>
+ * {"interfaceName":"...","methodName":"add","parameterTypes":["int","int"],"parameters":[1,2],"attachments":{}}
+ * {"status":200,"resultType":"java.lang.Integer","result":3}
+ * </pre>
+ * Only arguments and results go through data binding. Arguments are decoded with the declared
+ * parameter types of the request, using the generic signature of the service method when its
+ * interface has been registered through {@link #registerServiceInterface(Class)}; results are
+ * decoded with the runtime type named by {@code resultType}. Any other object, such as a
+ * registry {@code ServiceInstance}, is bound as a whole.
+ *
+ * <p>Per-type {@link ObjectReader}s and {@link ObjectWriter}s are cached, so the root value
+ * serializer lookup happens once per type. Output goes to a {@link ByteArrayBuilder} backed by
+ * recycled buffers from a shared {@link RecyclerPool}, which the generator and parser buffers
+ * come from as well. Objects are mapped by field, like the Kryo serializer does, so no getters
+ * are required.
+ *
+ * @author x-kill9
+ */
+public class JsonSerializer implements Serializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonSerializer.class);
+
+    private static final String INTERFACE_NAME = "interfaceName";
+    private static final String METHOD_NAME = "methodName";
+    private static final String PARAMETER_TYPES = "parameterTypes";
+    private static final String PARAMETERS = "parameters";
+    private static final String ATTACHMENTS = "attachments";
+    private static final String STATUS = "status";
+    private static final String MESSAGE = "message";
+    private static final String RESULT_TYPE = "resultType";
+    private static final String RESULT = "result";
+
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = Map.of(
+            "int", int.class, "long", long.class, "boolean", boolean.class, "double", double.class,
+            "float", float.class, "short", short.class, "byte", byte.class, "char", char.class,
+            "void", void.class);
+
+    private final RecyclerPool<BufferRecycler> recyclerPool = JsonRecyclerPools.newConcurrentDequePool();
+    private final JsonFactory jsonFactory;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> classCache = new ConcurrentHashMap<>();
+    // generic parameter types by method key, see methodKey()
+    private final Map<String, Type[]> genericParameterTypes = new ConcurrentHashMap<>();
+
+    public JsonSerializer() {
+        this.jsonFactory = JsonFactory.builder()
+                .recyclerPool(recyclerPool)
+                .build();
+        this.objectMapper = JsonMapper.builder(jsonFactory)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .build();
+        logger.debug("JsonSerializer created");
+    }
+
+    @Override
+    public byte[] serialize(Object obj) throws IOException {
+        logger.trace("Serializing object: {}", obj.getClass().getName());
+        BufferRecycler recycler = recyclerPool.acquireAndLinkPooled();
+        ByteArrayBuilder bytes = new ByteArrayBuilder(recycler);
+        try {
+            try (JsonGenerator generator = jsonFactory.createGenerator(bytes)) {
+                if (obj instanceof Request) {
+                    writeRequest(generator, (Request) obj);
+                } else if (obj instanceof Response) {
+                    writeResponse(generator, (Response) obj);
+                } else {
+                    writer(obj.getClass()).writeValue(generator, obj);
+                }
+            }
+            byte[] result = bytes.toByteArray();
+            logger.trace("Serialized object to {} bytes", result.length);
+            return result;
+        } catch (JsonProcessingException e) {
+            logger.error("Serialization failed for object: {}", obj.getClass().getName(), e);
+            throw new SerializerException("Serialization failed", e);
+        } finally {
+            bytes.release();
+            recycler.releaseToPool();
+        }
+    }
+
+    @Override
+    public <T> T deserialize(byte[] bytes, Class<T> clazz) throws IOException {
+        logger.trace("Deserializing {} bytes to type: {}", bytes.length, clazz.getName());
+        try (JsonParser parser = jsonFactory.createParser(bytes)) {
+            Object result;
+            if (clazz == Request.class) {
+                result = readRequest(parser);
+            } else if (clazz == Response.class) {
+                result = readResponse(parser);
+            } else {
+                result = reader(clazz).readValue(parser);
+            }
+            return clazz.cast(result);
+        } catch (JsonProcessingException e) {
+            logger.error("Deserialization failed for type: {}, bytes length: {}", clazz.getName(), bytes.length, e);
+            throw new SerializerException("Deserialization failed", e);
+        }
+    }
+
+    /**
+     * Remembers the generic parameter types of the interface methods, so that arguments such as
+     * {@code List<Dto>} are decoded to their element types instead of maps.
+     *
+     * @param interfaceClass the service interface
+     */
+    @Override
+    public void registerServiceInterface(Class<?> interfaceClass) {
+        for (Method method : interfaceClass.getMethods()) {
+            if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            genericParameterTypes.put(
+                    methodKey(interfaceClass.getName(), method.getName(), method.getParameterTypes()),
+                    method.getGenericParameterTypes());
+        }
+        logger.debug("Registered generic parameter types for service interface: {}", interfaceClass.getName());
+    }
+
+    @Override
+    public byte getTypeId() {
+        return SerializeType.JSON.getValue();
+    }
+
+    private void writeRequest(JsonGenerator generator, Request request) throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, INTERFACE_NAME, request.getInterfaceName());
+        writeStringField(generator, METHOD_NAME, request.getMethodName());
+        Class<?>[] parameterTypes = request.getParameterTypes();
+        if (parameterTypes != null) {
+            generator.writeArrayFieldStart(PARAMETER_TYPES);
+            for (Class<?> type : parameterTypes) {
+                generator.writeString(type.getName());
+            }
+            generator.writeEndArray();
+        }
+        Object[] parameters = request.getParameters();
+        if (parameters != null) {
+            generator.writeArrayFieldStart(PARAMETERS);
+            for (Object parameter : parameters) {
+                writeValue(generator, parameter);
+            }
+            generator.writeEndArray();
+        }
+        Map<String, String> attachments = request.getAttachments();
+        if (attachments != null) {
+            generator.writeObjectFieldStart(ATTACHMENTS);
+            for (Map.Entry<String, String> entry : attachments.entrySet()) {
+                generator.writeStringField(entry.getKey(), entry.getValue());
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private Request readRequest(JsonParser parser) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        Request request = new Request();
+        TreeNode pendingParameters = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case INTERFACE_NAME -> request.setInterfaceName(parser.getValueAsString());
+                case METHOD_NAME -> request.setMethodName(parser.getValueAsString());
+                case PARAMETER_TYPES -> request.setParameterTypes(readParameterTypes(parser));
+                case PARAMETERS -> {
+                    if (request.getParameterTypes() != null) {
+                        request.setParameters(readParameters(parser, request));
+                    } else {
+                        // parameterTypes comes later, e.g. in hand-written JSON
+                        pendingParameters = objectMapper.readTree(parser);
+                    }
+                }
+                case ATTACHMENTS -> request.setAttachments(readAttachments(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        if (pendingParameters != null) {
+            if (request.getParameterTypes() == null) {
+                throw new SerializerException("Request parameters without parameterTypes");
+            }
+            try (JsonParser treeParser = objectMapper.treeAsTokens(pendingParameters)) {
+                treeParser.nextToken();
+                request.setParameters(readParameters(treeParser, request));
+            }
+        }
+        return request;
+    }
+
+    private Class<?>[] readParameterTypes(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        Class<?>[] types = new Class<?>[8];
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (count == types.length) {
+                Class<?>[] grown = new Class<?>[count * 2];
+                System.arraycopy(types, 0, grown, 0, count);
+                types = grown;
+            }
+            types[count++] = resolveClass(parser.getValueAsString());
+        }
+        Class<?>[] result = new Class<?>[count];
+        System.arraycopy(types, 0, result, 0, count);
+        return result;
+    }
+
+    private Object[] readParameters(JsonParser parser, Request request) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        Class<?>[] parameterTypes = request.getParameterTypes();
+        Type[] declaredTypes = null;
+        if (request.getInterfaceName() != null && request.getMethodName() != null) {
+            declaredTypes = genericParameterTypes.get(
+                    methodKey(request.getInterfaceName(), request.getMethodName(), parameterTypes));
+        }
+        if (declaredTypes == null) {
+            declaredTypes = parameterTypes;
+        }
+        Object[] parameters = new Object[parameterTypes.length];
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (index == parameters.length) {
+                throw new SerializerException("More parameters than parameterTypes for method: "
+                        + request.getMethodName());
+            }
+            parameters[index] = readValue(parser, declaredTypes[index]);
+            index++;
+        }
+        if (index != parameters.length) {
+            throw new SerializerException("Expected " + parameters.length + " parameters for method: "
+                    + request.getMethodName() + ", but got " + index);
+        }
+        return parameters;
+    }
+
+    private Map<String, String> readAttachments(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        Map<String, String> attachments = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.currentName();
+            parser.nextToken();
+            attachments.put(key, parser.getValueAsString());
+        }
+        return attachments;
+    }
+
+    private void writeResponse(JsonGenerator generator, Response response) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(STATUS, response.getStatus());
+        writeStringField(generator, MESSAGE, response.getMessage());
+        Object result = response.getResult();
+        if (result != null) {
+            generator.writeStringField(RESULT_TYPE, result.getClass().getName());
+            generator.writeFieldName(RESULT);
+            writeValue(generator, result);
+        }
+        generator.writeEndObject();
+    }
+
+    private Response readResponse(JsonParser parser) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        Response response = new Response();
+        Class<?> resultType = null;
+        TreeNode pendingResult = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case STATUS -> response.setStatus(parser.getValueAsInt());
+                case MESSAGE -> response.setMessage(parser.getValueAsString());
+                case RESULT_TYPE -> resultType = resolveClass(parser.getValueAsString());
+                case RESULT -> {
+                    if (resultType != null) {
+                        response.setResult(readValue(parser, resultType));
+                    } else {
+                        pendingResult = objectMapper.readTree(parser);
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (pendingResult != null) {
+            try (JsonParser treeParser = objectMapper.treeAsTokens(pendingResult)) {
+                treeParser.nextToken();
+                response.setResult(readValue(treeParser, resultType != null ? resultType : Object.class));
+            }
+        }
+        return response;
+    }
+
+    private void writeValue(JsonGenerator generator, Object value) throws IOException {
+        // scalars are written directly, everything else through the cached writer of its type
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Integer) {
+            generator.writeNumber((Integer) value);
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            generator.writeNumber((Double) value);
+        } else {
+            writer(value.getClass()).writeValue(generator, value);
+        }
+    }
+
+    private Object readValue(JsonParser parser, Type type) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL && !(type instanceof Class && ((Class<?>) type).isPrimitive())) {
+            return null;
+        }
+        return reader(type).readValue(parser);
+    }
+
+    private ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    private ObjectReader reader(Type type) {
+        return readers.computeIfAbsent(type, t -> {
+            JavaType javaType = objectMapper.getTypeFactory().constructType(t);
+            return objectMapper.readerFor(javaType);
+        });
+    }
+
+    private Class<?> resolveClass(String name) {
+        if (name == null) {
+            throw new SerializerException("Missing type name");
+        }
+        Class<?> primitive = PRIMITIVE_TYPES.get(name);
+        if (primitive != null) {
+            return primitive;
+        }
+        return classCache.computeIfAbsent(name, n -> {
+            try {
+                return Class.forName(n, false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new SerializerException("Unknown type: " + n, e);
+            }
+        });
+    }
+
+    private static String methodKey(String interfaceName, String methodName, Class<?>[] parameterTypes) {
+        StringBuilder key = new StringBuilder(interfaceName).append('#').append(methodName).append('(');
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(parameterTypes[i].getName());
+        }
+        return key.append(')').toString();
+    }
+
+    private static void writeStringField(JsonGenerator generator, String field, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new SerializerException("Expected " + expected + " but got " + actual
+                    + " at " + parser.currentLocation());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.protobuf;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import io.github.x_kill9.xrpc.core.exception.SerializerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of protobuf message types known to the {@link ProtobufSerializer}.
+ *
+ * <p>Caches the {@link Parser} of every generated message class, so parsing never goes through
+ * reflection after the first use, and maps {@code Any}-style type URLs
+ * ({@code type.googleapis.com/<full message name>}) back to their Java classes. Types are
+ * registered up front from service interfaces and otherwise learned the first time a message
+ * of that type is written.
+ *
+ * @author x-kill9
+ */
+class ProtobufMessageRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProtobufMessageRegistry.class);
+
+    static final String TYPE_URL_PREFIX = "type.googleapis.com/";
+
+    private final Map<Class<?>, Parser<?>> parsers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> typeUrls = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> typesByName = new ConcurrentHashMap<>();
+
+    /**
+     * Returns whether the given class is a concrete generated protobuf message.
+     *
+     * @param type the class to check
+     * @return {@code true} for generated message classes
+     */
+    static boolean isMessageClass(Class<?> type) {
+        return type != null && Message.class.isAssignableFrom(type)
+                && !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    /**
+     * Registers a generated message class, making its type URL resolvable.
+     *
+     * @param type the generated message class
+     */
+    void register(Class<?> type) {
+        if (!isMessageClass(type) || typeUrls.containsKey(type)) {
+            return;
+        }
+        Message defaultInstance = (Message) defaultInstance(type);
+        typeUrl(defaultInstance);
+        logger.debug("Registered protobuf message type: {}", type.getName());
+    }
+
+    /**
+     * Returns the type URL of the given message, remembering its class for later resolution.
+     *
+     * @param message the message
+     * @return the {@code Any}-style type URL
+     */
+    String typeUrl(Message message) {
+        return typeUrls.computeIfAbsent(message.getClass(), type -> {
+            String fullName = message.getDescriptorForType().getFullName();
+            typesByName.putIfAbsent(fullName, type);
+            return TYPE_URL_PREFIX + fullName;
+        });
+    }
+
+    /**
+     * Resolves a type URL to a registered message class.
+     *
+     * @param typeUrl the type URL
+     * @return the message class, or {@code null} if the type is unknown
+     */
+    Class<?> resolve(String typeUrl) {
+        return typesByName.get(typeUrl.substring(typeUrl.lastIndexOf('/') + 1));
+    }
+
+    /**
+     * Returns the cached parser of a generated message class.
+     *
+     * @param type the generated message class
+     * @return the parser
+     */
+    Parser<?> parser(Class<?> type) {
+        return parsers.computeIfAbsent(type, t -> ((MessageLite) defaultInstance(t)).getParserForType());
+    }
+
+    private Object defaultInstance(Class<?> type) {
+        try {
+            Method method = type.getMethod("getDefaultInstance");
+            return method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new SerializerException("Not a generated protobuf message: " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.WireFormat;
+import io.github.x_kill9.xrpc.core.enums.SerializeType;
+import io.github.x_kill9.xrpc.core.exception.SerializerException;
+import io.github.x_kill9.xrpc.core.loadbalance.ServiceInstance;
+import io.github.x_kill9.xrpc.core.message.Request;
+import io.github.x_kill9.xrpc.core.message.Response;
+import io.github.x_kill9.xrpc.core.serialize.Serializer;
+import io.github.x_kill9.xrpc.core.util.ServiceTypeScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Protobuf implementation of {@link Serializer} for {@link SerializeType#PROTOBUF}.
+ *
+ * <p>{@link Request}, {@link Response} and {@link ServiceInstance} are written as compact
+ * protobuf envelopes, equivalent to the following schema:
+ * <pre>
+ * message RpcRequest {
+ *   string interface_name           = 1;
+ *   string method_name              = 2;
+ *   repeated string parameter_types = 3;  // Java type names
+ *   repeated TypedValue parameters  = 4;
+ *   map&lt;string, string&gt; attachments = 5;
+ * }
+ * message RpcResponse {
+ *   int32 status      = 1;
+ *   string message    = 2;
+ *   TypedValue result = 3;
+ * }
+ * message ServiceInstance {
+ *   string service_name            = 1;
+ *   string host                    = 2;
+ *   int32 port                     = 3;
+ *   int32 weight                   = 4;
+ *   map&lt;string, string&gt; metadata = 5;
+ * }
+ * </pre>
+ * Arguments and results are {@link TypedValueCodec TypedValue}s: generated
+ * {@link com.google.protobuf.Message}s travel {@code Any}-style as type URL plus bytes,
+ * primitives and strings use protobuf's scalar encodings. Parameter messages are parsed with the
+ * parser of the declared parameter type; result messages are resolved through their type URL,
+ * which is why the types of every service interface are registered up front.
+ *
+ * <p>Envelopes are sized in a first pass and then written by a {@link CodedOutputStream}
+ * directly into a byte array of exactly that size, so no intermediate buffer is allocated or
+ * copied. Nested message sizes are memoized by protobuf itself.
+ *
+ * @author x-kill9
+ */
+public class ProtobufSerializer implements Serializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProtobufSerializer.class);
+
+    private static final int LENGTH_DELIMITED = WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int MAP_KEY = 1;
+    private static final int MAP_VALUE = 2;
+
+    // RpcRequest fields
+    private static final int REQUEST_INTERFACE_NAME = 1;
+    private static final int REQUEST_METHOD_NAME = 2;
+    private static final int REQUEST_PARAMETER_TYPES = 3;
+    private static final int REQUEST_PARAMETERS = 4;
+    private static final int REQUEST_ATTACHMENTS = 5;
+
+    // RpcResponse fields
+    private static final int RESPONSE_STATUS = 1;
+    private static final int RESPONSE_MESSAGE = 2;
+    private static final int RESPONSE_RESULT = 3;
+
+    // ServiceInstance fields
+    private static final int INSTANCE_SERVICE_NAME = 1;
+    private static final int INSTANCE_HOST = 2;
+    private static final int INSTANCE_PORT = 3;
+    private static final int INSTANCE_WEIGHT = 4;
+    private static final int INSTANCE_METADATA = 5;
+
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = Map.of(
+            "int", int.class, "long", long.class, "boolean", boolean.class, "double", double.class,
+            "float", float.class, "short", short.class, "byte", byte.class, "char", char.class,
+            "void", void.class);
+
+    private final ProtobufMessageRegistry messageRegistry = new ProtobufMessageRegistry();
+    private final Map<String, Class<?>> classCache = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] serialize(Object obj) throws IOException {
+        logger.trace("Serializing object: {}", obj.getClass().getName());
+        if (obj instanceof Request) {
+            return writeRequest((Request) obj);
+        }
+        if (obj instanceof Response) {
+            return writeResponse((Response) obj);
+        }
+        if (obj instanceof ServiceInstance) {
+            return writeServiceInstance((ServiceInstance) obj);
+        }
+        if (obj instanceof MessageLite) {
+            return ((MessageLite) obj).toByteArray();
+        }
+        throw new SerializerException("Unsupported type for protobuf serializer: " + obj.getClass().getName());
+    }
+
+    @Override
+    public <T> T deserialize(byte[] bytes, Class<T> clazz) throws IOException {
+        logger.trace("Deserializing {} bytes to type: {}", bytes.length, clazz.getName());
+        CodedInputStream in = CodedInputStream.newInstance(bytes);
+        in.enableAliasing(true);
+        Object result;
+        if (clazz == Request.class) {
+            result = readRequest(in);
+        } else if (clazz == Response.class) {
+            result = readResponse(in);
+        } else if (clazz == ServiceInstance.class) {
+            result = readServiceInstance(in);
+        } else if (ProtobufMessageRegistry.isMessageClass(clazz)) {
+            result = messageRegistry.parser(clazz).parseFrom(bytes);
+        } else {
+            throw new SerializerException("Unsupported type for protobuf serializer: " + clazz.getName());
+        }
+        return clazz.cast(result);
+    }
+
+    /**
+     * Registers the protobuf message types used by the interface, so that results can be
+     * resolved from their type URL.
+     *
+     * @param interfaceClass the service interface
+     */
+    @Override
+    public void registerServiceInterface(Class<?> interfaceClass) {
+        for (Class<?> type : ServiceTypeScanner.scan(interfaceClass)) {
+            messageRegistry.register(type);
+        }
+    }
+
+    @Override
+    public byte getTypeId() {
+        return SerializeType.PROTOBUF.getValue();
+    }
+
+    private byte[] writeRequest(Request request) throws IOException {
+        Class<?>[] parameterTypes = request.getParameterTypes();
+        Object[] parameters = request.getParameters();
+        Map<String, String> attachments = request.getAttachments();
+
+        int size = stringSize(REQUEST_INTERFACE_NAME, request.getInterfaceName())
+                + stringSize(REQUEST_METHOD_NAME, request.getMethodName());
+        if (parameterTypes != null) {
+            for (Class<?> type : parameterTypes) {
+                size += CodedOutputStream.computeStringSize(REQUEST_PARAMETER_TYPES, type.getName());
+            }
+        }
+        int[] parameterSizes = null;
+        if (parameters != null) {
+            parameterSizes = new int[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                parameterSizes[i] = TypedValueCodec.computeSize(parameters[i], messageRegistry);
+                size += delimitedSize(REQUEST_PARAMETERS, parameterSizes[i]);
+            }
+        }
+        size += mapSize(REQUEST_ATTACHMENTS, attachments);
+
+        byte[] buffer = new byte[size];
+        CodedOutputStream out = CodedOutputStream.newInstance(buffer);
+        writeString(out, REQUEST_INTERFACE_NAME, request.getInterfaceName());
+        writeString(out, REQUEST_METHOD_NAME, request.getMethodName());
+        if (parameterTypes != null) {
+            for (Class<?> type : parameterTypes) {
+                out.writeString(REQUEST_PARAMETER_TYPES, type.getName());
+            }
+        }
+        if (parameters != null) {
+            for (int i = 0; i < parameters.length; i++) {
+                out.writeTag(REQUEST_PARAMETERS, LENGTH_DELIMITED);
+                out.writeUInt32NoTag(parameterSizes[i]);
+                TypedValueCodec.write(out, parameters[i], messageRegistry);
+            }
+        }
+        writeMap(out, REQUEST_ATTACHMENTS, attachments);
+        out.checkNoSpaceLeft();
+        return buffer;
+    }
+
+    private Request readRequest(CodedInputStream in) throws IOException {
+        Request request = new Request();
+        List<Class<?>> parameterTypes = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        Map<String, String> attachments = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case REQUEST_INTERFACE_NAME -> request.setInterfaceName(in.readString());
+                case REQUEST_METHOD_NAME -> request.setMethodName(in.readString());
+                case REQUEST_PARAMETER_TYPES -> parameterTypes.add(resolveClass(in.readString()));
+                case REQUEST_PARAMETERS -> {
+                    // parameter types are written first, so the declared type is known here
+                    int index = parameters.size();
+                    Class<?> declaredType = index < parameterTypes.size() ? parameterTypes.get(index) : null;
+                    parameters.add(TypedValueCodec.read(in, declaredType, messageRegistry));
+                }
+                case REQUEST_ATTACHMENTS -> {
+                    if (attachments == null) {
+                        attachments = new HashMap<>();
+                    }
+                    readMapEntry(in, attachments);
+                }
+                default -> in.skipField(tag);
+            }
+        }
+        request.setParameterTypes(parameterTypes.toArray(new Class<?>[0]));
+        request.setParameters(parameters.toArray());
+        request.setAttachments(attachments);
+        return request;
+    }
+
+    private byte[] writeResponse(Response response) throws IOException {
+        int resultSize = TypedValueCodec.computeSize(response.getResult(), messageRegistry);
+        int size = CodedOutputStream.computeInt32Size(RESPONSE_STATUS, response.getStatus())
+                + stringSize(RESPONSE_MESSAGE, response.getMessage())
+                + (response.getResult() != null ? delimitedSize(RESPONSE_RESULT, resultSize) : 0);
+
+        byte[] buffer = new byte[size];
+        CodedOutputStream out = CodedOutputStream.newInstance(buffer);
+        out.writeInt32(RESPONSE_STATUS, response.getStatus());
+        writeString(out, RESPONSE_MESSAGE, response.getMessage());
+        if (response.getResult() != null) {
+            out.writeTag(RESPONSE_RESULT, LENGTH_DELIMITED);
+            out.writeUInt32NoTag(resultSize);
+            TypedValueCodec.write(out, response.getResult(), messageRegistry);
+        }
+        out.checkNoSpaceLeft();
+        return buffer;
+    }
+
+    private Response readResponse(CodedInputStream in) throws IOException {
+        Response response = new Response();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case RESPONSE_STATUS -> response.setStatus(in.readInt32());
+                case RESPONSE_MESSAGE -> response.setMessage(in.readString());
+                case RESPONSE_RESULT -> response.setResult(TypedValueCodec.read(in, null, messageRegistry));
+                default -> in.skipField(tag);
+            }
+        }
+        return response;
+    }
+
+    private byte[] writeServiceInstance(ServiceInstance instance) throws IOException {
+        int size = stringSize(INSTANCE_SERVICE_NAME, instance.getServiceName())
+                + stringSize(INSTANCE_HOST, instance.getHost())
+                + CodedOutputStream.computeInt32Size(INSTANCE_PORT, instance.getPort())
+                + CodedOutputStream.computeInt32Size(INSTANCE_WEIGHT, instance.getWeight())
+                + mapSize(INSTANCE_METADATA, instance.getMetadata());
+
+        byte[] buffer = new byte[size];
+        CodedOutputStream out = CodedOutputStream.newInstance(buffer);
+        writeString(out, INSTANCE_SERVICE_NAME, instance.getServiceName());
+        writeString(out, INSTANCE_HOST, instance.getHost());
+        out.writeInt32(INSTANCE_PORT, instance.getPort());
+        out.writeInt32(INSTANCE_WEIGHT, instance.getWeight());
+        writeMap(out, INSTANCE_METADATA, instance.getMetadata());
+        out.checkNoSpaceLeft();
+        return buffer;
+    }
+
+    private ServiceInstance readServiceInstance(CodedInputStream in) throws IOException {
+        ServiceInstance instance = new ServiceInstance();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case INSTANCE_SERVICE_NAME -> instance.setServiceName(in.readString());
+                case INSTANCE_HOST -> instance.setHost(in.readString());
+                case INSTANCE_PORT -> instance.setPort(in.readInt32());
+                case INSTANCE_WEIGHT -> instance.setWeight(in.readInt32());
+                case INSTANCE_METADATA -> {
+                    if (instance.getMetadata() == null) {
+                        instance.setMetadata(new HashMap<>());
+                    }
+                    readMapEntry(in, instance.getMetadata());
+                }
+                default -> in.skipField(tag);
+            }
+        }
+        return instance;
+    }
+
+    private Class<?> resolveClass(String name) {
+        Class<?> primitive = PRIMITIVE_TYPES.get(name);
+        if (primitive != null) {
+            return primitive;
+        }
+        return classCache.computeIfAbsent(name, n -> {
+            try {
+                return Class.forName(n, false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new SerializerException("Unknown parameter type: " + n, e);
+            }
+        });
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static int delimitedSize(int field, int contentSize) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(contentSize) + contentSize;
+    }
+
+    private static int mapEntrySize(String key, String value) {
+        return stringSize(MAP_KEY, key) + stringSize(MAP_VALUE, value);
+    }
+
+    private static int mapSize(int field, Map<String, String> map) {
+        if (map == null) {
+            return 0;
+        }
+        int size = 0;
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            size += delimitedSize(field, mapEntrySize(entry.getKey(), entry.getValue()));
+        }
+        return size;
+    }
+
+    private static void writeMap(CodedOutputStream out, int field, Map<String, String> map) throws IOException {
+        if (map == null) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            out.writeTag(field, LENGTH_DELIMITED);
+            out.writeUInt32NoTag(mapEntrySize(entry.getKey(), entry.getValue()));
+            writeString(out, MAP_KEY, entry.getKey());
+            writeString(out, MAP_VALUE, entry.getValue());
+        }
+    }
+
+    private static void readMapEntry(CodedInputStream in, Map<String, String> map) throws IOException {
+        int length = in.readRawVarint32();
+        int oldLimit = in.pushLimit(length);
+        String key = null;
+        String value = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case MAP_KEY -> key = in.readString();
+                case MAP_VALUE -> value = in.readString();
+                default -> in.skipField(tag);
+            }
+        }
+        in.popLimit(oldLimit);
+        map.put(key, value);
+    }
+}
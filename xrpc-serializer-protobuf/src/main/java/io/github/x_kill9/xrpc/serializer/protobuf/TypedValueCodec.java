@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.protobuf;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Message;
+import com.google.protobuf.WireFormat;
+import io.github.x_kill9.xrpc.core.exception.SerializerException;
+
+import java.io.IOException;
+
+/**
+ * Encodes single argument and result values as a protobuf {@code TypedValue} message.
+ *
+ * <p>The message is equivalent to the following schema, where exactly one field is present
+ * and an empty message stands for {@code null}:
+ * <pre>
+ * message TypedValue {
+ *   string type_url     = 1;  // with value, like google.protobuf.Any
+ *   bytes  value        = 2;
+ *   bool   bool_value   = 3;
+ *   sint32 int_value    = 4;
+ *   sint64 long_value   = 5;
+ *   float  float_value  = 6;
+ *   double double_value = 7;
+ *   string string_value = 8;
+ *   bytes  bytes_value  = 9;
+ *   sint32 short_value  = 10;
+ *   sint32 byte_value   = 11;
+ *   uint32 char_value   = 12;
+ * }
+ * </pre>
+ *
+ * @author x-kill9
+ */
+final class TypedValueCodec {
+
+    static final int TYPE_URL = 1;
+    static final int VALUE = 2;
+    static final int BOOL_VALUE = 3;
+    static final int INT_VALUE = 4;
+    static final int LONG_VALUE = 5;
+    static final int FLOAT_VALUE = 6;
+    static final int DOUBLE_VALUE = 7;
+    static final int STRING_VALUE = 8;
+    static final int BYTES_VALUE = 9;
+    static final int SHORT_VALUE = 10;
+    static final int BYTE_VALUE = 11;
+    static final int CHAR_VALUE = 12;
+
+    private TypedValueCodec() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Computes the encoded size of a value, without tag and length prefix.
+     *
+     * @param value    the value, may be {@code null}
+     * @param registry the message registry
+     * @return the size in bytes
+     */
+    static int computeSize(Object value, ProtobufMessageRegistry registry) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Message) {
+            Message message = (Message) value;
+            return CodedOutputStream.computeStringSize(TYPE_URL, registry.typeUrl(message))
+                    + CodedOutputStream.computeMessageSize(VALUE, message);
+        }
+        if (value instanceof Integer) {
+            return CodedOutputStream.computeSInt32Size(INT_VALUE, (Integer) value);
+        }
+        if (value instanceof Long) {
+            return CodedOutputStream.computeSInt64Size(LONG_VALUE, (Long) value);
+        }
+        if (value instanceof String) {
+            return CodedOutputStream.computeStringSize(STRING_VALUE, (String) value);
+        }
+        if (value instanceof Boolean) {
+            return CodedOutputStream.computeBoolSize(BOOL_VALUE, (Boolean) value);
+        }
+        if (value instanceof Double) {
+            return CodedOutputStream.computeDoubleSize(DOUBLE_VALUE, (Double) value);
+        }
+        if (value instanceof Float) {
+            return CodedOutputStream.computeFloatSize(FLOAT_VALUE, (Float) value);
+        }
+        if (value instanceof byte[]) {
+            return CodedOutputStream.computeByteArraySize(BYTES_VALUE, (byte[]) value);
+        }
+        if (value instanceof Short) {
+            return CodedOutputStream.computeSInt32Size(SHORT_VALUE, (Short) value);
+        }
+        if (value instanceof Byte) {
+            return CodedOutputStream.computeSInt32Size(BYTE_VALUE, (Byte) value);
+        }
+        if (value instanceof Character) {
+            return CodedOutputStream.computeUInt32Size(CHAR_VALUE, (Character) value);
+        }
+        throw new SerializerException("Protobuf serializer supports protobuf messages, primitives, String and byte[], but got: "
+                + value.getClass().getName());
+    }
+
+    /**
+     * Writes the fields of a value whose size was computed by {@link #computeSize}.
+     *
+     * @param out      the output stream
+     * @param value    the value, may be {@code null}
+     * @param registry the message registry
+     * @throws IOException if writing fails
+     */
+    static void write(CodedOutputStream out, Object value, ProtobufMessageRegistry registry) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Message) {
+            Message message = (Message) value;
+            out.writeString(TYPE_URL, registry.typeUrl(message));
+            out.writeMessage(VALUE, message);
+        } else if (value instanceof Integer) {
+            out.writeSInt32(INT_VALUE, (Integer) value);
+        } else if (value instanceof Long) {
+            out.writeSInt64(LONG_VALUE, (Long) value);
+        } else if (value instanceof String) {
+            out.writeString(STRING_VALUE, (String) value);
+        } else if (value instanceof Boolean) {
+            out.writeBool(BOOL_VALUE, (Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeDouble(DOUBLE_VALUE, (Double) value);
+        } else if (value instanceof Float) {
+            out.writeFloat(FLOAT_VALUE, (Float) value);
+        } else if (value instanceof byte[]) {
+            out.writeByteArray(BYTES_VALUE, (byte[]) value);
+        } else if (value instanceof Short) {
+            out.writeSInt32(SHORT_VALUE, (Short) value);
+        } else if (value instanceof Byte) {
+            out.writeSInt32(BYTE_VALUE, (Byte) value);
+        } else if (value instanceof Character) {
+            out.writeUInt32(CHAR_VALUE, (Character) value);
+        }
+    }
+
+    /**
+     * Reads a length-delimited value.
+     *
+     * @param in           the input stream, positioned at the length prefix
+     * @param declaredType the declared Java type if known (a parameter type), otherwise {@code null}
+     * @param registry     the message registry
+     * @return the decoded value
+     * @throws IOException if the input is malformed
+     */
+    static Object read(CodedInputStream in, Class<?> declaredType, ProtobufMessageRegistry registry) throws IOException {
+        int length = in.readRawVarint32();
+        int oldLimit = in.pushLimit(length);
+        Object value = null;
+        String typeUrl = null;
+        ByteString messageBytes = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case TYPE_URL -> typeUrl = in.readString();
+                case VALUE -> messageBytes = in.readBytes();
+                case BOOL_VALUE -> value = in.readBool();
+                case INT_VALUE -> value = in.readSInt32();
+                case LONG_VALUE -> value = in.readSInt64();
+                case FLOAT_VALUE -> value = in.readFloat();
+                case DOUBLE_VALUE -> value = in.readDouble();
+                case STRING_VALUE -> value = in.readString();
+                case BYTES_VALUE -> value = in.readByteArray();
+                case SHORT_VALUE -> value = (short) in.readSInt32();
+                case BYTE_VALUE -> value = (byte) in.readSInt32();
+                case CHAR_VALUE -> value = (char) in.readUInt32();
+                default -> in.skipField(tag);
+            }
+        }
+        in.popLimit(oldLimit);
+
+        if (messageBytes == null) {
+            return value;
+        }
+        Class<?> messageType = ProtobufMessageRegistry.isMessageClass(declaredType)
+                ? declaredType
+                : typeUrl != null ? registry.resolve(typeUrl) : null;
+        if (messageType == null) {
+            throw new SerializerException("Unknown protobuf message type: " + typeUrl
+                    + ", register the service interface that uses it");
+        }
+        return registry.parser(messageType).parseFrom(messageBytes);
+    }
+}
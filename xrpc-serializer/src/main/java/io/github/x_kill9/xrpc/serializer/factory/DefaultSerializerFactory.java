@@ -60,4 +60,17 @@ public final class DefaultSerializerFactory {
         logger.trace("Returning serializer: {} for typeId: {}", serializer.getClass().getSimpleName(), serializeType);
         return serializer;
     }
-}
\ No newline at end of file
+
+    /**
+     * Passes a service interface to every registered serializer, so that serializers with
+     * class registration can prepare for the interface's types.
+     *
+     * @param interfaceClass the service interface
+     */
+    public static void registerServiceInterface(Class<?> interfaceClass) {
+        logger.debug("Registering service interface {} with {} serializers", interfaceClass.getName(), SERIALIZER_MAP.size());
+        for (Serializer serializer : SERIALIZER_MAP.values()) {
+            serializer.registerServiceInterface(interfaceClass);
+        }
+    }
+}
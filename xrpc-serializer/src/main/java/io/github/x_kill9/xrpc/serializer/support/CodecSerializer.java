@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.support;
+
+import io.github.x_kill9.xrpc.core.codec.FlyweightReader;
+import io.github.x_kill9.xrpc.core.codec.FlyweightWriter;
+import io.github.x_kill9.xrpc.core.codec.MethodCodec;
+import io.github.x_kill9.xrpc.core.codec.ServiceCodecs;
+import io.github.x_kill9.xrpc.core.enums.SerializeType;
+import io.github.x_kill9.xrpc.core.exception.SerializerException;
+import io.github.x_kill9.xrpc.core.message.Request;
+import io.github.x_kill9.xrpc.core.message.Response;
+import io.github.x_kill9.xrpc.core.message.StagedRequest;
+import io.github.x_kill9.xrpc.core.serialize.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link Serializer} for {@link SerializeType#CODEC}, backed by generated {@link MethodCodec}s.
+ *
+ * <p>A request is written as its method ID, the arguments in the fixed layout of the method
+ * codec, and the attachments; interface name, method name and parameter types are restored
+ * from the codec on the provider. A response is written as status, message and the result with
+ * a one-byte type tag, so it can be decoded without knowing the method. The consumer only
+ * selects this serializer for methods that have a codec on both sides.
+ *
+ * @author x-kill9
+ */
+public class CodecSerializer implements Serializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CodecSerializer.class);
+
+    @Override
+    public byte[] serialize(Object obj) throws SerializerException {
+        try {
+            if (obj instanceof Request) {
+                return writeRequest((Request) obj);
+            }
+            if (obj instanceof Response) {
+                return writeResponse((Response) obj);
+            }
+        } catch (RuntimeException e) {
+            if (e instanceof SerializerException) {
+                throw e;
+            }
+            throw new SerializerException("Serialization failed", e);
+        }
+        throw new SerializerException("Unsupported type for codec serializer: " + obj.getClass().getName());
+    }
+
+    @Override
+    public <T> T deserialize(byte[] bytes, Class<T> clazz) throws SerializerException {
+        try {
+            if (clazz == Request.class) {
+                return clazz.cast(readRequest(bytes));
+            }
+            if (clazz == Response.class) {
+                return clazz.cast(readResponse(bytes));
+            }
+        } catch (RuntimeException e) {
+            if (e instanceof SerializerException) {
+                throw e;
+            }
+            throw new SerializerException("Deserialization failed", e);
+        }
+        throw new SerializerException("Unsupported type for codec serializer: " + clazz.getName());
+    }
+
+    /**
+     * Resolves the method from its ID; the arguments are decoded when the request is materialized.
+     *
+     * @param bytes the serialized request
+     * @return the staged request
+     */
+    @Override
+    public StagedRequest deserializeRequest(byte[] bytes) throws SerializerException {
+        if (bytes.length < Integer.BYTES) {
+            throw new SerializerException("Truncated flyweight request: " + bytes.length + " bytes");
+        }
+        int methodId = new FlyweightReader(bytes, 0).readInt();
+        MethodCodec codec = ServiceCodecs.get(methodId);
+        if (codec == null) {
+            throw new SerializerException("Unknown flyweight codec method ID: " + methodId);
+        }
+        return new StagedRequest(codec.getInterfaceName(), codec.getMethodName(), codec.getParameterTypes(),
+                () -> deserialize(bytes, Request.class));
+    }
+
+    @Override
+    public byte getTypeId() {
+        return SerializeType.CODEC.getValue();
+    }
+
+    private byte[] writeRequest(Request request) {
+        MethodCodec codec = ServiceCodecs.find(request.getInterfaceName(), request.getMethodName(),
+                request.getParameterTypes());
+        if (codec == null) {
+            throw new SerializerException("No flyweight codec for " + request.getInterfaceName() + "."
+                    + request.getMethodName());
+        }
+        Object[] arguments = request.getParameters();
+        Map<String, String> attachments = request.getAttachments();
+        int size = Integer.BYTES + codec.encodedSize(arguments) + Integer.BYTES;
+        if (attachments != null) {
+            for (Map.Entry<String, String> entry : attachments.entrySet()) {
+                size += FlyweightWriter.sizeOf(entry.getKey()) + FlyweightWriter.sizeOf(entry.getValue());
+            }
+        }
+
+        byte[] bytes = new byte[size];
+        FlyweightWriter writer = new FlyweightWriter(bytes, 0);
+        writer.writeInt(codec.getMethodId());
+        codec.encode(arguments, writer);
+        if (attachments == null) {
+            writer.writeInt(-1);
+        } else {
+            writer.writeInt(attachments.size());
+            for (Map.Entry<String, String> entry : attachments.entrySet()) {
+                writer.writeString(entry.getKey());
+                writer.writeString(entry.getValue());
+            }
+        }
+        logger.trace("Encoded request {}.{} with flyweight codec, {} bytes", request.getInterfaceName(),
+                request.getMethodName(), size);
+        return bytes;
+    }
+
+    private Request readRequest(byte[] bytes) {
+        FlyweightReader reader = new FlyweightReader(bytes, 0);
+        int methodId = reader.readInt();
+        MethodCodec codec = ServiceCodecs.get(methodId);
+        if (codec == null) {
+            throw new SerializerException("Unknown flyweight codec method ID: " + methodId);
+        }
+        Request request = new Request(codec.getInterfaceName(), codec.getMethodName(), codec.getParameterTypes(),
+                codec.decode(reader));
+        int count = reader.readInt();
+        if (count >= 0) {
+            Map<String, String> attachments = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                attachments.put(reader.readString(), reader.readString());
+            }
+            request.setAttachments(attachments);
+        }
+        return request;
+    }
+
+    private byte[] writeResponse(Response response) {
+        Object result = response.getResult();
+        if (!FlyweightWriter.isTaggable(result)) {
+            throw new SerializerException("Unsupported result type for codec serializer: " + result.getClass().getName());
+        }
+        byte[] bytes = new byte[Integer.BYTES + FlyweightWriter.sizeOf(response.getMessage())
+                + FlyweightWriter.sizeOfTagged(result)];
+        FlyweightWriter writer = new FlyweightWriter(bytes, 0);
+        writer.writeInt(response.getStatus());
+        writer.writeString(response.getMessage());
+        writer.writeTagged(result);
+        return bytes;
+    }
+
+    private Response readResponse(byte[] bytes) {
+        FlyweightReader reader = new FlyweightReader(bytes, 0);
+        Response response = new Response();
+        response.setStatus(reader.readInt());
+        response.setMessage(reader.readString());
+        response.setResult(reader.readTagged());
+        return response;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.support;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import io.github.x_kill9.xrpc.core.columnar.ColumnarList;
+
+/**
+ * Kryo serializer for {@link ColumnarList}.
+ *
+ * <p>Writes the column vectors of the list, which Kryo would otherwise serialize row by row
+ * like any other {@code List}.
+ *
+ * @author x-kill9
+ */
+class ColumnarListSerializer extends Serializer<ColumnarList<?>> {
+
+    @Override
+    public void write(Kryo kryo, Output output, ColumnarList<?> list) {
+        kryo.writeObject(output, list.getColumns());
+    }
+
+    @Override
+    public ColumnarList<?> read(Kryo kryo, Input input, Class<? extends ColumnarList<?>> type) {
+        return ColumnarList.of(kryo.readObject(input, ColumnarList.Columns.class));
+    }
+}
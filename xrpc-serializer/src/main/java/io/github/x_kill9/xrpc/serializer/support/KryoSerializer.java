@@ -5,26 +5,59 @@
 package io.github.x_kill9.xrpc.serializer.support;
 
 import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.util.DefaultInstantiatorStrategy;
+import com.esotericsoftware.kryo.util.Pool;
+import io.github.x_kill9.xrpc.core.columnar.ColumnarList;
+import io.github.x_kill9.xrpc.core.config.factory.ConfigFactory;
+import io.github.x_kill9.xrpc.core.config.model.KryoConfig;
 import io.github.x_kill9.xrpc.core.enums.SerializeType;
 import io.github.x_kill9.xrpc.core.exception.SerializerException;
+import io.github.x_kill9.xrpc.core.message.Request;
+import io.github.x_kill9.xrpc.core.message.Response;
+import io.github.x_kill9.xrpc.core.message.StagedRequest;
+import io.github.x_kill9.xrpc.core.serialize.InboundStringTable;
+import io.github.x_kill9.xrpc.core.serialize.OutboundStringTable;
 import io.github.x_kill9.xrpc.core.serialize.Serializer;
+import io.github.x_kill9.xrpc.core.util.ServiceTypeScanner;
 import org.objenesis.strategy.StdInstantiatorStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Kryo-based implementation of {@link Serializer}.
  *
- * <p>This serializer uses a {@link ThreadLocal} {@link Kryo} instance to ensure thread safety.
- * Each thread gets its own Kryo instance, which is configured to support references and
- * use the standard instantiator strategy with fallback.
+ * <p>{@link Kryo} instances and {@link Output}/{@link Input} buffers are expensive to create,
+ * so they are kept in thread-safe {@link Pool}s rather than being built per call. Pools do not
+ * bind instances to threads, which keeps the serializer cheap under virtual threads. Each Kryo
+ * instance supports references (configurable) and uses the standard instantiator strategy
+ * as fallback.
+ *
+ * <p>The {@link Request} and {@link Response} envelopes have dedicated serializers that write
+ * primitive, {@code String} and primitive-array arguments and results with a one-byte type tag
+ * instead of a class name and a reflective field serializer.
+ *
+ * <p>With {@link KryoConfig#isRegistration()} enabled, the classes used by every service
+ * interface passed to {@link #registerServiceInterface(Class)} are registered with IDs derived
+ * from their class names alone. Registered classes are written as a varint of at most three
+ * bytes instead of their full name. A peer registers only the interfaces it exports or
+ * references, and a class may be used by several of them, so the ID of a class must not depend
+ * on which other classes or interfaces are registered; two classes whose names map to the same
+ * ID are rejected when the second is registered rather than written under one ID. Unregistered
+ * classes are still written by name. Instances already in the pool are rebuilt with the new
+ * registrations the next time they are obtained.
+ *
+ * <p>The table-aware methods bind a connection's string table to the Kryo instance for the
+ * duration of the call; {@code String} fields, string arguments and results, and the names
+ * and attachments of the envelopes are then written as table slots (see {@link TableStrings}).
  *
  * @author x-kill9
  */
@@ -32,51 +65,295 @@ public class KryoSerializer implements Serializer {
 
     private static final Logger logger = LoggerFactory.getLogger(KryoSerializer.class);
 
-    private static final ThreadLocal<Kryo> kryoThreadLocal = ThreadLocal.withInitial(() -> {
-        Kryo kryo = new Kryo();
-        kryo.setReferences(true);
-        kryo.setRegistrationRequired(false);
-        ((DefaultInstantiatorStrategy) kryo.getInstantiatorStrategy())
-                .setFallbackInstantiatorStrategy(new StdInstantiatorStrategy());
-        return kryo;
-    });
+    /**
+     * Registration IDs start above the IDs Kryo assigns to its built-in default registrations.
+     */
+    private static final int REGISTRATION_ID_OFFSET = 64;
+    /**
+     * Kryo writes a class ID as the varint of {@code id + 2}; IDs below this bound take at most three bytes.
+     */
+    private static final int REGISTRATION_ID_LIMIT = (1 << 21) - 2;
+    private static final byte[] EMPTY_BUFFER = new byte[0];
+    private static final RequestSerializer REQUEST_HEADER_SERIALIZER = new RequestSerializer(true);
+
+    private final KryoConfig config;
+
+    // Ordered registrations shared by all pooled Kryo instances
+    private final List<ClassRegistration> registrations = new CopyOnWriteArrayList<>();
+    private final Map<Integer, Class<?>> registeredIds = new HashMap<>();
+
+    private final Pool<PooledKryo> kryoPool;
+    private final Pool<Output> outputPool;
+    private final Pool<Input> inputPool;
+
+    public KryoSerializer() {
+        this(ConfigFactory.getConfig().getSerializer().getKryo());
+    }
+
+    public KryoSerializer(KryoConfig config) {
+        this.config = config;
+        int poolSize = config.getPoolSize();
+        this.kryoPool = new Pool<>(true, false, poolSize) {
+            @Override
+            protected PooledKryo create() {
+                return new PooledKryo(newKryo());
+            }
+        };
+        this.outputPool = new Pool<>(true, false, poolSize) {
+            @Override
+            protected Output create() {
+                return new Output(config.getBufferSize(), -1);
+            }
+        };
+        this.inputPool = new Pool<>(true, false, poolSize) {
+            @Override
+            protected Input create() {
+                return new Input();
+            }
+        };
+        logger.debug("KryoSerializer created - references: {}, registration: {}, poolSize: {}, bufferSize: {}",
+                config.isReferences(), config.isRegistration(), poolSize, config.getBufferSize());
+    }
 
     @Override
     public byte[] serialize(Object obj) throws SerializerException {
+        return serialize(obj, (OutboundStringTable) null);
+    }
+
+    @Override
+    public byte[] serialize(Object obj, OutboundStringTable strings) throws SerializerException {
         logger.trace("Serializing object: {}", obj.getClass().getName());
-        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-             Output output = new Output(byteArrayOutputStream)) {
-            Kryo kryo = kryoThreadLocal.get();
-            kryo.writeObject(output, obj);
-            kryoThreadLocal.remove(); // Remove to avoid accumulating Kryo instances (optional)
+        PooledKryo pooled = obtainKryo();
+        Output output = outputPool.obtain();
+        try {
+            if (strings != null) {
+                TableStrings.bind(pooled.kryo, strings);
+            }
+            pooled.kryo.writeObject(output, obj);
             byte[] result = output.toBytes();
             logger.trace("Serialized object to {} bytes", result.length);
             return result;
-        } catch (IOException e) {
+        } catch (KryoException e) {
             logger.error("Serialization failed for object: {}", obj.getClass().getName(), e);
             throw new SerializerException("Serialization failed", e);
+        } finally {
+            if (strings != null) {
+                TableStrings.unbind(pooled.kryo);
+            }
+            kryoPool.free(pooled);
+            releaseOutput(output);
         }
     }
 
     @Override
     public <T> T deserialize(byte[] bytes, Class<T> clazz) throws SerializerException {
+        return deserialize(bytes, clazz, null);
+    }
+
+    @Override
+    public <T> T deserialize(byte[] bytes, Class<T> clazz, InboundStringTable.Snapshot strings)
+            throws SerializerException {
         logger.trace("Deserializing {} bytes to type: {}", bytes.length, clazz.getName());
-        try (ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(bytes);
-             Input input = new Input(byteArrayInputStream)) {
-            Kryo kryo = kryoThreadLocal.get();
-            Object obj = kryo.readObject(input, clazz);
-            kryoThreadLocal.remove();
+        PooledKryo pooled = obtainKryo();
+        Input input = inputPool.obtain();
+        try {
+            if (strings != null) {
+                TableStrings.bind(pooled.kryo, strings);
+            }
+            input.setBuffer(bytes);
+            Object obj = pooled.kryo.readObject(input, clazz);
             T result = clazz.cast(obj);
             logger.trace("Deserialized object: {}", result);
             return result;
-        } catch (IOException e) {
+        } catch (KryoException e) {
             logger.error("Deserialization failed for type: {}, bytes length: {}", clazz.getName(), bytes.length, e);
             throw new SerializerException("Deserialization failed", e);
+        } finally {
+            if (strings != null) {
+                TableStrings.unbind(pooled.kryo);
+            }
+            kryoPool.free(pooled);
+            input.setBuffer(EMPTY_BUFFER);
+            inputPool.free(input);
+        }
+    }
+
+    /**
+     * Reads only the interface name, method name and parameter types of the request.
+     *
+     * <p>The arguments are decoded by a full read of the retained bytes when the request is
+     * materialized. That repeats the short header, which keeps the class names Kryo assigns
+     * while reading consistent within one read.
+     *
+     * @param bytes the serialized request
+     * @return the staged request
+     */
+    @Override
+    public StagedRequest deserializeRequest(byte[] bytes) throws SerializerException {
+        return deserializeRequest(bytes, null);
+    }
+
+    @Override
+    public StagedRequest deserializeRequest(byte[] bytes, InboundStringTable.Snapshot strings)
+            throws SerializerException {
+        PooledKryo pooled = obtainKryo();
+        Input input = inputPool.obtain();
+        try {
+            if (strings != null) {
+                TableStrings.bind(pooled.kryo, strings);
+            }
+            input.setBuffer(bytes);
+            Request header = pooled.kryo.readObject(input, Request.class, REQUEST_HEADER_SERIALIZER);
+            logger.trace("Read request header {}.{}", header.getInterfaceName(), header.getMethodName());
+            return new StagedRequest(header.getInterfaceName(), header.getMethodName(), header.getParameterTypes(),
+                    () -> deserialize(bytes, Request.class, strings));
+        } catch (KryoException e) {
+            logger.error("Request header deserialization failed, bytes length: {}", bytes.length, e);
+            throw new SerializerException("Deserialization failed", e);
+        } finally {
+            if (strings != null) {
+                TableStrings.unbind(pooled.kryo);
+            }
+            kryoPool.free(pooled);
+            input.setBuffer(EMPTY_BUFFER);
+            inputPool.free(input);
+        }
+    }
+
+    /**
+     * Registers the classes used by the given service interface when registration mode is enabled.
+     *
+     * <p>The classes of an interface are registered together or not at all.
+     *
+     * @param interfaceClass the service interface
+     * @throws SerializerException if the ID derived from the name of one of its classes is already
+     *                             taken by another class
+     */
+    @Override
+    public void registerServiceInterface(Class<?> interfaceClass) {
+        if (!config.isRegistration()) {
+            return;
+        }
+        synchronized (registeredIds) {
+            Map<Integer, Class<?>> added = new LinkedHashMap<>();
+            for (Class<?> type : ServiceTypeScanner.scan(interfaceClass)) {
+                int id = registrationId(type);
+                Class<?> existing = registeredIds.get(id);
+                if (existing == null) {
+                    existing = added.putIfAbsent(id, type);
+                }
+                if (existing != null && existing != type) {
+                    throw new SerializerException("Kryo registration ID " + id + " of " + type.getName()
+                            + " used by " + interfaceClass.getName() + " collides with " + existing.getName()
+                            + "; rename one of the classes or disable Kryo registration");
+                }
+            }
+            for (Map.Entry<Integer, Class<?>> entry : added.entrySet()) {
+                registeredIds.put(entry.getKey(), entry.getValue());
+                registrations.add(new ClassRegistration(entry.getValue(), entry.getKey()));
+            }
+            logger.debug("Registered {} classes for service interface: {}", added.size(), interfaceClass.getName());
         }
     }
 
+    @Override
+    public boolean supportsBlobReferences() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsStringTable() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsColumnarLists() {
+        return true;
+    }
+
     @Override
     public byte getTypeId() {
         return SerializeType.KRYO.getValue();
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the registration ID of a class, derived from its name only.
+     */
+    private static int registrationId(Class<?> type) {
+        return REGISTRATION_ID_OFFSET
+                + Math.floorMod(type.getName().hashCode(), REGISTRATION_ID_LIMIT - REGISTRATION_ID_OFFSET);
+    }
+
+    private Kryo newKryo() {
+        Kryo kryo = new Kryo();
+        kryo.setReferences(config.isReferences());
+        kryo.setRegistrationRequired(false);
+        kryo.addDefaultSerializer(Request.class, new RequestSerializer());
+        kryo.addDefaultSerializer(Response.class, new ResponseSerializer());
+        // a columnar list is a List, but is written as its column vectors rather than its rows
+        kryo.addDefaultSerializer(ColumnarList.class, new ColumnarListSerializer());
+        // writes exactly like Kryo's own string serializer unless a string table is bound
+        kryo.register(String.class, new TableStrings.StringSerializer());
+        ((DefaultInstantiatorStrategy) kryo.getInstantiatorStrategy())
+                .setFallbackInstantiatorStrategy(new StdInstantiatorStrategy());
+        logger.trace("Created new Kryo instance");
+        return kryo;
+    }
+
+    /**
+     * Obtains a Kryo instance from the pool, rebuilding it if registrations were added since it was created.
+     *
+     * <p>A Kryo instance that has already written a class by name keeps that implicit registration,
+     * so an outdated instance is replaced rather than patched. Registrations only happen while
+     * services are exported or referenced, so this is a startup cost.
+     */
+    private PooledKryo obtainKryo() {
+        PooledKryo pooled = kryoPool.obtain();
+        int size = registrations.size();
+        if (pooled.appliedRegistrations < size) {
+            Kryo kryo = newKryo();
+            for (int i = 0; i < size; i++) {
+                ClassRegistration registration = registrations.get(i);
+                kryo.register(registration.type, registration.id);
+            }
+            pooled.kryo = kryo;
+            pooled.appliedRegistrations = size;
+        }
+        return pooled;
+    }
+
+    private void releaseOutput(Output output) {
+        if (output.getBuffer().length > config.getMaxPooledBufferSize()) {
+            // do not keep buffers that grew for an unusually large message
+            logger.trace("Dropping grown output buffer of {} bytes", output.getBuffer().length);
+            return;
+        }
+        output.reset();
+        outputPool.free(output);
+    }
+
+    /**
+     * A pooled Kryo instance together with the number of shared registrations applied to it.
+     */
+    private static final class PooledKryo {
+        private Kryo kryo;
+        private int appliedRegistrations;
+
+        private PooledKryo(Kryo kryo) {
+            this.kryo = kryo;
+        }
+    }
+
+    /**
+     * A class registered under a stable, name-derived ID.
+     */
+    private static final class ClassRegistration {
+        private final Class<?> type;
+        private final int id;
+
+        private ClassRegistration(Class<?> type, int id) {
+            this.type = type;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.support;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import io.github.x_kill9.xrpc.core.message.Request;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kryo serializer for the {@link Request} envelope.
+ *
+ * <p>Writes the fields in a fixed order instead of using Kryo's reflective field serializer.
+ * Parameter types go through {@link Kryo#writeClass}, which writes primitive and other
+ * registered classes as a small ID, and parameters are written as {@link ScalarValues}.
+ * Array and map sizes are written as {@code length + 1}, with {@code 0} for {@code null}.
+ * Strings go through {@link TableStrings}.
+ *
+ * <p>Interface name, method name and parameter types come first, so a header-only instance
+ * can read the routing part of a request without touching its arguments.
+ *
+ * @author x-kill9
+ */
+class RequestSerializer extends Serializer<Request> {
+
+    private final boolean headerOnly;
+
+    RequestSerializer() {
+        this(false);
+    }
+
+    /**
+     * @param headerOnly whether {@link #read} stops after the parameter types
+     */
+    RequestSerializer(boolean headerOnly) {
+        this.headerOnly = headerOnly;
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output, Request request) {
+        TableStrings.write(kryo, output, request.getInterfaceName());
+        TableStrings.write(kryo, output, request.getMethodName());
+
+        Class<?>[] parameterTypes = request.getParameterTypes();
+        if (parameterTypes == null) {
+            output.writeVarInt(0, true);
+        } else {
+            output.writeVarInt(parameterTypes.length + 1, true);
+            for (Class<?> type : parameterTypes) {
+                kryo.writeClass(output, type);
+            }
+        }
+
+        Object[] parameters = request.getParameters();
+        if (parameters == null) {
+            output.writeVarInt(0, true);
+        } else {
+            output.writeVarInt(parameters.length + 1, true);
+            for (Object parameter : parameters) {
+                ScalarValues.write(kryo, output, parameter);
+            }
+        }
+
+        Map<String, String> attachments = request.getAttachments();
+        if (attachments == null) {
+            output.writeVarInt(0, true);
+        } else {
+            output.writeVarInt(attachments.size() + 1, true);
+            for (Map.Entry<String, String> entry : attachments.entrySet()) {
+                TableStrings.write(kryo, output, entry.getKey());
+                TableStrings.write(kryo, output, entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Request read(Kryo kryo, Input input, Class<? extends Request> type) {
+        Request request = new Request();
+        request.setInterfaceName(TableStrings.read(kryo, input));
+        request.setMethodName(TableStrings.read(kryo, input));
+
+        int length = input.readVarInt(true);
+        if (length > 0) {
+            Class<?>[] parameterTypes = new Class<?>[length - 1];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterTypes[i] = kryo.readClass(input).getType();
+            }
+            request.setParameterTypes(parameterTypes);
+        }
+        if (headerOnly) {
+            return request;
+        }
+
+        length = input.readVarInt(true);
+        if (length > 0) {
+            Object[] parameters = new Object[length - 1];
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = ScalarValues.read(kryo, input);
+            }
+            request.setParameters(parameters);
+        }
+
+        length = input.readVarInt(true);
+        if (length > 0) {
+            Map<String, String> attachments = new HashMap<>(Math.max(4, (length - 1) * 4 / 3 + 1));
+            for (int i = 1; i < length; i++) {
+                attachments.put(TableStrings.read(kryo, input), TableStrings.read(kryo, input));
+            }
+            request.setAttachments(attachments);
+        }
+        return request;
+    }
+}
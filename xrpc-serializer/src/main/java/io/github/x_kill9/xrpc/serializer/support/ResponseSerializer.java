@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.support;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import io.github.x_kill9.xrpc.core.message.Response;
+
+/**
+ * Kryo serializer for the {@link Response} envelope.
+ *
+ * <p>Writes status, message and the result as a {@link ScalarValues tagged value}, so scalar
+ * results need no class name or reflective field serializer.
+ *
+ * @author x-kill9
+ */
+class ResponseSerializer extends Serializer<Response> {
+
+    @Override
+    public void write(Kryo kryo, Output output, Response response) {
+        output.writeVarInt(response.getStatus(), true);
+        TableStrings.write(kryo, output, response.getMessage());
+        ScalarValues.write(kryo, output, response.getResult());
+    }
+
+    @Override
+    public Response read(Kryo kryo, Input input, Class<? extends Response> type) {
+        Response response = new Response();
+        response.setStatus(input.readVarInt(true));
+        response.setMessage(TableStrings.read(kryo, input));
+        response.setResult(ScalarValues.read(kryo, input));
+        return response;
+    }
+}
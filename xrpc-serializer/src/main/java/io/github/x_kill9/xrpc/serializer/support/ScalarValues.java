@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.support;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+/**
+ * Writes argument and result values with a one-byte type tag.
+ *
+ * <p>Primitives (boxed, as they appear in {@code Object[]} arguments), {@code String} and
+ * primitive arrays are written directly after their tag, without a class name or registration
+ * ID and without going through Kryo's serializer lookup. Any other value is tagged
+ * {@link #OBJECT} and written with {@link Kryo#writeClassAndObject}, so references between
+ * such values are still tracked.
+ *
+ * @author x-kill9
+ */
+final class ScalarValues {
+
+    static final byte NULL = 0;
+    static final byte INT = 1;
+    static final byte LONG = 2;
+    static final byte BOOLEAN = 3;
+    static final byte DOUBLE = 4;
+    static final byte FLOAT = 5;
+    static final byte SHORT = 6;
+    static final byte BYTE = 7;
+    static final byte CHAR = 8;
+    static final byte STRING = 9;
+    static final byte BYTE_ARRAY = 10;
+    static final byte INT_ARRAY = 11;
+    static final byte LONG_ARRAY = 12;
+    static final byte DOUBLE_ARRAY = 13;
+    static final byte FLOAT_ARRAY = 14;
+    static final byte BOOLEAN_ARRAY = 15;
+    static final byte SHORT_ARRAY = 16;
+    static final byte CHAR_ARRAY = 17;
+    static final byte OBJECT = 18;
+
+    private ScalarValues() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Writes a tagged value.
+     *
+     * @param kryo   the Kryo instance, used for {@link #OBJECT} values
+     * @param output the output
+     * @param value  the value, may be {@code null}
+     */
+    static void write(Kryo kryo, Output output, Object value) {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(INT);
+            output.writeVarInt((Integer) value, false);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            TableStrings.write(kryo, output, (String) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeVarLong((Long) value, false);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            output.writeByte(CHAR);
+            output.writeChar((Character) value);
+        } else if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+            writePrimitiveArray(output, value);
+        } else {
+            output.writeByte(OBJECT);
+            kryo.writeClassAndObject(output, value);
+        }
+    }
+
+    /**
+     * Reads a value written by {@link #write}.
+     *
+     * @param kryo  the Kryo instance, used for {@link #OBJECT} values
+     * @param input the input
+     * @return the value, may be {@code null}
+     */
+    static Object read(Kryo kryo, Input input) {
+        byte tag = input.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case INT:
+                return input.readVarInt(false);
+            case STRING:
+                return TableStrings.read(kryo, input);
+            case LONG:
+                return input.readVarLong(false);
+            case BOOLEAN:
+                return input.readBoolean();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case CHAR:
+                return input.readChar();
+            case BYTE_ARRAY:
+                return input.readBytes(input.readVarInt(true));
+            case INT_ARRAY:
+                return input.readInts(input.readVarInt(true));
+            case LONG_ARRAY:
+                return input.readLongs(input.readVarInt(true));
+            case DOUBLE_ARRAY:
+                return input.readDoubles(input.readVarInt(true));
+            case FLOAT_ARRAY:
+                return input.readFloats(input.readVarInt(true));
+            case BOOLEAN_ARRAY:
+                return input.readBooleans(input.readVarInt(true));
+            case SHORT_ARRAY:
+                return input.readShorts(input.readVarInt(true));
+            case CHAR_ARRAY:
+                return input.readChars(input.readVarInt(true));
+            case OBJECT:
+                return kryo.readClassAndObject(input);
+            default:
+                throw new KryoException("Unknown value tag: " + tag);
+        }
+    }
+
+    private static void writePrimitiveArray(Output output, Object array) {
+        if (array instanceof byte[]) {
+            byte[] values = (byte[]) array;
+            output.writeByte(BYTE_ARRAY);
+            output.writeVarInt(values.length, true);
+            output.writeBytes(values);
+        } else if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            output.writeByte(INT_ARRAY);
+            output.writeVarInt(values.length, true);
+            output.writeInts(values, 0, values.length);
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            output.writeByte(LONG_ARRAY);
+            output.writeVarInt(values.length, true);
+            output.writeLongs(values, 0, values.length);
+        } else if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            output.writeByte(DOUBLE_ARRAY);
+            output.writeVarInt(values.length, true);
+            output.writeDoubles(values, 0, values.length);
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            output.writeByte(FLOAT_ARRAY);
+            output.writeVarInt(values.length, true);
+            output.writeFloats(values, 0, values.length);
+        } else if (array instanceof boolean[]) {
+            boolean[] values = (boolean[]) array;
+            output.writeByte(BOOLEAN_ARRAY);
+            output.writeVarInt(values.length, true);
+            output.writeBooleans(values, 0, values.length);
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            output.writeByte(SHORT_ARRAY);
+            output.writeVarInt(values.length, true);
+            output.writeShorts(values, 0, values.length);
+        } else {
+            char[] values = (char[]) array;
+            output.writeByte(CHAR_ARRAY);
+            output.writeVarInt(values.length, true);
+            output.writeChars(values, 0, values.length);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 x-kill9. All rights reserved.
+ * Licensed under the MIT License. See LICENSE file in the project root for license information.
+ */
+package io.github.x_kill9.xrpc.serializer.support;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.util.ObjectMap;
+import io.github.x_kill9.xrpc.core.serialize.InboundStringTable;
+import io.github.x_kill9.xrpc.core.serialize.OutboundStringTable;
+
+/**
+ * Writes strings through the connection's string table bound to a Kryo instance.
+ *
+ * <p>Without a bound table strings are written exactly as Kryo writes them. With a table each
+ * string starts with an unsigned varint: {@code 0} for {@code null}, {@code 1} for a string
+ * written inline after it, and {@code slot + 2} for a string held by the table.
+ *
+ * @author x-kill9
+ */
+final class TableStrings {
+
+    private static final Object CONTEXT_KEY = TableStrings.class;
+    private static final int NULL = 0;
+    private static final int INLINE = 1;
+    private static final int SLOT_OFFSET = 2;
+
+    private TableStrings() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Binds a sending or receiving table to the Kryo instance until {@link #unbind(Kryo)}.
+     *
+     * @param kryo    the Kryo instance
+     * @param strings an {@link OutboundStringTable} or an {@link InboundStringTable.Snapshot}
+     */
+    static void bind(Kryo kryo, Object strings) {
+        context(kryo).put(CONTEXT_KEY, strings);
+    }
+
+    static void unbind(Kryo kryo) {
+        context(kryo).remove(CONTEXT_KEY);
+    }
+
+    /**
+     * Returns the context of the Kryo instance, which Kryo exposes as a raw map.
+     */
+    @SuppressWarnings("unchecked")
+    private static ObjectMap<Object, Object> context(Kryo kryo) {
+        return kryo.getContext();
+    }
+
+    static void write(Kryo kryo, Output output, String value) {
+        Object strings = context(kryo).get(CONTEXT_KEY);
+        if (!(strings instanceof OutboundStringTable)) {
+            output.writeString(value);
+        } else if (value == null) {
+            output.writeVarInt(NULL, true);
+        } else {
+            int slot = ((OutboundStringTable) strings).slotOf(value);
+            if (slot < 0) {
+                output.writeVarInt(INLINE, true);
+                output.writeString(value);
+            } else {
+                output.writeVarInt(slot + SLOT_OFFSET, true);
+            }
+        }
+    }
+
+    static String read(Kryo kryo, Input input) {
+        Object strings = context(kryo).get(CONTEXT_KEY);
+        if (!(strings instanceof InboundStringTable.Snapshot)) {
+            return input.readString();
+        }
+        int tag = input.readVarInt(true);
+        if (tag == NULL) {
+            return null;
+        }
+        if (tag == INLINE) {
+            return input.readString();
+        }
+        try {
+            return ((InboundStringTable.Snapshot) strings).get(tag - SLOT_OFFSET);
+        } catch (IllegalArgumentException e) {
+            throw new KryoException(e.getMessage());
+        }
+    }
+
+    /**
+     * Serializer for {@code String} fields, replacing Kryo's default string serializer.
+     */
+    static final class StringSerializer extends Serializer<String> {
+
+        StringSerializer() {
+            setImmutable(true);
+            setAcceptsNull(true);
+        }
+
+        @Override
+        public void write(Kryo kryo, Output output, String value) {
+            TableStrings.write(kryo, output, value);
+        }
+
+        @Override
+        public String read(Kryo kryo, Input input, Class<? extends String> type) {
+            return TableStrings.read(kryo, input);
+        }
+    }
+}